@@ -0,0 +1,31 @@
+package com.realive.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정
+ * - 경매 목록 스냅샷 재구성 등 백그라운드 갱신 작업에 사용
+ * - 기본 스케줄러는 스레드 1개라 검색 색인/함께 구매 모델 재구성 같은 긴 작업이 도는 동안
+ *   1초 주기 경매 목록 갱신, 5초 주기 조회수 반영이 밀리므로 스레드 풀 크기를 지정
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(2, poolSize));
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setErrorHandler(e -> log.error("주기 작업 실패", e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
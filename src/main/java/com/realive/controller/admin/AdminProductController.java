@@ -5,12 +5,16 @@ import com.realive.dto.auction.AdminPurchaseRequestDTO;
 import com.realive.dto.auction.AdminProductDTO;
 import com.realive.dto.common.ApiResponse;
 import com.realive.dto.page.PageResponseDTO;
+import com.realive.dto.product.ProductDetailCacheStatsDTO;
 import com.realive.dto.product.ProductListDTO;
 import com.realive.dto.admin.ProductDetailDTO;
 import com.realive.dto.product.ProductSearchCondition;
+import com.realive.dto.product.ProductViewCounterStatsDTO;
 import com.realive.security.AdminPrincipal;
 import com.realive.service.product.ProductService;
 import com.realive.service.admin.product.AdminProductService;
+import com.realive.serviceimpl.product.ProductDetailCache;
+import com.realive.serviceimpl.product.ProductViewCounter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -29,6 +33,8 @@ public class AdminProductController {
 
     private final ProductService productService;
     private final AdminProductService adminProductService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductViewCounter productViewCounter;
     private static final Logger log = LoggerFactory.getLogger(AdminProductController.class);
 
     /**
@@ -94,6 +100,18 @@ public class AdminProductController {
         );
     }
 
+    // 상품 상세 캐시 통계 (적중/미적중, 제거, 무효화 횟수)
+    @GetMapping("/products/detail-cache/stats")
+    public ResponseEntity<ApiResponse<ProductDetailCacheStatsDTO>> getProductDetailCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(productDetailCache.getStats()));
+    }
+
+    // 상품 조회수 카운터 통계 (미반영 조회수, 반영 지연 시간, 마지막 반영 결과)
+    @GetMapping("/products/view-counter/stats")
+    public ResponseEntity<ApiResponse<ProductViewCounterStatsDTO>> getProductViewCounterStats() {
+        return ResponseEntity.ok(ApiResponse.success(productViewCounter.getStats()));
+    }
+
     // 상품 비활성화(삭제 대체)
     @DeleteMapping("/{productId}")
     public ResponseEntity<Void> deactivateProduct(@PathVariable Long productId) {
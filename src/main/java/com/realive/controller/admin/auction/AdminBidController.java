@@ -12,10 +12,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.realive.dto.bid.BidRateLimitStatsDTO;
 import com.realive.dto.bid.BidResponseDTO;
 import com.realive.dto.common.ApiResponse;
 import com.realive.security.AdminPrincipal;
 import com.realive.service.admin.auction.BidService;
+import com.realive.serviceimpl.admin.auction.BidRateLimiter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminBidController {
 
     private final BidService bidService;
+    private final BidRateLimiter bidRateLimiter;
 
     @GetMapping("/auction/{auctionId}")
     public ResponseEntity<ApiResponse<Page<BidResponseDTO>>> getBidsForAuction(
@@ -61,4 +64,12 @@ public class AdminBidController {
                     .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "입찰 내역 조회 중 오류가 발생했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/rate-limit/stats")
+    public ResponseEntity<ApiResponse<BidRateLimitStatsDTO>> getRateLimitStats(
+            @AuthenticationPrincipal AdminPrincipal adminPrincipal) {
+        log.info("GET /api/admin/bids/rate-limit/stats - 관리자가 입찰 요청 제한 통계 조회. AdminId: {}",
+                adminPrincipal.getAdmin().getId());
+        return ResponseEntity.ok(ApiResponse.success(bidRateLimiter.getStats()));
+    }
+}
@@ -7,6 +7,7 @@ import com.realive.dto.common.ApiResponse;
 import com.realive.dto.customer.member.MemberLoginDTO;
 import com.realive.repository.auction.AuctionRepository;
 import com.realive.service.admin.auction.BidService;
+import com.realive.serviceimpl.admin.auction.BidRateLimiter;
 import com.realive.util.TickSizeCalculator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -33,6 +35,7 @@ public class CustomerBidController {
     private final BidService bidService;
     private final AuctionRepository auctionRepository;
     private final TickSizeCalculator tickSizeCalculator;
+    private final BidRateLimiter bidRateLimiter;
 
     private Long getAuthenticatedCustomerId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -66,6 +69,18 @@ public class CustomerBidController {
                 return ResponseEntity.badRequest()
                     .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), "입찰 가격은 필수입니다."));
             }
+
+            // 트랜잭션/락 획득 전에 요청 빈도 제한
+            BidRateLimiter.Result limitResult = bidRateLimiter.tryAcquire(customerId.intValue(), requestDto.getAuctionId());
+            if (limitResult != BidRateLimiter.Result.ALLOWED) {
+                String message = (limitResult == BidRateLimiter.Result.CUSTOMER_THROTTLED)
+                        ? "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+                        : "해당 경매에 입찰이 몰리고 있습니다. 잠시 후 다시 시도해주세요.";
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(bidRateLimiter.retryAfterSeconds(
+                                limitResult, customerId.intValue(), requestDto.getAuctionId())))
+                        .body(ApiResponse.error(HttpStatus.TOO_MANY_REQUESTS.value(), message));
+            }
             
             BidResponseDTO placedBid = bidService.placeBid(
                 requestDto.getAuctionId(),
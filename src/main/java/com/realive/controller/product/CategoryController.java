@@ -1,12 +1,13 @@
 package com.realive.controller.product;
 
-import com.realive.domain.product.Category;
-
 import com.realive.dto.sellercategory.SellerCategoryDTO;
-import com.realive.repository.product.CategoryRepository;
+import com.realive.repository.product.CategoryHierarchyCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,17 +16,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryController {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryHierarchyCache categoryHierarchyCache;
 
     // 전체 카테고리 목록 조회 (parent 포함해서 내려줌 → 계층형 드롭다운 구성 가능)
+    // 메모리 스냅샷에서 응답하며, If-None-Match가 현재 ETag와 같으면 본문 없이 304 반환
     @GetMapping
-    public ResponseEntity<List<SellerCategoryDTO>> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-
-        List<SellerCategoryDTO> dtoList = categories.stream()
-                .map(SellerCategoryDTO::fromEntity)
-                .toList();
-
-        return ResponseEntity.ok(dtoList);
+    public ResponseEntity<List<SellerCategoryDTO>> getAllCategories(WebRequest request) {
+        CategoryHierarchyCache.CategoryTree tree = categoryHierarchyCache.getTree();
+
+        if (request.checkNotModified(tree.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tree.getETag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(tree.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(tree.getCategories());
     }
 }
@@ -1,5 +1,6 @@
 package com.realive.controller.product;
 
+import com.realive.dto.product.ProductImportResultDTO;
 import com.realive.dto.product.ProductRequestDTO;
 import com.realive.dto.product.ProductResponseDTO;
 import com.realive.dto.product.ProductSearchCondition;
@@ -7,6 +8,7 @@ import com.realive.domain.seller.Seller;
 import com.realive.dto.page.PageResponseDTO;
 
 import com.realive.dto.product.ProductListDTO;
+import com.realive.service.product.ProductImportService;
 import com.realive.service.product.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,16 +16,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/seller/products")
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
     private static final Logger log = LoggerFactory.getLogger(ProductController.class);
 
     // 🔽 상품 등록(new)
@@ -36,6 +43,20 @@ public class ProductController {
         return ResponseEntity.ok(id);
     }
 
+    // 🔽 상품 CSV 대량 등록 (행별 오류는 응답에 포함)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductImportResultDTO> importProducts(@RequestParam("file") MultipartFile file) throws IOException {
+        Seller seller = (Seller) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long sellerId = seller.getId();
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 존재하지 않습니다.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(productImportService.importCsv(in, sellerId));
+        }
+    }
+
     // 🔽 상품 수정
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Void> updateProduct(@PathVariable Long id, @ModelAttribute ProductRequestDTO dto) {
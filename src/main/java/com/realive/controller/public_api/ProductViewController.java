@@ -13,10 +13,15 @@ import org.springframework.web.bind.annotation.RestController;
 import com.realive.dto.customer.customerqna.CustomerQnaListDTO;
 import com.realive.dto.page.PageRequestDTO;
 import com.realive.dto.page.PageResponseDTO;
+import com.realive.dto.product.AutocompleteSuggestionDTO;
+import com.realive.dto.product.CustomerProductSearchCondition;
+import com.realive.dto.product.DimensionSearchCondition;
 import com.realive.dto.product.ProductListDTO;
 import com.realive.dto.product.ProductResponseDTO;
+import com.realive.repository.product.search.AutocompleteIndex;
 import com.realive.service.customer.CustomerQnaService;
 import com.realive.service.customer.ProductViewService;
+import com.realive.service.product.ProductService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -31,8 +36,11 @@ public class ProductViewController {
 
     private final ProductViewService productViewService;
     private final CustomerQnaService customerQnaService;
+    private final ProductService productService;
+    private final AutocompleteIndex autocompleteIndex;
 
     // 상품 목록 조회 with 검색
+    // - 필터: categoryId, sellerId, minPrice/maxPrice, priceBand (facets=true 응답의 패싯 값을 그대로 사용)
     @GetMapping
     public ResponseEntity<PageResponseDTO<ProductListDTO>> list(
             @ModelAttribute PageRequestDTO pageRequestDTO,
@@ -44,6 +52,44 @@ public class ProductViewController {
         return ResponseEntity.ok(result);
     }
 
+    // 상품 카탈로그 조회 (가격순/최신순 정렬, 필터)
+    // - slice=true 또는 cursor 지정 시 count 쿼리 없이 조회, 응답의 nextCursor로 다음 페이지 요청 (키셋 페이지네이션)
+    @GetMapping("/catalog")
+    public ResponseEntity<PageResponseDTO<ProductListDTO>> catalog(
+            @ModelAttribute CustomerProductSearchCondition condition) {
+
+        PageResponseDTO<ProductListDTO> result = productService.getVisibleProducts(condition);
+        return ResponseEntity.ok(result);
+    }
+
+    // 검색어 자동완성 (상품명/카테고리명/판매자명 접두어, 인기순)
+    // - 메모리 색인만 조회하므로 트랜잭션/DB 연결 없이 처리 (서비스 계층을 거치지 않음)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionDTO>> autocomplete(
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(autocompleteIndex.suggest(q, Math.min(limit, 20)));
+    }
+
+    // 가구 크기 검색 (예: ?width=200&depth=90&height=80&mode=fit&categoryId=3)
+    // - mode=fit: 지정 크기 안에 들어가는 상품, mode=nearest: 비슷한 크기의 상품
+    @GetMapping("/dimensions")
+    public ResponseEntity<List<ProductListDTO>> searchByDimensions(
+            @ModelAttribute DimensionSearchCondition condition) {
+
+        return ResponseEntity.ok(productService.searchByDimensions(condition));
+    }
+
+    // 조회수 많은 상품 조회 (조회수는 몇 초 단위로 반영)
+    @GetMapping("/popular")
+    public ResponseEntity<List<ProductListDTO>> getMostViewed(
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+
+        List<ProductListDTO> popular = productService.getMostViewedProducts(Math.min(limit, 50));
+        return ResponseEntity.ok(popular);
+    }
+
     // 상품 상세 조회
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponseDTO> getProductDetail(@PathVariable("id") Long id) {
@@ -52,6 +98,16 @@ public class ProductViewController {
         return ResponseEntity.ok(productDetail);
     }
 
+    // 함께 구매한 상품 조회 (주기적으로 계산된 모델에서 조회)
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<ProductListDTO>> getFrequentlyBoughtTogether(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+
+        List<ProductListDTO> related = productService.getFrequentlyBoughtTogether(id, Math.min(limit, 50));
+        return ResponseEntity.ok(related);
+    }
+
     // 상품 Q&A 목록 조회
     @GetMapping("/qna/{productId}")
     public ResponseEntity<List<CustomerQnaListDTO>> getProductQnaList(@PathVariable("productId") Long productId){
@@ -0,0 +1,179 @@
+package com.realive.controller.public_api;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.realive.service.common.FileUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+
+// [공개] 업로드 파일(/uploads/...) 제공 컨트롤러
+// - 서블릿 컨테이너(Tomcat)가 sendfile을 지원하면 파일 전송을 컨테이너에 위임 (커널 zero-copy)
+// - 지원하지 않으면 FileChannel.transferTo로 응답 스트림에 직접 전송
+// - Range 요청(영상 탐색), 강한 ETag/Last-Modified 조건부 요청(304), 장기 캐시 헤더 지원
+// - 업로드 파일명은 UUID를 포함하여 같은 경로의 내용이 바뀌지 않으므로 immutable 캐시 사용
+// - 공개 허용 경로(uploads.public-prefixes: 상품 blob, 상품/리뷰 이미지)만 제공하고 그 외(판매자 사업자등록증, 통장사본 등)는 404
+
+@RestController
+@Log4j2
+public class UploadFileController {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileUploadService fileUploadService;
+    private final long cacheMaxAgeSeconds;
+    // 공개 허용 디렉토리 (정규화된 실제 경로, 경로 구성요소 단위로 비교)
+    private final List<Path> publicRoots;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public UploadFileController(FileUploadService fileUploadService,
+                                @Value("${uploads.cache-max-age-seconds:31536000}") long cacheMaxAgeSeconds,
+                                @Value("${uploads.public-prefixes:blobs/,product/,review/}") List<String> publicPrefixes) {
+        this.fileUploadService = fileUploadService;
+        this.cacheMaxAgeSeconds = cacheMaxAgeSeconds;
+        this.publicRoots = publicPrefixes.stream()
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .map(prefix -> fileUploadService.toLocalPath("/uploads/" + prefix))
+                .collect(Collectors.toList());
+    }
+
+    // GET 매핑은 HEAD 요청도 처리 (본문 없이 헤더만)
+    @GetMapping("/uploads/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        Path file;
+        try {
+            file = fileUploadService.toLocalPath(urlPathHelper.getPathWithinApplication(request));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        // 공개 허용 경로가 아니면 파일 존재 여부와 관계없이 404 (정규화 후 비교하므로 ../ 우회 불가)
+        if (!isPublic(file) || !Files.isRegularFile(file)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        // 강한 ETag: 내용 주소 저장 파일은 내용 해시, 그 외에는 파일 크기 + 수정 시각
+        // (같은 경로의 내용이 바뀌면 둘 중 하나가 바뀜)
+        String contentHash = fileUploadService.contentHash(urlPathHelper.getPathWithinApplication(request));
+        String eTag = contentHash != null
+                ? "\"" + contentHash + "\""
+                : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + cacheMaxAgeSeconds + ", immutable");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match / If-Modified-Since → 304 (ETag, Last-Modified 헤더도 함께 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) {
+            return;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(contentType.toString());
+
+        // Range 요청: 단일 구간만 206으로 응답 (여러 구간이면 전체 전송으로 대체)
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && rangeApplies(request, eTag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        // 컨테이너 sendfile 위임 (응답 본문을 쓰지 않고 요청 속성으로 파일/구간 전달)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            // 영상 탐색 중 클라이언트가 연결을 끊는 경우가 잦으므로 경고 없이 종료
+            log.debug("업로드 파일 전송 중단: {}", file, e);
+        }
+    }
+
+    private boolean isPublic(Path file) {
+        return publicRoots.stream().anyMatch(root -> !file.equals(root) && file.startsWith(root));
+    }
+
+    // If-Range가 있으면 현재 ETag(또는 Last-Modified)와 일치할 때만 Range 적용
+    private static boolean rangeApplies(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            // 날짜 검증자는 초 단위까지 정확히 일치해야 함
+            return request.getDateHeader(HttpHeaders.IF_RANGE) == lastModified / 1000 * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -39,6 +39,13 @@ public class Auction extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private AuctionStatus status = AuctionStatus.PROCEEDING;
 
+    // 낙관적 락 버전 (조건부 UPDATE 입찰 경로에서도 함께 증가)
+    // 컬럼 추가 이전에 생성된 경매는 AuctionVersionBackfill이 기동 시 0으로 채움
+    @Version
+    @Builder.Default
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version = 0L;
+
     @PrePersist
     protected void onCreate() {
         status = AuctionStatus.PROCEEDING;
@@ -14,6 +14,7 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Table(name = "categories")
+@EntityListeners(CategoryEntityListener.class)
 public class Category {
 
     @Id
@@ -0,0 +1,27 @@
+package com.realive.domain.product;
+
+import com.realive.event.CategoryChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 엔티티 변경 감지
+ * - 카테고리는 관리 화면/SQL 등 여러 경로로 변경될 수 있어 서비스 계층 대신 JPA 콜백에서 이벤트 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+    }
+}
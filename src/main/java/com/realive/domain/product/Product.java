@@ -15,7 +15,12 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "products")
+// 구매자 목록 키셋 페이지네이션용 복합 인덱스: (판매 여부, 정렬 키, ID)
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_active_price_id", columnList = "is_active, price, id"),
+        @Index(name = "idx_products_active_created_at_id", columnList = "is_active, created_at, id")
+})
+@EntityListeners(ProductEntityListener.class)
 public class Product extends BaseTimeEntity {
 
     @Id
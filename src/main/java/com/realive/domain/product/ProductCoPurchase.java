@@ -0,0 +1,37 @@
+package com.realive.domain.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 함께 구매한 상품 모델 스냅샷
+ * - CoPurchaseModelBuilder가 주문 내역으로 계산한 상품별 상위 K개 연관 상품을 통째로 교체 저장
+ * - 애플리케이션 시작 시 이 스냅샷을 읽어 메모리 색인을 구성 (주문 내역 전체 재계산 없이)
+ * - 상품 삭제와 무관하게 교체되어야 하므로 상품 FK 없이 ID만 보관
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "product_co_purchase", indexes = {
+        @Index(name = "idx_product_co_purchase_product", columnList = "product_id, score")
+})
+public class ProductCoPurchase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 기준 상품 ID
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // 함께 구매한 상품 ID
+    @Column(name = "related_product_id", nullable = false)
+    private Long relatedProductId;
+
+    // 두 상품을 함께 포함한 주문 수
+    @Column(nullable = false)
+    private int score;
+}
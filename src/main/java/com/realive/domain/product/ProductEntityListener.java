@@ -0,0 +1,27 @@
+package com.realive.domain.product;
+
+import com.realive.event.ProductChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 엔티티 변경 감지
+ * - 재고/판매 여부는 주문·배송·관리자 매입 등 여러 서비스에서 변경되므로 JPA 콜백에서 일괄적으로 이벤트 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+    }
+}
@@ -5,6 +5,9 @@ import com.realive.domain.common.enums.MediaType;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * 상품 이미지 (여러 장 가능)
  */
@@ -15,6 +18,7 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Table(name = "product_images")
+@EntityListeners(ProductImageEntityListener.class)
 public class ProductImage {
 
     @Id
@@ -40,6 +44,18 @@ public class ProductImage {
     @Column(name = "media_type", nullable = false, length = 20)
     private MediaType mediaType; 
 
+    // 목록용 축소 이미지 경로 (이미지 처리 완료 전이거나 영상이면 null → 원본 url 사용)
+    @Column(name = "list_url")
+    private String listUrl;
+
+    // 폭(px)별 축소 이미지 경로 (이미지 처리 파이프라인이 비동기로 채움)
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "product_image_variants", joinColumns = @JoinColumn(name = "product_image_id"))
+    @MapKeyColumn(name = "width")
+    @Column(name = "url", nullable = false)
+    private Map<Integer, String> variantUrls = new HashMap<>();
+
    
     
     }
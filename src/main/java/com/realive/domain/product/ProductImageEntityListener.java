@@ -0,0 +1,39 @@
+package com.realive.domain.product;
+
+import com.realive.domain.common.enums.MediaType;
+import com.realive.event.ProductChangedEvent;
+import com.realive.event.ProductImageUploadedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 이미지 엔티티 변경 감지
+ * - 썸네일 추가/교체/삭제 시 해당 상품의 변경 이벤트를 발행하여 썸네일·상세 캐시를 무효화
+ * - 새 이미지(원본) 저장 시 축소 이미지 생성 이벤트 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImageEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(ProductImage productImage) {
+        onChange(productImage);
+        if (productImage.getMediaType() == MediaType.IMAGE) {
+            eventPublisher.publishEvent(new ProductImageUploadedEvent(productImage.getId()));
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(ProductImage productImage) {
+        if (productImage.getProduct() != null) {
+            eventPublisher.publishEvent(new ProductChangedEvent(productImage.getProduct().getId()));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.realive.domain.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 상세 조회수 (누적)
+ * - 조회마다 갱신하지 않고 ProductViewCounter가 메모리에 모은 조회수를 주기적으로 더해 저장 (UPSERT)
+ * - products 테이블과 분리하여 조회수 갱신이 상품 행 잠금/캐시 무효화를 일으키지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "product_view_counts", indexes = {
+        @Index(name = "idx_product_view_counts_view_count", columnList = "view_count")
+})
+public class ProductViewCount {
+
+    // 상품 ID (상품 삭제와 무관하게 유지되도록 FK 없이 보관)
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // 누적 조회수
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    // 마지막 반영 시각
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.realive.dto.bid;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 입찰 요청 제한(토큰 버킷) 통계 DTO
+@Getter
+@Builder
+public class BidRateLimitStatsDTO {
+    private final boolean enabled;
+    private final long allowedCount;             // 통과한 입찰 요청 수
+    private final long customerThrottledCount;   // 고객별 한도 초과로 거절된 요청 수
+    private final long auctionThrottledCount;    // 경매별 한도 초과로 거절된 요청 수
+    private final int trackedCustomers;          // 현재 관리 중인 고객 버킷 수
+    private final int trackedAuctions;           // 현재 관리 중인 경매 버킷 수
+}
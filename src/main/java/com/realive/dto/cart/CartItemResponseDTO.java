@@ -2,6 +2,7 @@ package com.realive.dto.cart;
 
 import com.realive.domain.customer.CartItem;
 // import com.realive.domain.product.Product; // 더 이상 Product 엔티티를 직접 받지 않음
+import com.realive.dto.product.DeliveryPolicyDTO;
 import com.realive.dto.product.ProductResponseDTO; // ProductResponseDto 임포트
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,10 +24,13 @@ public class CartItemResponseDTO {
     private int productPrice;
     private String productImage; // 썸네일 이미지 URL
     private int totalPrice; // quantity * productPrice
+    private String deliveryType; // 배송 유형 (배송정책이 없으면 null)
+    private int deliveryCost; // 배송비 (배송정책이 없으면 0)
     private LocalDateTime cartCreatedAt;
 
     // ProductResponseDto를 받아서 DTO를 생성하는 정적 팩토리 메서드
     public static CartItemResponseDTO from(CartItem cartItem, ProductResponseDTO productDetailDto) {
+        DeliveryPolicyDTO deliveryPolicy = productDetailDto != null ? productDetailDto.getDeliveryPolicy() : null;
         return CartItemResponseDTO.builder()
                 .cartItemId(cartItem.getId())
                 .productId(productDetailDto != null ? productDetailDto.getId() : null)
@@ -35,6 +39,8 @@ public class CartItemResponseDTO {
                 .productPrice(productDetailDto != null ? productDetailDto.getPrice() : 0)
                 .productImage(productDetailDto != null ? productDetailDto.getImageThumbnailUrl() : null) // ProductResponseDto에서 썸네일 URL 가져옴
                 .totalPrice(productDetailDto != null ? productDetailDto.getPrice() * cartItem.getQuantity() : 0)
+                .deliveryType(deliveryPolicy != null ? deliveryPolicy.getType().name() : null)
+                .deliveryCost(deliveryPolicy != null ? deliveryPolicy.getCost() : 0)
                 .cartCreatedAt(cartItem.getCreatedAt())
                 .build();
     }
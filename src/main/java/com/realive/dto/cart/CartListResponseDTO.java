@@ -16,17 +16,20 @@ public class CartListResponseDTO {
     private List<CartItemResponseDTO> items; // 장바구니 항목 리스트
     private int totalItems; // 총 상품 수 (장바구니 내 항목의 총 개수)
     private int totalCartPrice; // 장바구니 총액 (모든 상품 가격 합계)
+    private int totalDeliveryCost; // 배송비 합계 (상품별 배송비 합계, 총액에는 포함하지 않음)
 
     // DTO 변환 시 총액 및 총 상품 수 계산
     public static CartListResponseDTO from(List<CartItemResponseDTO> items) {
         int totalItems = items.stream().mapToInt(CartItemResponseDTO::getQuantity).sum();
         //totalPrice 참조로 가져옴
         int totalCartPrice = items.stream().mapToInt(CartItemResponseDTO::getTotalPrice).sum();
+        int totalDeliveryCost = items.stream().mapToInt(CartItemResponseDTO::getDeliveryCost).sum();
 
         return CartListResponseDTO.builder()
                 .items(items)
                 .totalItems(totalItems)
                 .totalCartPrice(totalCartPrice)
+                .totalDeliveryCost(totalDeliveryCost)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.realive.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * FacetCountDTO
+ * - 검색 결과 패싯(필터 값)별 상품 개수
+ * - value는 상품 목록 조회(/api/public/items) 필터에 그대로 사용할 수 있는 값
+ *   (category → categoryId, seller → sellerId, priceBand → priceBand "최소-최대")
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FacetCountDTO {
+
+    private String value;           // 필터 값
+    private String label;           // 표시 이름 (카테고리명, 판매자명, 가격대)
+    private long count;             // 해당 값의 상품 개수
+}
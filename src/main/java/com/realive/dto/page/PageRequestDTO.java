@@ -26,6 +26,13 @@ public class PageRequestDTO {
     private String direction = "DESC";  // 정렬 방향 (ASC 또는 DESC, 기본값: DESC)
     private String keyword;         // 검색 키워드 (선택적, null일 수 있음)
     private String type;             
+    private boolean slice;          // 슬라이스 모드 (true면 전체 개수 count 쿼리 없이 다음 페이지 존재 여부만 계산)
+    private String cursor;          // 키셋 페이지네이션 커서 (이전 응답의 nextCursor, 있으면 page 대신 사용)
+    private boolean facets;         // 패싯 개수(카테고리/가격대/판매자) 포함 여부
+    private Long sellerId;          // 판매자 필터 (패싯 seller 값)
+    private Integer minPrice;       // 최소 가격 필터
+    private Integer maxPrice;       // 최대 가격 필터
+    private String priceBand;       // 가격대 필터 (패싯 priceBand 값 "최소-최대" 그대로, minPrice/maxPrice가 있으면 그 값 우선)
 
     /**
      * 0-based 페이지 인덱스를 반환
@@ -46,6 +53,52 @@ public class PageRequestDTO {
     }
 
 
+    /**
+     * 키셋 커서 사용 여부 (커서가 있으면 슬라이스 모드로 처리)
+     */
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    /**
+     * count 쿼리 없이 조회할지 여부 (슬라이스 모드 또는 커서 요청)
+     */
+    public boolean isCountFree() {
+        return slice || hasCursor();
+    }
+
+    /**
+     * 최소 가격 조건 (minPrice, 없으면 priceBand의 최소값)
+     */
+    public Integer resolveMinPrice() {
+        return minPrice != null ? minPrice : parsePriceBand()[0];
+    }
+
+    /**
+     * 최대 가격 조건 (maxPrice, 없으면 priceBand의 최대값, "최소-"처럼 최대값이 없으면 null)
+     */
+    public Integer resolveMaxPrice() {
+        return maxPrice != null ? maxPrice : parsePriceBand()[1];
+    }
+
+    // "최소-최대" 또는 "최소-" 형식의 가격대 → [최소, 최대]
+    private Integer[] parsePriceBand() {
+        if (priceBand == null || priceBand.isBlank()) {
+            return new Integer[]{null, null};
+        }
+        String[] bounds = priceBand.trim().split("-", -1);
+        try {
+            if (bounds.length != 2 || bounds[0].isBlank()) {
+                throw new NumberFormatException(priceBand);
+            }
+            return new Integer[]{
+                    Integer.valueOf(bounds[0].trim()),
+                    bounds[1].isBlank() ? null : Integer.valueOf(bounds[1].trim())};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("가격대 형식이 올바르지 않습니다. (예: 100000-299999) priceBand=" + priceBand);
+        }
+    }
+
     // [Customer] offset, limit
 
     public int getOffset() {
@@ -2,6 +2,7 @@ package com.realive.dto.page;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +26,12 @@ public class PageResponseDTO<T> {
     private int end;                // 이지네이션의 끝 번호 (ex: 10, 20, 30...)
     private boolean prev;           // 이전 페이지 그룹 존재 여부
     private boolean next;           // 다음 페이지 그룹 존재 여부
+    private boolean hasNext;        // 다음 페이지 존재 여부
+    private boolean slice;          // 슬라이스 모드 여부 (전체 개수를 세지 않은 응답)
+    private boolean totalExact;     // total이 정확한 전체 개수인지 여부 (슬라이스 모드에서는 근사값)
+    private String nextCursor;      // 다음 페이지 키셋 커서 (슬라이스 모드, 다음 페이지가 없거나 커서를 지원하지 않으면 null)
     private List<T> dtoList;        // 현재 페이지에 해당하는 데이터 목록
+    private Map<String, List<FacetCountDTO>> facets;   // 패싯별 개수 (요청한 경우에만, 없으면 null)
 
     /**
      * 생성자 (Builder 사용)
@@ -34,13 +40,16 @@ public class PageResponseDTO<T> {
      * @param pageRequestDTO 페이징 요청 정보
      * @param dtoList        현재 페이지의 데이터 목록
      * @param total          전체 데이터 개수
+     * @param facets         패싯별 개수 (선택)
      */
     @Builder(builderMethodName = "withAll")
-    private PageResponseDTO(PageRequestDTO pageRequestDTO, List<T> dtoList, int total) {
+    private PageResponseDTO(PageRequestDTO pageRequestDTO, List<T> dtoList, int total,
+                            Map<String, List<FacetCountDTO>> facets) {
         this.page = pageRequestDTO.getPage();
         this.size = pageRequestDTO.getSize();
         this.total = total;
         this.dtoList = (dtoList != null) ? dtoList : new ArrayList<>();
+        this.facets = facets;
 
         // 한 블록당 10개 페이지를 보여줄 때의 끝 페이지 계산
         this.end = (int) (Math.ceil(this.page / 10.0)) * 10;
@@ -57,5 +66,41 @@ public class PageResponseDTO<T> {
         // 이전/다음 페이지 그룹 존재 여부
         this.prev = this.start > 1;
         this.next = end < last;
+        this.hasNext = this.page < last;
+        this.totalExact = true;
+    }
+
+    /**
+     * 슬라이스 모드 생성자 (Builder 사용)
+     * - 전체 개수 없이 size + 1개를 조회한 결과로 다음 페이지 존재 여부만 판단 (무한 스크롤용)
+     * - 페이지 그룹(start/end)은 현재 페이지만 가리키며, prev/next는 이전/다음 페이지 존재 여부
+     *
+     * @param pageRequestDTO   페이징 요청 정보
+     * @param dtoList          현재 페이지의 데이터 목록 (size개 이하)
+     * @param hasNext          다음 페이지 존재 여부
+     * @param approximateTotal 캐시된 대략적인 전체 개수 (없으면 null → 지금까지 확인된 최소 개수로 대체)
+     * @param nextCursor       다음 페이지 키셋 커서 (없으면 null)
+     * @param facets           패싯별 개수 (선택)
+     */
+    @Builder(builderMethodName = "withSlice", builderClassName = "SliceBuilder")
+    private PageResponseDTO(PageRequestDTO pageRequestDTO, List<T> dtoList, boolean hasNext, Long approximateTotal,
+                            String nextCursor, Map<String, List<FacetCountDTO>> facets) {
+        this.page = pageRequestDTO.getPage();
+        this.size = pageRequestDTO.getSize();
+        this.dtoList = (dtoList != null) ? dtoList : new ArrayList<>();
+        this.facets = facets;
+        this.slice = true;
+        this.totalExact = false;
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext ? nextCursor : null;
+
+        // 확인된 최소 개수: 이전 페이지들 + 현재 페이지 (+ 다음 페이지가 있으면 최소 1개)
+        int seen = pageRequestDTO.getOffset() + this.dtoList.size() + (hasNext ? 1 : 0);
+        this.total = (approximateTotal != null) ? (int) Math.max(approximateTotal, seen) : seen;
+
+        this.start = this.page;
+        this.end = this.page;
+        this.prev = this.page > 1;
+        this.next = hasNext;
     }
 }
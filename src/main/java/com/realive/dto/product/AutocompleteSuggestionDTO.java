@@ -0,0 +1,13 @@
+package com.realive.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색어 자동완성 항목 DTO
+@Getter
+@AllArgsConstructor
+public class AutocompleteSuggestionDTO {
+    private final String type;     // PRODUCT, CATEGORY, SELLER
+    private final Long id;         // 상품/카테고리/판매자 ID
+    private final String text;     // 표시 이름
+}
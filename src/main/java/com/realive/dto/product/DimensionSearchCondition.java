@@ -0,0 +1,23 @@
+package com.realive.dto.product;
+
+import lombok.Data;
+
+/**
+ * 가구 크기 검색 조건 (cm)
+ * - mode=fit: 세 치수가 모두 지정 크기 이하인 상품 (지정 크기와 가까운 순)
+ * - mode=nearest: 지정 크기와 비슷한 상품 (거리 가까운 순)
+ */
+@Data
+public class DimensionSearchCondition {
+
+    private Integer width;           // 가로
+    private Integer depth;           // 깊이
+    private Integer height;          // 높이
+    private String mode = "fit";     // fit, nearest
+    private Long categoryId;         // 카테고리 (하위 카테고리 포함)
+    private int limit = 20;          // 최대 개수
+
+    public boolean isNearest() {
+        return "nearest".equalsIgnoreCase(mode);
+    }
+}
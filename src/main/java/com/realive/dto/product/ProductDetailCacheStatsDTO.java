@@ -0,0 +1,18 @@
+package com.realive.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 상품 상세 캐시 통계 DTO
+@Getter
+@Builder
+public class ProductDetailCacheStatsDTO {
+    private final int customerViewSize;        // 구매자 상세 캐시 항목 수
+    private final long customerViewHits;       // 구매자 상세 캐시 적중 수
+    private final long customerViewMisses;     // 구매자 상세 캐시 미적중 수
+    private final int sellerViewSize;          // 판매자 상세 캐시 항목 수
+    private final long sellerViewHits;         // 판매자 상세 캐시 적중 수
+    private final long sellerViewMisses;       // 판매자 상세 캐시 미적중 수
+    private final long evictions;              // 크기 초과로 제거된 항목 수
+    private final long invalidations;          // 상품 변경으로 무효화된 횟수
+}
@@ -0,0 +1,27 @@
+package com.realive.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 상품 CSV 대량 등록 결과 DTO
+@Getter
+@Builder
+public class ProductImportResultDTO {
+    private final long totalRows;              // 처리한 데이터 행 수 (헤더 제외)
+    private final long importedCount;          // 등록된 상품 수
+    private final long failedCount;            // 실패한 행 수
+    private final List<RowError> errors;       // 행별 오류 (최대 개수까지만 포함)
+    private final boolean errorsTruncated;     // 오류가 최대 개수를 넘어 일부만 포함되었는지 여부
+    private final long elapsedMillis;          // 처리 시간 (ms)
+
+    // 행별 오류
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long line;               // CSV 줄 번호 (헤더 = 1)
+        private final String message;          // 오류 내용
+    }
+}
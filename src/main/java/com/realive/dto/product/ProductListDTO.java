@@ -1,6 +1,5 @@
 package com.realive.dto.product;
 
-import com.realive.domain.product.Category;
 import com.realive.domain.product.Product;
 
 import lombok.AllArgsConstructor;
@@ -28,19 +27,17 @@ public class ProductListDTO {
     private String sellerName;
 
 
-    public static ProductListDTO from(Product product, String imageUrl) {
+    // 카테고리 경로/상위 카테고리명은 CategoryHierarchyCache에서 미리 계산된 값으로 지정 (지연 로딩 카테고리를 따라가지 않음)
+    public static ProductListDTO from(Product product, String imageUrl, String categoryFullPath, String parentCategoryName) {
         return ProductListDTO.builder()
                 .id(product.getId())
                 .name(product.getName())
                 .price(product.getPrice())
-                .status(product.getStatus().name())  // enum 처리
+                .status(product.getStatus().name())
                 .isActive(product.isActive())
                 .imageThumbnailUrl(imageUrl)
-                .categoryName(Category.getCategoryFullPath(product.getCategory()))
-                .parentCategoryName(
-                        product.getCategory() != null && product.getCategory().getParent() != null
-                                ? product.getCategory().getParent().getName()
-                                : null)
+                .categoryName(categoryFullPath)
+                .parentCategoryName(parentCategoryName)
                 .sellerName(product.getSeller().getName())
                 .build();
     }
@@ -0,0 +1,21 @@
+package com.realive.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 상품 조회수 카운터 통계 DTO
+@Getter
+@Builder
+public class ProductViewCounterStatsDTO {
+    private final long pendingViews;           // 아직 DB에 반영되지 않은 조회수
+    private final int trackedProducts;         // 메모리 카운터가 있는 상품 수
+    private final long flushLagMillis;         // 마지막 반영 성공 이후 경과 시간 (ms, 반영 전이면 시작 이후)
+    private final LocalDateTime lastFlushAt;   // 마지막 반영 성공 시각
+    private final long lastFlushMillis;        // 마지막 반영 소요 시간 (ms)
+    private final int lastFlushedProducts;     // 마지막 반영 상품 수
+    private final long lastFlushedViews;       // 마지막 반영 조회수
+    private final long totalFlushedViews;      // 누적 반영 조회수
+    private final long flushFailures;          // 누적 반영 실패 횟수
+}
@@ -0,0 +1,16 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매가 등록/수정/취소되었을 때 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 경매 목록 스냅샷을 재구성 대상으로 표시하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionChangedEvent {
+
+    private final Integer auctionId;
+
+}
@@ -0,0 +1,20 @@
+package com.realive.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 입찰이 성공적으로 처리되었을 때 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 경매 목록 스냅샷의 현재가/마감 시간을 갱신하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class BidPlacedEvent {
+
+    private final Integer auctionId;
+    private final Integer bidPrice;
+    private final LocalDateTime extendedEndTime;    // 마감 연장(soft-close)이 적용된 경우 새 마감 시간, 아니면 null
+
+}
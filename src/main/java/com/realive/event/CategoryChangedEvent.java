@@ -0,0 +1,16 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리가 등록/수정/삭제되었을 때 발행되는 이벤트
+ * - 카테고리 계층 캐시를 무효화하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+
+}
@@ -0,0 +1,16 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품이 등록/수정/비활성화되거나 재고·상품 이미지가 변경되었을 때 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 상품 검색 색인 갱신, 상품 상세/썸네일 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+}
@@ -0,0 +1,16 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 이미지(원본)가 저장되었을 때 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 이미지 처리 파이프라인이 폭별 축소 이미지를 생성하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductImageUploadedEvent {
+
+    private final Long productImageId;
+
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Repository; // Spring 빈으로 등록 (
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -95,6 +97,50 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer>, JpaS
 
     Optional<Auction> findByProductIdAndStatusNot(Integer productId, AuctionStatus status);
 
+    /**
+     * 주어진 상태가 아니면서 종료 시간이 기준 시간 이후인 경매 목록을 조회합니다.
+     * 진행 중/시작 예정 경매 목록 스냅샷(AuctionListingCache) 재구성에 사용됩니다.
+     * @param statuses 제외할 경매 상태 목록 (예: COMPLETED, CANCELLED).
+     * @param time 기준 시간.
+     * @return 조건에 맞는 Auction 엔티티 목록.
+     */
+    List<Auction> findByStatusNotInAndEndTimeAfter(Collection<AuctionStatus> statuses, LocalDateTime time);
+
+    /**
+     * 조건부 UPDATE로 경매 현재가를 갱신합니다. (조건부 UPDATE 입찰 전략에서 사용)
+     * 진행 중(status)이고 마감 전(endTime > now)이며 현재가가 maxCurrentPrice(= 입찰가 - 입찰 단위) 이하인 경우에만 갱신되고,
+     * 버전도 함께 증가시켜 엔티티 기반 수정 경로와의 충돌을 감지할 수 있도록 합니다.
+     * @param id 경매 ID.
+     * @param bidPrice 새 현재가(입찰가).
+     * @param maxCurrentPrice 갱신을 허용하는 현재가의 상한.
+     * @param status 입찰 가능한 경매 상태.
+     * @param now 기준 시간.
+     * @return 갱신된 행 수 (0이면 입찰 거절).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.currentPrice = :bidPrice, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.status = :status AND a.endTime > :now AND a.currentPrice <= :maxCurrentPrice")
+    int raiseCurrentPrice(@Param("id") Integer id,
+                          @Param("bidPrice") Integer bidPrice,
+                          @Param("maxCurrentPrice") Integer maxCurrentPrice,
+                          @Param("status") AuctionStatus status,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 마감 시간을 연장합니다. (마감 연장(soft-close) 정책, 조건부 UPDATE 입찰 전략에서 사용)
+     * 조회 시점의 마감 시간(expectedEndTime)이 그대로인 경우에만 갱신하여 연장이 중복 적용되지 않도록 합니다.
+     * @param id 경매 ID.
+     * @param expectedEndTime 조회 시점의 마감 시간.
+     * @param newEndTime 연장된 마감 시간.
+     * @return 갱신된 행 수.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.endTime = :newEndTime, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.endTime = :expectedEndTime")
+    int extendEndTime(@Param("id") Integer id,
+                      @Param("expectedEndTime") LocalDateTime expectedEndTime,
+                      @Param("newEndTime") LocalDateTime newEndTime);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")})
     @Query("SELECT a FROM Auction a WHERE a.id = :id")
@@ -1,5 +1,7 @@
 package com.realive.repository.customer.productview;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.realive.dto.product.ProductResponseDTO;
@@ -11,4 +13,7 @@ public interface ProductDetail {
     // 상품ID로 상품 상세조회 정보 가져오기
     Optional<ProductResponseDTO> findProductDetailById(Long id);
 
+    // 여러 상품ID의 상세조회 정보(썸네일, 배송정책 포함)를 상품 수와 관계없이 고정된 쿼리 수로 가져오기
+    List<ProductResponseDTO> findProductDetailsByIds(Collection<Long> ids);
+
 }
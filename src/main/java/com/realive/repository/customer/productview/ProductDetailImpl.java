@@ -1,16 +1,27 @@
 package com.realive.repository.customer.productview;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.realive.domain.common.enums.DeliveryType;
 import com.realive.domain.product.QCategory;
+import com.realive.domain.product.QDeliveryPolicy;
 import com.realive.domain.product.QProduct;
-import com.realive.domain.product.QProductImage;
 import com.realive.domain.seller.QSeller;
+import com.realive.dto.product.DeliveryPolicyDTO;
 import com.realive.dto.product.ProductResponseDTO;
+import com.realive.repository.product.ProductThumbnailResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,19 +30,42 @@ import lombok.RequiredArgsConstructor;
 @Repository
 @RequiredArgsConstructor
 public class ProductDetailImpl implements ProductDetail {
-    
+
     private final JPAQueryFactory queryFactory;
+    private final ProductThumbnailResolver productThumbnailResolver;
 
+    // 단건 상세도 일괄 조회와 같은 쿼리 사용 (썸네일은 공용 캐시의 대표 이미지, 동영상 썸네일과 섞이지 않음)
     @Override
     public Optional<ProductResponseDTO> findProductDetailById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return findProductDetailsByIds(List.of(id)).stream().findFirst();
+    }
+
+    // 상품 + 카테고리 + 판매자 + 배송정책은 한 번의 조인 쿼리로, 썸네일은 공용 캐시에서 일괄 조회 (캐시 미적중분만 쿼리 1회)
+    // 존재하지 않는 상품 ID는 결과에서 빠지며, 결과 순서는 요청한 ID 순서를 따름
+    @Override
+    public List<ProductResponseDTO> findProductDetailsByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> productIds = ids.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
 
         QProduct product = QProduct.product;
-        QProductImage productImage = QProductImage.productImage;
         QCategory category = QCategory.category;
         QSeller seller = QSeller.seller;
+        QDeliveryPolicy deliveryPolicy = QDeliveryPolicy.deliveryPolicy;
+        StringExpression status = product.status.stringValue();
 
-        ProductResponseDTO dto = queryFactory
-            .select(Projections.constructor(ProductResponseDTO.class,
+        List<Tuple> rows = queryFactory
+            .select(
                 product.id,
                 product.name,
                 product.description,
@@ -40,22 +74,61 @@ public class ProductDetailImpl implements ProductDetail {
                 product.width,
                 product.depth,
                 product.height,
-                product.status.stringValue(),
+                status,
                 product.active,
-                productImage.url,
+                category.id,
                 category.name,
-                seller.name
-            ))
+                category.parent.id,
+                seller.name,
+                deliveryPolicy.type,
+                deliveryPolicy.cost,
+                deliveryPolicy.regionLimit
+            )
             .from(product)
-            .leftJoin(productImage)
-                .on(productImage.product.eq(product)
-                    .and(productImage.isThumbnail.isTrue()))
-            .leftJoin(category).on(product.category.eq(category))
-            .leftJoin(seller).on(product.seller.eq(seller))
-            .where(product.id.eq(id))
-            .fetchOne();
-
-        return Optional.ofNullable(dto);
+            .leftJoin(product.category, category)
+            .leftJoin(product.seller, seller)
+            .leftJoin(deliveryPolicy).on(deliveryPolicy.product.eq(product))
+            .where(product.id.in(productIds))
+            .fetch();
+
+        Map<Long, String> thumbnails = productThumbnailResolver.resolveAll(productIds);
+
+        // 배송정책이 여러 건이어도 상품당 한 건만 사용
+        Map<Long, ProductResponseDTO> details = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            Long id = row.get(product.id);
+            if (details.containsKey(id)) {
+                continue;
+            }
+            DeliveryType deliveryType = row.get(deliveryPolicy.type);
+            details.put(id, ProductResponseDTO.builder()
+                .id(id)
+                .name(row.get(product.name))
+                .description(row.get(product.description))
+                .price(row.get(product.price))
+                .stock(row.get(product.stock))
+                .width(row.get(product.width))
+                .depth(row.get(product.depth))
+                .height(row.get(product.height))
+                .status(row.get(status))
+                .isActive(Boolean.TRUE.equals(row.get(product.active)))
+                .imageThumbnailUrl(thumbnails.get(id))
+                .categoryId(row.get(category.id))
+                .categoryName(row.get(category.name))
+                .parentCategoryId(row.get(category.parent.id))
+                .sellerName(row.get(seller.name))
+                .deliveryPolicy(deliveryType == null ? null : DeliveryPolicyDTO.builder()
+                    .type(deliveryType)
+                    .cost(Objects.requireNonNullElse(row.get(deliveryPolicy.cost), 0))
+                    .regionLimit(row.get(deliveryPolicy.regionLimit))
+                    .build())
+                .build());
+        }
+
+        return productIds.stream()
+            .map(details::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
-    
+
 }
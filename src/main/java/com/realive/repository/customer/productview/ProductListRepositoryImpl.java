@@ -2,6 +2,7 @@ package com.realive.repository.customer.productview;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
@@ -10,9 +11,9 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import com.realive.domain.product.QCategory;
 import com.realive.domain.product.QProduct;
-import com.realive.domain.product.QProductImage;
 import com.realive.domain.seller.QSeller;
 import com.realive.dto.product.ProductListDTO;
+import com.realive.repository.product.ProductThumbnailResolver;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -25,36 +26,37 @@ import lombok.extern.log4j.Log4j2;
 public class ProductListRepositoryImpl implements ProductListRepository{
 
     private final JPAQueryFactory queryFactory;
+    private final ProductThumbnailResolver productThumbnailResolver;
 
+    // 썸네일은 공용 캐시에서 일괄 조회 (목록용 축소 이미지 우선, 대표 이미지만)
     @Override
     public List<ProductListDTO> getWishlistedProducts(List<Long> productIds) {
         if (productIds == null || productIds.isEmpty()) {
             return Collections.emptyList();
         }
         QProduct product = QProduct.product;
-        QProductImage productImage = QProductImage.productImage;
         QSeller seller = QSeller.seller;
         QCategory category = QCategory.category;
       
-        return queryFactory
+        List<ProductListDTO> dtoList = queryFactory
             .select(Projections.bean(ProductListDTO.class,
                 product.id.as("id"),
                 product.name.as("name"),
                 product.price.as("price"),
                 product.status.stringValue().as("status"),
                 product.active.as("isActive"),
-                productImage.url.as("thumbnailUrl"),
                 seller.name.as("sellerName"),
                 category.name.as("categoryName")
             ))
             .from(product)
-            .leftJoin(productImage)
-                .on(productImage.product.eq(product)
-                    .and(productImage.isThumbnail.isTrue()))
             .leftJoin(product.seller, seller)
             .leftJoin(product.category, category)
             .where(product.id.in(productIds))
             .fetch();
+
+        Map<Long, String> thumbnails = productThumbnailResolver.resolveAll(productIds);
+        dtoList.forEach(dto -> dto.setImageThumbnailUrl(thumbnails.get(dto.getId())));
+        return dtoList;
     }
 
 }
@@ -1,18 +1,30 @@
 package com.realive.repository.customer.productview;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.realive.domain.product.QCategory;
 import com.realive.domain.product.QProduct;
-import com.realive.domain.product.QProductImage;
 import com.realive.domain.seller.QSeller;
+import com.realive.dto.page.FacetCountDTO;
 import com.realive.dto.page.PageRequestDTO;
 import com.realive.dto.page.PageResponseDTO;
 import com.realive.dto.product.ProductListDTO;
+import com.realive.repository.product.CategoryHierarchyCache;
+import com.realive.repository.product.ProductCountCache;
+import com.realive.repository.product.ProductCursor;
+import com.realive.repository.product.ProductThumbnailResolver;
+import com.realive.repository.product.search.ProductFacetIndex;
+import com.realive.repository.product.search.ProductSearchIndex;
+import com.realive.repository.product.search.ProductSearchIndex.Field;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -24,21 +36,42 @@ import lombok.extern.log4j.Log4j2;
 public class ProductSearchImpl implements ProductSearch {
 
     private final JPAQueryFactory queryFactory;
+    private final ProductSearchIndex productSearchIndex;
+    private final CategoryHierarchyCache categoryHierarchyCache;
+    private final ProductCountCache productCountCache;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductThumbnailResolver productThumbnailResolver;
 
     @Override
     public PageResponseDTO<ProductListDTO> search(PageRequestDTO requestDTO, Long categoryId) {
        
         QProduct product = QProduct.product;
-        QCategory category = QCategory.category;
-        QProductImage productImage = QProductImage.productImage;
-        QSeller seller = QSeller.seller;
         
         BooleanBuilder builder = new BooleanBuilder();
 
         String keyword = requestDTO.getKeyword();
         String[] types = requestDTO.getType() != null ? requestDTO.getType().split("") : new String[]{};
 
-        if (keyword != null && !keyword.isBlank()) {
+        // 키워드 검색: 색인이 구성되어 있으면 역색인 결과 ID로, 아니면 LIKE 조건으로 처리
+        // (색인 결과가 product.search.max-id-filter보다 많으면 LIKE 조건으로 거르고 색인 결과는 관련도 정렬에만 사용)
+        ProductSearchIndex.SearchResult candidates = null;
+        if (keyword != null && !keyword.isBlank() && productSearchIndex.isReady()) {
+            List<Field> fields = new ArrayList<>();
+            for (String type : types) {
+                switch (type) {
+                    case "T" -> fields.add(Field.NAME);
+                    case "S" -> fields.add(Field.SELLER);
+                    case "C" -> fields.add(Field.CATEGORY);
+                }
+            }
+            // 검색 대상 필드가 없으면 기존과 같이 키워드 조건 없음
+            if (!fields.isEmpty()) {
+                candidates = productSearchIndex.search(keyword, fields);
+            }
+        }
+        if (candidates != null && candidates.isIdFilterable()) {
+            builder.and(product.id.in(candidates.getProductIds()));
+        } else if (keyword != null && !keyword.isBlank() && (candidates != null || !productSearchIndex.isReady())) {
             BooleanBuilder keywordBuilder = new BooleanBuilder();
             for (String type : types) {
                 switch (type) {
@@ -51,38 +84,82 @@ public class ProductSearchImpl implements ProductSearch {
         }
 
         //하위 카테고리 포함한 필터링
+        List<Long> categoryIds = null;
         if (categoryId != null) {
-            List<Long> categoryIds = findAllCategoryIdsIncludingChildren(categoryId);
+            categoryIds = findAllCategoryIdsIncludingChildren(categoryId);
             builder.and(product.category.id.in(categoryIds));
         }
 
+        // 판매자/가격 필터 (패싯 값 seller, priceBand를 그대로 사용할 수 있음)
+        Long sellerId = requestDTO.getSellerId();
+        Integer minPrice = requestDTO.resolveMinPrice();
+        Integer maxPrice = requestDTO.resolveMaxPrice();
+        if (sellerId != null) {
+            builder.and(product.seller.id.eq(sellerId));
+        }
+        if (minPrice != null) {
+            builder.and(product.price.goe(minPrice));
+        }
+        if (maxPrice != null) {
+            builder.and(product.price.loe(maxPrice));
+        }
+
+        // 패싯 개수: 색인 기반 결과 집합(후보 ID, 카테고리/판매자/가격 필터)으로 한 번에 집계
+        // (색인 구성 전 LIKE 조건으로 처리된 키워드 검색은 결과 집합을 색인에서 알 수 없으므로 생략)
+        Map<String, List<FacetCountDTO>> facets = null;
+        boolean likeKeyword = keyword != null && !keyword.isBlank() && !productSearchIndex.isReady();
+        if (requestDTO.isFacets() && productFacetIndex.isReady() && !likeKeyword) {
+            facets = productFacetIndex.count(candidates != null ? candidates.getProductIds() : null, categoryIds,
+                    sellerId, minPrice, maxPrice);
+        }
+
         int offset = requestDTO.getOffset();
         int limit = requestDTO.getLimit();
 
-        JPQLQuery<ProductListDTO> query = queryFactory
-            .select(Projections.bean(ProductListDTO.class,
-                product.id.as("id"),
-                product.name.as("name"),
-                product.price.as("price"),
-                product.status.stringValue().as("status"), // enum일 경우 stringValue() 사용
-                product.active.as("isActive"),
-                productImage.url.as("thumbnailUrl"),
-                seller.name.as("sellerName"),
-                category.name.as("categoryName")
-            ))
-            .from(product)
-            .leftJoin(productImage)
-            .on(productImage.product.eq(product)
-                .and(productImage.isThumbnail.isTrue()))
-            .leftJoin(product.seller, seller)
-            .leftJoin(product.category, category)
-            .where(builder)
+        // 키워드 검색은 관련도 순
+        if (candidates != null) {
+            return searchByRelevance(requestDTO, builder, candidates, facets);
+        }
+
+        String countKey = ProductCountCache.key("public-search", keyword, requestDTO.getType(), categoryId,
+                sellerId, minPrice, maxPrice);
+
+        // 슬라이스 모드: count 쿼리 없이 limit + 1개를 조회하여 다음 페이지 존재 여부 판단
+        // 커서가 있으면 OFFSET 대신 마지막 상품 ID 이후부터 조회 (ID 내림차순, PK 인덱스 사용)
+        if (requestDTO.isCountFree()) {
+            BooleanBuilder sliceBuilder = new BooleanBuilder(builder);
+            if (requestDTO.hasCursor()) {
+                ProductCursor cursor = ProductCursor.decode(requestDTO.getCursor(), ProductCursor.Key.ID);
+                sliceBuilder.and(product.id.lt(cursor.getId()));
+                offset = 0;
+            }
+
+            List<ProductListDTO> rows = withThumbnails(projectionQuery(sliceBuilder)
+                .offset(offset)
+                .limit(limit + 1L)
+                .orderBy(product.id.desc())
+                .fetch());
+            boolean hasNext = rows.size() > limit;
+            List<ProductListDTO> dtoList = hasNext ? rows.subList(0, limit) : rows;
+
+            return PageResponseDTO.<ProductListDTO>withSlice()
+                    .pageRequestDTO(requestDTO)
+                    .dtoList(dtoList)
+                    .hasNext(hasNext)
+                    .approximateTotal(productCountCache.approximate(countKey))
+                    .nextCursor(dtoList.isEmpty() ? null
+                            : ProductCursor.afterId(dtoList.get(dtoList.size() - 1).getId()).encode())
+                    .facets(facets)
+                    .build();
+        }
+
+        JPQLQuery<ProductListDTO> query = projectionQuery(builder)
             .offset(offset)
             .limit(limit)
             .orderBy(product.id.desc());
 
         // 리스트 조회
-        List<ProductListDTO> dtoList = query.fetch();
+        List<ProductListDTO> dtoList = withThumbnails(query.fetch());
 
         // 전체 개수
         Long total = queryFactory
@@ -90,19 +167,81 @@ public class ProductSearchImpl implements ProductSearch {
                 .from(product)
                 .where(builder)
                 .fetchOne();
+        productCountCache.record(countKey, total);
 
         return PageResponseDTO.<ProductListDTO>withAll()
                 .pageRequestDTO(requestDTO)
                 .dtoList(dtoList)
                 .total(total.intValue())
+                .facets(facets)
+                .build();
+    }
+
+    // 관련도 순 조회: 조건을 만족하는 상품 ID 전체를 관련도 순으로 정렬한 뒤 해당 페이지만 DTO로 조회
+    // (조회한 ID 수가 곧 전체 개수이므로 슬라이스 모드에서도 별도 count 쿼리 없음)
+    private PageResponseDTO<ProductListDTO> searchByRelevance(PageRequestDTO requestDTO, BooleanBuilder builder,
+                                                              ProductSearchIndex.SearchResult candidates,
+                                                              Map<String, List<FacetCountDTO>> facets) {
+        QProduct product = QProduct.product;
+
+        List<Long> matchedIds = candidates.isEmpty() ? new ArrayList<>() : queryFactory
+                .select(product.id)
+                .from(product)
+                .where(builder)
+                .fetch();
+        matchedIds.sort(candidates.byRank(id -> id));
+
+        int from = Math.min(requestDTO.getOffset(), matchedIds.size());
+        int to = Math.min(from + requestDTO.getLimit(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+
+        List<ProductListDTO> dtoList = pageIds.isEmpty() ? Collections.emptyList() : new ArrayList<>(
+                withThumbnails(projectionQuery(product.id.in(pageIds)).fetch()));
+        if (!dtoList.isEmpty()) {
+            dtoList.sort(candidates.byRank(ProductListDTO::getId));
+        }
+
+        return PageResponseDTO.<ProductListDTO>withAll()
+                .pageRequestDTO(requestDTO)
+                .dtoList(dtoList)
+                .total(matchedIds.size())
+                .facets(facets)
                 .build();
     }
 
-    // 예시: 카테고리 재귀 조회
+    // 목록 DTO 프로젝션 쿼리 (판매자명, 카테고리명 포함, 썸네일은 withThumbnails로 채움)
+    private JPQLQuery<ProductListDTO> projectionQuery(Predicate where) {
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+        QSeller seller = QSeller.seller;
+
+        return queryFactory
+            .select(Projections.bean(ProductListDTO.class,
+                product.id.as("id"),
+                product.name.as("name"),
+                product.price.as("price"),
+                product.status.stringValue().as("status"), // enum일 경우 stringValue() 사용
+                product.active.as("isActive"),
+                seller.name.as("sellerName"),
+                category.name.as("categoryName")
+            ))
+            .from(product)
+            .leftJoin(product.seller, seller)
+            .leftJoin(product.category, category)
+            .where(where);
+    }
+
+    // 현재 페이지 상품의 썸네일을 공용 캐시에서 일괄 조회 (목록용 축소 이미지 우선, 대표 이미지만)
+    private List<ProductListDTO> withThumbnails(List<ProductListDTO> dtoList) {
+        Map<Long, String> thumbnails = productThumbnailResolver.resolveAll(
+                dtoList.stream().map(ProductListDTO::getId).collect(Collectors.toList()));
+        dtoList.forEach(dto -> dto.setImageThumbnailUrl(thumbnails.get(dto.getId())));
+        return dtoList;
+    }
+
+    // 하위 카테고리 ID 조회 (계층 캐시에서 미리 계산된 집합 사용, 재귀 쿼리 없음)
     private List<Long> findAllCategoryIdsIncludingChildren(Long parentId) {
-        // 실제로는 CategoryService 또는 Repository 통해 하위 ID 재귀적으로 조회
-        // 예시에서는 간단하게 1개만
-        return List.of(parentId);
+        return new ArrayList<>(categoryHierarchyCache.getSelfAndDescendantIds(parentId));
     }
 
 }
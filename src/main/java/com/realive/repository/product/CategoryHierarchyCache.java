@@ -0,0 +1,273 @@
+package com.realive.repository.product;
+
+import com.realive.domain.product.Category;
+import com.realive.dto.sellercategory.SellerCategoryDTO;
+import com.realive.event.CategoryChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 계층 캐시 (메모리 closure table)
+ * - 전체 카테고리 트리를 한 번에 읽어 카테고리별 상위/하위 카테고리 ID 집합과 전체 경로("거실 > 소파 > 3인용")를 미리 계산
+ * - 하위 카테고리 포함 필터는 재귀 쿼리 없이 단일 IN 조건으로 처리
+ * - 상품 목록/상세 응답의 카테고리 경로는 상위 카테고리 지연 로딩 없이 캐시에서 조회
+ * - 카테고리 목록 API 응답(CategoryTree)도 구성 시점에 함께 만들어 두고, 내용 해시를 ETag로 사용
+ * - 카테고리 변경 이벤트 수신 시 무효화되며, 다음 조회 시 다시 구성
+ */
+@Slf4j
+@Component
+public class CategoryHierarchyCache {
+
+    private final CategoryRepository categoryRepository;
+    private final long refreshIntervalMillis;
+
+    private volatile Hierarchy hierarchy;
+
+    // 카테고리 변경으로 재구성이 필요한지 여부
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    public CategoryHierarchyCache(CategoryRepository categoryRepository,
+                                  @Value("${category.hierarchy.refresh-interval-ms:300000}") long refreshIntervalMillis) {
+        this.categoryRepository = categoryRepository;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * 자기 자신과 모든 하위 카테고리 ID
+     * - 캐시에 없는 ID(신규 등록 직후 등)는 자기 자신만 반환
+     */
+    public Set<Long> getSelfAndDescendantIds(Long categoryId) {
+        if (categoryId == null) {
+            return Collections.emptySet();
+        }
+        return current().descendants.getOrDefault(categoryId, Set.of(categoryId));
+    }
+
+    /**
+     * 자기 자신부터 최상위 카테고리까지의 ID (자기 자신 → 루트 순)
+     */
+    public List<Long> getSelfAndAncestorIds(Long categoryId) {
+        if (categoryId == null) {
+            return Collections.emptyList();
+        }
+        return current().ancestors.getOrDefault(categoryId, List.of(categoryId));
+    }
+
+    /**
+     * 존재하는 카테고리인지 여부 (대량 등록 검증용, 행마다 조회하지 않음)
+     * - 캐시 구성 이후 등록된 카테고리는 재구성 전까지 false
+     */
+    public boolean contains(Long categoryId) {
+        return categoryId != null && current().names.containsKey(categoryId);
+    }
+
+    /**
+     * 카테고리 목록 API 응답용 스냅샷 (불변, 캐시 재구성 시에만 교체)
+     */
+    public CategoryTree getTree() {
+        return current().tree;
+    }
+
+    /**
+     * 카테고리 전체 경로 ("거실 > 소파 > 3인용")
+     * - 캐시에 없는 카테고리(신규 등록 직후 등)는 엔티티의 상위 카테고리를 따라가 계산하고 캐시 재구성을 예약
+     */
+    public String getFullPath(Category category) {
+        if (category == null) {
+            return null;
+        }
+        String path = current().fullPaths.get(category.getId());
+        if (path == null) {
+            invalidate();
+            return Category.getCategoryFullPath(category);
+        }
+        return path;
+    }
+
+    /**
+     * 상위 카테고리명 (최상위 카테고리면 null)
+     */
+    public String getParentName(Category category) {
+        if (category == null) {
+            return null;
+        }
+        Hierarchy h = current();
+        List<Long> path = h.ancestors.get(category.getId());
+        if (path == null) {
+            invalidate();
+            return category.getParent() != null ? category.getParent().getName() : null;
+        }
+        return path.size() > 1 ? h.names.get(path.get(1)) : null;
+    }
+
+    /**
+     * 상위 카테고리 ID (최상위 카테고리면 null)
+     */
+    public Long getParentId(Category category) {
+        if (category == null) {
+            return null;
+        }
+        List<Long> path = current().ancestors.get(category.getId());
+        if (path == null) {
+            invalidate();
+            return category.getParent() != null ? category.getParent().getId() : null;
+        }
+        return path.size() > 1 ? path.get(1) : null;
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 재구성)
+     */
+    public void invalidate() {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.debug("카테고리 변경 감지 - CategoryId: {}, 계층 캐시 무효화", event.getCategoryId());
+        invalidate();
+    }
+
+    private Hierarchy current() {
+        Hierarchy h = hierarchy;
+        if (h != null && !stale.get() && !isExpired(h)) {
+            return h;
+        }
+        synchronized (this) {
+            h = hierarchy;
+            if (h != null && !stale.get() && !isExpired(h)) {
+                return h;
+            }
+            // 조회 전에 플래그를 내려야, 조회 도중 발생한 변경이 다음 조회에서 다시 반영됨
+            stale.set(false);
+            try {
+                h = load();
+                hierarchy = h;
+            } catch (RuntimeException e) {
+                stale.set(true);
+                if (h == null) {
+                    throw e;
+                }
+                log.warn("카테고리 계층 캐시 재구성 실패 - 기존 캐시 사용", e);
+            }
+            return h;
+        }
+    }
+
+    private boolean isExpired(Hierarchy h) {
+        return System.currentTimeMillis() - h.builtAt >= refreshIntervalMillis;
+    }
+
+    private Hierarchy load() {
+        Map<Long, Long> parentOf = new HashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllIdParentIdAndName()) {
+            parentOf.put((Long) row[0], (Long) row[1]);
+            names.put((Long) row[0], (String) row[2]);
+        }
+
+        Map<Long, List<Long>> ancestors = new HashMap<>();
+        Map<Long, String> fullPaths = new HashMap<>();
+        Map<Long, Set<Long>> descendants = new HashMap<>();
+        for (Long id : parentOf.keySet()) {
+            // 자기 자신 → 루트 순으로 상위 카테고리 수집 (잘못된 데이터로 인한 순환 참조 방지)
+            LinkedHashSet<Long> path = new LinkedHashSet<>();
+            Long cursor = id;
+            while (cursor != null && path.add(cursor)) {
+                cursor = parentOf.get(cursor);
+            }
+            List<Long> pathIds = List.copyOf(path);
+            ancestors.put(id, pathIds);
+
+            // 루트 → 자기 자신 순으로 이름 연결
+            StringBuilder sb = new StringBuilder();
+            for (int i = pathIds.size() - 1; i >= 0; i--) {
+                if (sb.length() > 0) {
+                    sb.append(" > ");
+                }
+                sb.append(names.get(pathIds.get(i)));
+            }
+            fullPaths.put(id, sb.toString());
+
+            for (Long ancestorId : path) {
+                descendants.computeIfAbsent(ancestorId, k -> new HashSet<>()).add(id);
+            }
+        }
+
+        Map<Long, Set<Long>> frozenDescendants = new HashMap<>();
+        descendants.forEach((id, ids) -> frozenDescendants.put(id, Set.copyOf(ids)));
+        CategoryTree tree = buildTree(parentOf, names);
+        log.info("카테고리 계층 캐시 구성 완료 - 카테고리 수: {}, ETag: {}", parentOf.size(), tree.getETag());
+        return new Hierarchy(names, ancestors, frozenDescendants, fullPaths, tree, System.currentTimeMillis());
+    }
+
+    // ID 순으로 정렬한 응답 목록과, 같은 내용이면 인스턴스/재시작과 무관하게 같은 값이 나오는 내용 해시(ETag) 생성
+    private static CategoryTree buildTree(Map<Long, Long> parentOf, Map<Long, String> names) {
+        List<SellerCategoryDTO> categories = parentOf.keySet().stream()
+                .sorted()
+                .map(id -> new SellerCategoryDTO(id, names.get(id), parentOf.get(id)))
+                .collect(Collectors.toList());
+
+        StringBuilder content = new StringBuilder();
+        for (SellerCategoryDTO category : categories) {
+            content.append(category.getId()).append('|')
+                    .append(category.getParentId()).append('|')
+                    .append(category.getName()).append('\n');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            String etag = HexFormat.of().formatHex(digest, 0, 16);
+            return new CategoryTree(etag, Collections.unmodifiableList(categories));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 카테고리 목록 스냅샷 (응답 목록 + ETag)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CategoryTree {
+        private final String eTag;
+        private final List<SellerCategoryDTO> categories;
+    }
+
+    private static class Hierarchy {
+        private final Map<Long, String> names;
+        private final Map<Long, List<Long>> ancestors;
+        private final Map<Long, Set<Long>> descendants;
+        private final Map<Long, String> fullPaths;
+        private final CategoryTree tree;
+        private final long builtAt;
+
+        private Hierarchy(Map<Long, String> names, Map<Long, List<Long>> ancestors, Map<Long, Set<Long>> descendants,
+                          Map<Long, String> fullPaths, CategoryTree tree, long builtAt) {
+            this.names = names;
+            this.ancestors = ancestors;
+            this.descendants = descendants;
+            this.fullPaths = fullPaths;
+            this.tree = tree;
+            this.builtAt = builtAt;
+        }
+    }
+}
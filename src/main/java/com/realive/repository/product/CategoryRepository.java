@@ -1,6 +1,9 @@
 package com.realive.repository.product;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.realive.domain.product.Category;
 
@@ -10,5 +13,7 @@ import com.realive.domain.product.Category;
  */
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
-    // 추가로 필요한 경우 메서드 정의 가능
+    // 계층 캐시 구성용: [카테고리 ID, 상위 카테고리 ID, 카테고리명] 전체 조회
+    @Query("SELECT c.id, p.id, c.name FROM Category c LEFT JOIN c.parent p")
+    List<Object[]> findAllIdParentIdAndName();
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.realive.repository.product;
+
+import com.realive.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 필터별 전체 개수 캐시 (근사값)
+ * - 전체 개수 모드(count 쿼리 수행)로 조회했을 때의 개수를 필터 조건별로 보관
+ * - 슬라이스 모드(count 쿼리 생략)는 이 값을 "대략적인 전체 개수"로만 사용하고, 없으면 개수를 알리지 않음
+ * - 상품 등록/비활성화 시 별도 무효화 없이 TTL로만 갱신되므로 정확한 값이 아님
+ */
+@Component
+public class ProductCountCache {
+
+    private final BoundedTtlCache<String, Long> counts;
+
+    public ProductCountCache(@Value("${product.count-cache.max-size:5000}") int maxSize,
+                             @Value("${product.count-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.counts = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000L);
+    }
+
+    /**
+     * 필터 조건으로 캐시 키 생성 (페이지 번호/정렬은 개수에 영향이 없으므로 제외)
+     *
+     * @param query   조회 종류 (ex: "visible", "public-search")
+     * @param filters 필터 값 (null 포함 가능, 문자열은 공백 제거 후 소문자로 정규화)
+     */
+    public static String key(String query, Object... filters) {
+        return query + Arrays.stream(filters)
+                .map(filter -> filter instanceof String s ? s.trim().toLowerCase(Locale.ROOT) : String.valueOf(filter))
+                .collect(Collectors.joining("|", ":", ""));
+    }
+
+    public void record(String key, long count) {
+        counts.put(key, count);
+    }
+
+    /**
+     * @return 캐시된 개수, 없거나 만료되었으면 null
+     */
+    public Long approximate(String key) {
+        return counts.getIfPresent(key);
+    }
+}
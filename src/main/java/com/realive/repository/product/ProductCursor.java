@@ -0,0 +1,97 @@
+package com.realive.repository.product;
+
+import com.realive.domain.product.Product;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 키셋(seek) 페이지네이션 커서
+ * - 이전 페이지 마지막 상품의 정렬 키와 ID를 담아, OFFSET 없이 "그 다음" 상품부터 조회
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달되며 내용을 해석할 필요 없음
+ * - 정렬 기준(가격/등록일/ID)이 커서에 포함되어, 다른 정렬의 커서를 넘기면 거부
+ */
+@Getter
+public final class ProductCursor {
+
+    public enum Key {
+        PRICE,          // (price, id)
+        CREATED_AT,     // (createdAt, id)
+        ID              // (id)
+    }
+
+    private final Key key;
+    private final Integer price;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private ProductCursor(Key key, Integer price, LocalDateTime createdAt, Long id) {
+        this.key = key;
+        this.price = price;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 페이지 마지막 상품으로 다음 페이지 커서 생성
+     */
+    public static ProductCursor after(Key key, Product product) {
+        return switch (key) {
+            case PRICE -> new ProductCursor(key, product.getPrice(), null, product.getId());
+            case CREATED_AT -> new ProductCursor(key, null, product.getCreatedAt(), product.getId());
+            case ID -> new ProductCursor(key, null, null, product.getId());
+        };
+    }
+
+    /**
+     * 구매자 상품 목록 정렬 파라미터(price_asc, price_desc, new)에 맞는 커서 종류
+     */
+    public static Key keyForSort(String sort) {
+        return "price_asc".equals(sort) || "price_desc".equals(sort) ? Key.PRICE : Key.CREATED_AT;
+    }
+
+    public static ProductCursor afterId(Long id) {
+        return new ProductCursor(Key.ID, null, null, id);
+    }
+
+    public String encode() {
+        String value = switch (key) {
+            case PRICE -> String.valueOf(price);
+            case CREATED_AT -> createdAt.toString();
+            case ID -> "";
+        };
+        String raw = key.name() + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param expected 현재 정렬 기준에 맞는 커서 종류
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 커서
+     */
+    public static ProductCursor decode(String cursor, Key expected) {
+        ProductCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            Key key = Key.valueOf(parts[0]);
+            Long id = Long.parseLong(parts[2]);
+            decoded = switch (key) {
+                case PRICE -> new ProductCursor(key, Integer.parseInt(parts[1]), null, id);
+                case CREATED_AT -> new ProductCursor(key, null, LocalDateTime.parse(parts[1]), id);
+                case ID -> new ProductCursor(key, null, null, id);
+            };
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        if (decoded.key != expected) {
+            throw new IllegalArgumentException("정렬 기준과 맞지 않는 커서입니다.");
+        }
+        return decoded;
+    }
+}
@@ -6,21 +6,30 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
 
     List<ProductImage> findByProductId(Long productId);
 
-    // ✅ 썸네일 + 미디어타입(IMAGE or VIDEO)에 따라 하나만 조회
-    Optional<ProductImage> findFirstByProductIdAndIsThumbnailTrueAndMediaType(Long productId, MediaType mediaType);
-
-    // ✅ 여러 상품 ID에 대한 썸네일 이미지/영상 URL을 한 번에 조회
-    @Query("SELECT pi.product.id, pi.url FROM ProductImage pi " +
+    // ✅ 여러 상품 ID에 대한 썸네일 URL 일괄 조회 (상품별 이미지 ID 오름차순 → 첫 행을 대표 썸네일로 사용)
+    //    목록용 축소 이미지가 생성되어 있으면 원본 대신 사용
+    @Query("SELECT pi.product.id, COALESCE(pi.listUrl, pi.url) FROM ProductImage pi " +
             "WHERE pi.product.id IN :productIds " +
             "AND pi.isThumbnail = true " +
-            "AND pi.mediaType = :mediaType")
-    List<Object[]> findThumbnailUrlsByProductIds(@Param("productIds") List<Long> productIds,
-                                                 @Param("mediaType") MediaType mediaType);
+            "AND pi.mediaType = :mediaType " +
+            "ORDER BY pi.product.id ASC, pi.id ASC")
+    List<Object[]> findOrderedThumbnailUrlsByProductIds(@Param("productIds") Collection<Long> productIds,
+                                                        @Param("mediaType") MediaType mediaType);
+
+    // ✅ 업로드 파일 정리용: 경로 접두사로 참조 중인 원본/목록용/축소 이미지 URL 조회
+    @Query("SELECT pi.url FROM ProductImage pi WHERE pi.url LIKE CONCAT(:prefix, '%')")
+    List<String> findUrlsStartingWith(@Param("prefix") String prefix);
+
+    @Query("SELECT pi.listUrl FROM ProductImage pi WHERE pi.listUrl LIKE CONCAT(:prefix, '%')")
+    List<String> findListUrlsStartingWith(@Param("prefix") String prefix);
+
+    @Query("SELECT v FROM ProductImage pi JOIN pi.variantUrls v WHERE v LIKE CONCAT(:prefix, '%')")
+    List<String> findVariantUrlsStartingWith(@Param("prefix") String prefix);
 }
@@ -4,6 +4,7 @@ import com.realive.domain.product.Product;
 
 import jakarta.persistence.LockModeType;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 상품 정보를 DB에서 조회/저장/삭제하는 JPA Repository
@@ -47,5 +49,16 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     @Query("SELECT p FROM Product p WHERE p.id = :productId")
     Product findByIdForUpdate(@Param("productId") Long productId);
 
-    
+    // 검색 색인 적재용: 카테고리/판매자를 함께 조회 (ID 기준 구간 조회)
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category LEFT JOIN FETCH p.seller " +
+            "WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Product> findIndexBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 검색 색인 갱신용: 카테고리/판매자를 함께 조회
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category LEFT JOIN FETCH p.seller WHERE p.id = :productId")
+    Optional<Product> findWithCategoryAndSellerById(@Param("productId") Long productId);
+
+    // 대량 등록 후 색인용: 여러 상품의 카테고리/판매자를 함께 조회
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category LEFT JOIN FETCH p.seller WHERE p.id IN :productIds")
+    List<Product> findWithCategoryAndSellerByIdIn(@Param("productIds") Collection<Long> productIds);
 }
\ No newline at end of file
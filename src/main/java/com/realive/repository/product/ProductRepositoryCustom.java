@@ -4,6 +4,7 @@ import com.realive.domain.product.Product;
 import com.realive.dto.product.CustomerProductSearchCondition;
 import com.realive.dto.product.ProductSearchCondition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * ProductRepositoryCustom
@@ -22,4 +23,14 @@ public interface ProductRepositoryCustom {
     Page<Product> searchProducts(ProductSearchCondition condition, Long sellerId);
 
     Page<Product> searchVisibleProducts(CustomerProductSearchCondition condition);
+
+    /**
+     * 구매자 상품 목록 슬라이스 조회 (전체 개수 count 쿼리 없이 다음 페이지 존재 여부만 계산)
+     */
+    Slice<Product> searchVisibleProductSlice(CustomerProductSearchCondition condition);
+
+    /**
+     * 같은 필터로 최근 전체 개수 조회 시 캐시된 대략적인 개수 (없으면 null)
+     */
+    Long findApproximateVisibleProductCount(CustomerProductSearchCondition condition);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.realive.repository.product;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.realive.domain.product.Product;
@@ -10,25 +11,35 @@ import com.realive.domain.product.QProduct;
 import com.realive.domain.seller.QSeller;
 import com.realive.dto.product.CustomerProductSearchCondition;
 import com.realive.dto.product.ProductSearchCondition;
+import com.realive.repository.product.search.ProductSearchIndex;
+import com.realive.repository.product.search.ProductSearchIndex.Field;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
  * ProductRepositoryImpl
  * - ProductRepositoryCustom 인터페이스의 구현체
  * - QueryDSL을 활용하여 복합 조건 기반의 상품 검색 기능 제공
+ * - 키워드 조건은 ProductSearchIndex(역색인)로 일치하는 상품 ID 전체를 구한 뒤 ID IN 조건으로 적용
+ *   (일치 건수가 product.search.max-id-filter를 넘으면 LIKE 조건으로 대신 거르고, 색인 결과는 관련도 정렬에만 사용)
  */
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ProductSearchIndex productSearchIndex;
+    private final CategoryHierarchyCache categoryHierarchyCache;
+    private final ProductCountCache productCountCache;
 
     /**
      * 검색 조건과 판매자 ID를 기반으로 상품 목록을 조회하여 페이징 처리된 결과 반환
@@ -42,8 +53,14 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         QProduct product = QProduct.product;
         Pageable pageable = cond.toPageable();
 
+        // 키워드 후보 (색인에 일치하는 상품이 없으면 DB 조회 생략)
+        ProductSearchIndex.SearchResult candidates = keywordCandidates(cond.getKeyword(), List.of(Field.NAME));
+        if (candidates != null && candidates.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0L);
+        }
+
         // 조건 생성
-        BooleanBuilder builder = buildConditon(product, cond, sellerId);
+        BooleanBuilder builder = buildConditon(product, cond, sellerId, candidates);
 
         // 조건에 맞는 실제 데이터 조회
         List<Product> content = queryFactory
@@ -70,9 +87,11 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
      * @param product   QueryDSL QProduct 객체
      * @param cond      검색 조건 DTO
      * @param sellerId  현재 로그인한 판매자의 ID
+     * @param candidates 키워드 검색 후보 (색인 미구성 시 null)
      * @return          BooleanBuilder (검색 조건 누적)
      */
-    private BooleanBuilder buildConditon(QProduct product, ProductSearchCondition cond, Long sellerId){
+    private BooleanBuilder buildConditon(QProduct product, ProductSearchCondition cond, Long sellerId,
+                                         ProductSearchIndex.SearchResult candidates){
         BooleanBuilder builder = new BooleanBuilder();
 
         // 판매자 ID 조건 (필수)
@@ -90,13 +109,15 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
             builder.and(product.status.eq(cond.getStatus()));
         }
 
-        // 카테고리 조건
+        // 카테고리 조건 (하위 카테고리 포함)
         if (cond.getCategoryId() != null) {
-            builder.and(product.category.id.eq(cond.getCategoryId()));
+            builder.and(product.category.id.in(categoryHierarchyCache.getSelfAndDescendantIds(cond.getCategoryId())));
         }
 
-        // 키워드 검색 (상품명)
-        if (cond.getKeyword() != null && !cond.getKeyword().isBlank()) {
+        // 키워드 검색 (상품명) - 색인 구성 전이거나 일치 건수가 많으면 LIKE 조건으로 처리
+        if (candidates != null && candidates.isIdFilterable()) {
+            builder.and(product.id.in(candidates.getProductIds()));
+        } else if (cond.getKeyword() != null && !cond.getKeyword().isBlank()) {
             builder.and(product.name.containsIgnoreCase(cond.getKeyword()));
         }
 
@@ -116,31 +137,110 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
     @Override
     public Page<Product> searchVisibleProducts(CustomerProductSearchCondition condition) {
         QProduct product = QProduct.product;
-        QCategory category = QCategory.category;
-        QSeller seller = QSeller.seller;
 
+        VisibleQuery visible = visibleQuery(product, condition);
+        if (visible == null) {
+            return new PageImpl<>(Collections.emptyList(), condition.toPageable(), 0L);
+        }
+
+        // 키워드 검색이고 명시적 정렬이 없으면 관련도 순
+        if (visible.sort == null) {
+            return searchByRelevance(product, visible.builder, visible.candidates, condition);
+        }
+
+        // 페이징 처리
+        List<Product> resultList = visibleContent(product, visible, condition, condition.getSize());
+
+        long total = queryFactory.select(product.count())
+                .from(product)
+                .where(visible.builder)
+                .fetchOne();
+        productCountCache.record(visibleCountKey(condition), total);
+
+        return new PageImpl<>(resultList, condition.toPageable(), total);
+            
+        }
+
+    /**
+     * 구매자 전용 물품 리스트 (슬라이스 모드)
+     * - count 쿼리 없이 size + 1개를 조회하여 다음 페이지 존재 여부만 판단 (무한 스크롤용)
+     */
+    @Override
+    public Slice<Product> searchVisibleProductSlice(CustomerProductSearchCondition condition) {
+        QProduct product = QProduct.product;
+
+        VisibleQuery visible = visibleQuery(product, condition);
+        if (visible == null) {
+            return new SliceImpl<>(Collections.emptyList(), condition.toPageable(), false);
+        }
+
+        // 관련도 순은 후보 ID 목록으로 전체 개수를 이미 알고 있으므로 그대로 사용
+        if (visible.sort == null) {
+            return searchByRelevance(product, visible.builder, visible.candidates, condition);
+        }
+
+        List<Product> rows = visibleContent(product, visible, condition, condition.getSize() + 1);
+        boolean hasNext = rows.size() > condition.getSize();
+
+        return new SliceImpl<>(hasNext ? rows.subList(0, condition.getSize()) : rows, condition.toPageable(), hasNext);
+    }
+
+    /**
+     * 구매자 전용 물품 리스트의 대략적인 전체 개수 (이전 전체 개수 조회 결과 캐시)
+     *
+     * @return 같은 필터로 최근에 조회된 개수, 없으면 null
+     */
+    @Override
+    public Long findApproximateVisibleProductCount(CustomerProductSearchCondition condition) {
+        return productCountCache.approximate(visibleCountKey(condition));
+    }
+
+    /**
+     * 구매자 전용 물품 리스트의 조건/정렬 생성
+     *
+     * @return 키워드/판매자 색인 후보가 없어 결과가 비어 있으면 null
+     */
+    private VisibleQuery visibleQuery(QProduct product, CustomerProductSearchCondition condition) {
         BooleanBuilder builder = new BooleanBuilder();
 
         //활성 상품만 표기할 것
         builder.and(product.active.eq(true));
 
-        //키워드 검색
-        if (condition.getKeyword() != null && !condition.getKeyword().isEmpty()) {
+        //키워드 검색 (상품명, 설명)
+        ProductSearchIndex.SearchResult candidates =
+                keywordCandidates(condition.getKeyword(), List.of(Field.NAME, Field.DESCRIPTION));
+        if (candidates != null) {
+            if (candidates.isEmpty()) {
+                return null;
+            }
+        }
+        if (candidates != null && candidates.isIdFilterable()) {
+            builder.and(product.id.in(candidates.getProductIds()));
+        } else if (condition.getKeyword() != null && !condition.getKeyword().isEmpty()) {
             builder.and(
                 product.name.containsIgnoreCase(condition.getKeyword())
                 .or(product.description.containsIgnoreCase(condition.getKeyword()))
             );
         }
-        //카테고리 조건
+        //카테고리 조건 (하위 카테고리 포함, 계층 캐시의 ID 집합으로 단일 IN 조건)
         if (condition.getCategoryId() !=null) {
-            builder.and(product.category.id.eq(condition.getCategoryId()));
+            builder.and(product.category.id.in(categoryHierarchyCache.getSelfAndDescendantIds(condition.getCategoryId())));
         } else if (condition.getParentCategoryId() != null) {
-            builder.and(product.category.parent.id.eq(condition.getParentCategoryId()));
+            builder.and(product.category.id.in(categoryHierarchyCache.getSelfAndDescendantIds(condition.getParentCategoryId())));
             
         }// end if
 
         //판매자 이름 조건
-        if (condition.getSellerName() !=null && !condition.getSellerName().isBlank()){
+        ProductSearchIndex.SearchResult sellerCandidates =
+                keywordCandidates(condition.getSellerName(), List.of(Field.SELLER));
+        if (sellerCandidates != null) {
+            if (sellerCandidates.isEmpty()) {
+                return null;
+            }
+        }
+        if (sellerCandidates != null && sellerCandidates.isIdFilterable()) {
+            builder.and(product.id.in(sellerCandidates.getProductIds()));
+        } else if (condition.getSellerName() !=null && !condition.getSellerName().isBlank()){
             builder.and(product.seller.name.containsIgnoreCase(condition.getSellerName()));
         } 
         
@@ -152,35 +252,156 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
             builder.and(product.price.loe(condition.getMaxPrice()));            
         }
 
-        //정렬 조건 처리
-        OrderSpecifier<?> orderSpec = product.createdAt.desc(); // 기본값
+        //정렬 조건 처리 (키셋 페이지네이션을 위해 ID를 보조 정렬 키로 사용)
+        VisibleSort sort = VisibleSort.NEW; // 기본값
+        boolean explicitSort = false;
         if (condition.getSort() != null) {
             switch (condition.getSort()) {
-                case "price_asc" -> orderSpec = product.price.asc();
-                case "price_desc" -> orderSpec = product.price.desc();
-                case "new" -> orderSpec = product.createdAt.desc();
+                case "price_asc" -> { sort = VisibleSort.PRICE_ASC; explicitSort = true; }
+                case "price_desc" -> { sort = VisibleSort.PRICE_DESC; explicitSort = true; }
+                case "new" -> { sort = VisibleSort.NEW; explicitSort = true; }
             }
         }
 
-        // 페이징 처리
+        // 키워드 검색이고 명시적 정렬이 없으면 관련도 순 (sort 없음)
+        if (candidates != null && !explicitSort) {
+            sort = null;
+        }
+        return new VisibleQuery(builder, candidates, sort);
+    }
+
+    /**
+     * 키셋 조건: 커서(이전 페이지 마지막 상품) 다음 순서의 상품만
+     * - (price, id) / (createdAt, id) 복합 인덱스 순서와 같은 방향으로 비교
+     */
+    private BooleanExpression seekAfter(QProduct product, VisibleSort sort, ProductCursor cursor) {
+        return switch (sort) {
+            case PRICE_ASC -> product.price.gt(cursor.getPrice())
+                    .or(product.price.eq(cursor.getPrice()).and(product.id.gt(cursor.getId())));
+            case PRICE_DESC -> product.price.lt(cursor.getPrice())
+                    .or(product.price.eq(cursor.getPrice()).and(product.id.lt(cursor.getId())));
+            case NEW -> product.createdAt.lt(cursor.getCreatedAt())
+                    .or(product.createdAt.eq(cursor.getCreatedAt()).and(product.id.lt(cursor.getId())));
+        };
+    }
+
+    // 현재 페이지 상품 조회 (카테고리/판매자 fetch join)
+    // 커서가 있으면 OFFSET 없이 커서 다음 상품부터 조회
+    private List<Product> visibleContent(QProduct product, VisibleQuery visible,
+                                         CustomerProductSearchCondition condition, int limit) {
+        QCategory category = QCategory.category;
+        QSeller seller = QSeller.seller;
+
+        BooleanBuilder where = new BooleanBuilder(visible.builder);
+        long offset = (long) condition.getPageIndex() * condition.getSize();
+        if (condition.hasCursor()) {
+            ProductCursor cursor = ProductCursor.decode(condition.getCursor(), visible.sort.cursorKey);
+            where.and(seekAfter(product, visible.sort, cursor));
+            offset = 0L;
+        }
+
         JPAQuery<Product> query = queryFactory.selectFrom(product)
                 .leftJoin(product.category, category).fetchJoin()
                 .leftJoin(product.seller, seller).fetchJoin()
-                .where(builder)
-                .orderBy(orderSpec)
-                .offset(condition.getPageIndex() * condition.getSize())
-                .limit(condition.getSize());
+                .where(where)
+                .orderBy(visible.sort.orderBy(product))
+                .offset(offset)
+                .limit(limit);
 
-        List<Product> resultList = query.fetch();
+        return query.fetch();
+    }
 
-        long total = queryFactory.select(product.count())
+    // 개수 캐시 키: 페이지/정렬을 제외한 필터 조건
+    private String visibleCountKey(CustomerProductSearchCondition condition) {
+        return ProductCountCache.key("visible", condition.getKeyword(), condition.getCategoryId(),
+                condition.getParentCategoryId(), condition.getSellerName(),
+                condition.getMinPrice(), condition.getMaxPrice());
+    }
+
+    /**
+     * 관련도 순 페이지 조회
+     * - 조건을 만족하는 상품 ID 전체를 먼저 조회하여 관련도 순으로 정렬한 뒤, 해당 페이지의 상품만 다시 조회
+     * - 조회한 ID 수가 곧 전체 개수이므로 별도의 count 쿼리 없음
+     */
+    private Page<Product> searchByRelevance(QProduct product, BooleanBuilder builder,
+                                            ProductSearchIndex.SearchResult candidates,
+                                            CustomerProductSearchCondition condition) {
+        QCategory category = QCategory.category;
+        QSeller seller = QSeller.seller;
+
+        List<Long> matchedIds = queryFactory.select(product.id)
                 .from(product)
                 .where(builder)
-                .fetchOne();
+                .fetch();
+        matchedIds.sort(candidates.byRank(id -> id));
 
-        return new PageImpl<>(resultList, condition.toPageable(), total);
-            
+        int from = Math.min(condition.getPageIndex() * condition.getSize(), matchedIds.size());
+        int to = Math.min(from + condition.getSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), condition.toPageable(), matchedIds.size());
         }
+
+        List<Product> resultList = queryFactory.selectFrom(product)
+                .leftJoin(product.category, category).fetchJoin()
+                .leftJoin(product.seller, seller).fetchJoin()
+                .where(product.id.in(pageIds))
+                .fetch();
+        resultList.sort(candidates.byRank(Product::getId));
+
+        return new PageImpl<>(resultList, condition.toPageable(), matchedIds.size());
+    }
+
+    /**
+     * 키워드에 대한 색인 검색 후보
+     *
+     * @return 키워드가 없거나 색인이 아직 구성되지 않았으면 null (호출 측에서 LIKE 조건으로 처리)
+     */
+    private ProductSearchIndex.SearchResult keywordCandidates(String keyword, List<Field> fields) {
+        if (keyword == null || keyword.isBlank() || !productSearchIndex.isReady()) {
+            return null;
+        }
+        return productSearchIndex.search(keyword, fields);
+    }
+
+    /**
+     * 구매자 전용 물품 리스트 조회 조건
+     * - sort가 null이면 관련도 순 (키워드 검색 + 명시적 정렬 없음)
+     */
+    private static class VisibleQuery {
+        private final BooleanBuilder builder;
+        private final ProductSearchIndex.SearchResult candidates;
+        private final VisibleSort sort;
+
+        private VisibleQuery(BooleanBuilder builder, ProductSearchIndex.SearchResult candidates,
+                             VisibleSort sort) {
+            this.builder = builder;
+            this.candidates = candidates;
+            this.sort = sort;
+        }
+    }
+
+    /**
+     * 구매자 전용 물품 리스트 정렬 기준
+     * - ID를 보조 정렬 키로 사용하여 순서가 항상 결정되도록 함 (키셋 커서 비교 기준)
+     */
+    private enum VisibleSort {
+        PRICE_ASC(ProductCursor.Key.PRICE),
+        PRICE_DESC(ProductCursor.Key.PRICE),
+        NEW(ProductCursor.Key.CREATED_AT);
+
+        private final ProductCursor.Key cursorKey;
+
+        VisibleSort(ProductCursor.Key cursorKey) {
+            this.cursorKey = cursorKey;
+        }
+
+        private OrderSpecifier<?>[] orderBy(QProduct product) {
+            return switch (this) {
+                case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+                case PRICE_DESC -> new OrderSpecifier<?>[]{product.price.desc(), product.id.desc()};
+                case NEW -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+            };
+        }
+    }
 }
-            
-        
@@ -0,0 +1,118 @@
+package com.realive.repository.product;
+
+import com.realive.domain.common.enums.MediaType;
+import com.realive.event.ProductChangedEvent;
+import com.realive.util.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대표 썸네일 URL 일괄 조회 (공용 near-cache)
+ * - 상품 목록, 장바구니, 주문, 경매, 관리자 상품 등 썸네일이 필요한 모든 곳에서 공유
+ * - 상품 ID → 썸네일 URL을 메모리에 보관하고, 캐시에 없는 상품만 한 번의 쿼리로 조회
+ * - 이미지 처리 파이프라인이 만든 목록용 축소 이미지가 있으면 원본 대신 사용
+ * - 썸네일이 없는 상품도 "없음"으로 캐시하여 반복 조회를 막음
+ * - 한 상품에 썸네일이 여러 장이면 이미지 ID가 가장 작은 것을 사용 (조회할 때마다 같은 결과)
+ * - 상품 이미지 변경(ProductImage 엔티티 콜백 → ProductChangedEvent) 커밋 이후 해당 상품 항목 무효화
+ */
+@Slf4j
+@Component
+public class ProductThumbnailResolver {
+
+    private final ProductImageRepository productImageRepository;
+
+    // 미디어 타입(IMAGE/VIDEO)별 캐시: 상품 ID -> 썸네일 URL (없으면 Optional.empty())
+    private final Map<MediaType, BoundedTtlCache<Long, Optional<String>>> caches = new EnumMap<>(MediaType.class);
+
+    public ProductThumbnailResolver(ProductImageRepository productImageRepository,
+                                    @Value("${product.thumbnail-cache.max-size:50000}") int maxSize,
+                                    @Value("${product.thumbnail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.productImageRepository = productImageRepository;
+        for (MediaType mediaType : MediaType.values()) {
+            caches.put(mediaType, new BoundedTtlCache<>(maxSize, ttlSeconds * 1000L));
+        }
+    }
+
+    /**
+     * 상품 ID 목록에 대한 대표 이미지 썸네일 URL 조회
+     *
+     * @return 상품 ID -> 썸네일 URL (썸네일이 없는 상품은 포함되지 않음)
+     */
+    public Map<Long, String> resolveAll(Collection<Long> productIds) {
+        return resolveAll(productIds, MediaType.IMAGE);
+    }
+
+    /**
+     * 상품 ID 목록에 대한 썸네일 URL 조회 (미디어 타입 지정)
+     *
+     * @return 상품 ID -> 썸네일 URL (썸네일이 없는 상품은 포함되지 않음)
+     */
+    public Map<Long, String> resolveAll(Collection<Long> productIds, MediaType mediaType) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> ids = productIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Optional<String>> cached = caches.get(mediaType).getAll(ids, missing -> load(missing, mediaType));
+        Map<Long, String> thumbnails = new HashMap<>();
+        cached.forEach((id, url) -> url.ifPresent(u -> thumbnails.put(id, u)));
+        return thumbnails;
+    }
+
+    /**
+     * 단일 상품 대표 이미지 썸네일 URL 조회 (상세 화면용)
+     *
+     * @return 썸네일 URL, 없으면 null
+     */
+    public String resolve(Long productId) {
+        return resolve(productId, MediaType.IMAGE);
+    }
+
+    public String resolve(Long productId, MediaType mediaType) {
+        if (productId == null) {
+            return null;
+        }
+        return resolveAll(List.of(productId), mediaType).get(productId);
+    }
+
+    public void invalidate(Long productId) {
+        caches.values().forEach(cache -> cache.invalidate(productId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    // 캐시에 없는 상품만 한 번의 쿼리로 조회 (정렬된 결과이므로 상품별 첫 행만 사용)
+    private Map<Long, Optional<String>> load(Set<Long> productIds, MediaType mediaType) {
+        Map<Long, Optional<String>> loaded = new HashMap<>();
+        for (Object[] row : productImageRepository.findOrderedThumbnailUrlsByProductIds(productIds, mediaType)) {
+            loaded.putIfAbsent((Long) row[0], Optional.ofNullable((String) row[1]));
+        }
+        productIds.forEach(id -> loaded.putIfAbsent(id, Optional.empty()));
+        log.debug("썸네일 일괄 조회 - 미디어 타입: {}, 요청 상품 수: {}, 조회된 썸네일 수: {}",
+                mediaType, productIds.size(), loaded.values().stream().filter(Optional::isPresent).count());
+        return loaded;
+    }
+}
@@ -0,0 +1,24 @@
+package com.realive.repository.product;
+
+import com.realive.domain.product.ProductViewCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * 상품 조회수 Repository (갱신은 ProductViewCounter가 JDBC UPSERT로 처리)
+ */
+public interface ProductViewCountRepository extends JpaRepository<ProductViewCount, Long> {
+
+    // 조회수 많은 판매중 상품 ID (조회수 내림차순)
+    @Query("SELECT v.productId FROM ProductViewCount v, Product p " +
+            "WHERE p.id = v.productId AND p.active = true " +
+            "ORDER BY v.viewCount DESC, v.productId ASC")
+    List<Long> findMostViewedActiveProductIds(Pageable pageable);
+
+    // 자동완성 인기 가중치 적재용: [상품 ID, 조회수]
+    @Query("SELECT v.productId, v.viewCount FROM ProductViewCount v")
+    List<Object[]> findAllViewCounts();
+}
@@ -0,0 +1,136 @@
+package com.realive.repository.product.recommend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * "함께 구매한 상품" 조회용 메모리 색인 (읽기 전용 스냅샷)
+ * - 상품 ID 정렬 배열 + 구간 시작 위치(offsets) + 연관 상품 ID/점수 배열로 구성 (CSR 형태)
+ *   → 이진 탐색 한 번으로 연관 상품 구간을 찾으며 객체/박싱 없이 조회
+ * - 모델은 CoPurchaseModelBuilder가 주기적으로 계산해 통째로 교체 (조회 중 잠금 없음)
+ */
+@Slf4j
+@Component
+public class CoPurchaseIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private volatile Snapshot snapshot = new Builder().build();
+
+    /**
+     * 함께 구매한 상품 ID (점수 내림차순)
+     *
+     * @param limit 최대 개수
+     */
+    public long[] related(Long productId, int limit) {
+        if (productId == null || limit <= 0) {
+            return NONE;
+        }
+        Snapshot s = snapshot;
+        int index = Arrays.binarySearch(s.productIds, productId);
+        if (index < 0) {
+            return NONE;
+        }
+        int from = s.offsets[index];
+        int to = (int) Math.min(s.offsets[index + 1], (long) from + limit);
+        return Arrays.copyOfRange(s.relatedIds, from, to);
+    }
+
+    public boolean isEmpty() {
+        return snapshot.productIds.length == 0;
+    }
+
+    /**
+     * 색인 교체
+     */
+    public void replace(Snapshot next) {
+        snapshot = next;
+        log.info("함께 구매한 상품 색인 교체 - 상품 수: {}, 연관 항목 수: {}",
+                next.productIds.length, next.relatedIds.length);
+    }
+
+    /**
+     * 색인 스냅샷 (불변)
+     */
+    public static class Snapshot {
+        private final long[] productIds;
+        private final int[] offsets;
+        private final long[] relatedIds;
+        private final int[] scores;
+
+        private Snapshot(long[] productIds, int[] offsets, long[] relatedIds, int[] scores) {
+            this.productIds = productIds;
+            this.offsets = offsets;
+            this.relatedIds = relatedIds;
+            this.scores = scores;
+        }
+
+        /**
+         * 스냅샷 전체 순회 (상품 ID 오름차순, 상품별 점수 내림차순) - 스냅샷 저장용
+         */
+        public void forEach(EntryConsumer consumer) {
+            for (int i = 0; i < productIds.length; i++) {
+                for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                    consumer.accept(productIds[i], relatedIds[j], scores[j]);
+                }
+            }
+        }
+
+        public int size() {
+            return relatedIds.length;
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long productId, long relatedProductId, int score);
+    }
+
+    /**
+     * 스냅샷 생성기
+     * - 상품 ID 오름차순으로, 같은 상품의 연관 상품은 점수 내림차순으로 추가해야 함
+     */
+    public static class Builder {
+        private long[] productIds = new long[16];
+        private int[] offsets = new int[17];
+        private long[] relatedIds = new long[64];
+        private int[] scores = new int[64];
+        private int productCount = 0;
+        private int entryCount = 0;
+
+        public Builder add(long productId, long relatedProductId, int score) {
+            if (productCount == 0 || productIds[productCount - 1] != productId) {
+                if (productCount > 0 && productIds[productCount - 1] > productId) {
+                    throw new IllegalStateException("상품 ID 오름차순으로 추가해야 합니다.");
+                }
+                if (productCount == productIds.length) {
+                    productIds = Arrays.copyOf(productIds, productCount * 2);
+                    offsets = Arrays.copyOf(offsets, productCount * 2 + 1);
+                }
+                productIds[productCount] = productId;
+                offsets[productCount] = entryCount;
+                productCount++;
+            }
+            if (entryCount == relatedIds.length) {
+                relatedIds = Arrays.copyOf(relatedIds, entryCount * 2);
+                scores = Arrays.copyOf(scores, entryCount * 2);
+            }
+            relatedIds[entryCount] = relatedProductId;
+            scores[entryCount] = score;
+            entryCount++;
+            return this;
+        }
+
+        public Snapshot build() {
+            int[] finalOffsets = Arrays.copyOf(offsets, productCount + 1);
+            finalOffsets[productCount] = entryCount;
+            return new Snapshot(
+                    Arrays.copyOf(productIds, productCount),
+                    finalOffsets,
+                    Arrays.copyOf(relatedIds, entryCount),
+                    Arrays.copyOf(scores, entryCount));
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.realive.repository.product.search;
+
+import com.realive.dto.product.AutocompleteSuggestionDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 상품명/카테고리명/판매자명 접두어 자동완성 색인 (DB 조회 없음)
+ * - 이름의 각 단어부터 끝까지를 키로 만들어("3인용 가죽 소파" → "3인용 가죽 소파", "가죽 소파", "소파") 정렬 배열에 보관
+ *   → 입력어로 이진 탐색하면 일치하는 키가 연속 구간으로 나옴
+ * - 구간 안의 인기순 상위 N개는 가중치 최대값 세그먼트 트리로 추출 (구간 크기와 무관하게 N log n)
+ * - 상품 변경은 작은 변경분(delta)에 모아 조회 시 함께 반영하고, 변경분이 compact-threshold를 넘으면 기본 색인을 다시 만듦
+ * - 조회는 잠금 없이 불변 스냅샷(View)만 읽고, 갱신은 새 스냅샷으로 교체
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    public enum Type {
+        PRODUCT, CATEGORY, SELLER
+    }
+
+    // 이름 하나에서 만들 최대 키 수 (긴 이름의 키 폭증 방지)
+    private static final int MAX_KEYS_PER_SUGGESTION = 8;
+
+    private final int compactThreshold;
+
+    // 갱신 전용 (synchronized 메서드 안에서만 접근): 키("PRODUCT:12") → 현재 항목
+    private final Map<String, Suggestion> all = new HashMap<>();
+
+    private volatile View view = new View(Base.build(List.of()), Map.of(), Set.of());
+
+    public AutocompleteIndex(@Value("${product.autocomplete.compact-threshold:500}") int compactThreshold) {
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * 입력어로 시작하는 이름 (가중치 내림차순, 같으면 짧은 이름 → 가나다순)
+     */
+    public List<AutocompleteSuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        View v = view;
+
+        // 기본 색인: 변경/삭제된 항목은 건너뛰고 인기순 limit개
+        List<Suggestion> candidates = v.base.top(normalized, limit, v.stale);
+        // 변경분: 직접 비교 (compact-threshold개 이하)
+        for (Suggestion suggestion : v.delta.values()) {
+            for (String key : suggestion.keys) {
+                if (key.startsWith(normalized)) {
+                    candidates.add(suggestion);
+                    break;
+                }
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Suggestion.RANKING)
+                .limit(limit)
+                .map(s -> new AutocompleteSuggestionDTO(s.type.name(), s.id, s.text))
+                .toList();
+    }
+
+    /**
+     * 전체 재구성 (인기 가중치 갱신 포함)
+     */
+    public synchronized void rebuild(Collection<Entry> entries) {
+        all.clear();
+        for (Entry entry : entries) {
+            if (entry.getText() != null && !entry.getText().isBlank()) {
+                Suggestion suggestion = Suggestion.of(entry);
+                all.put(suggestion.key, suggestion);
+            }
+        }
+        compact();
+        log.info("자동완성 색인 재구성 완료 - 항목 수: {}", all.size());
+    }
+
+    /**
+     * 항목 1건 추가/변경 (weight가 null이면 기존 가중치 유지)
+     */
+    public synchronized void upsert(Type type, Long id, String text, Long weight) {
+        if (text == null || text.isBlank()) {
+            remove(type, id);
+            return;
+        }
+        String key = type.name() + ":" + id;
+        Suggestion previous = all.get(key);
+        long resolvedWeight = weight != null ? weight : previous != null ? previous.weight : 0L;
+        Suggestion suggestion = Suggestion.of(new Entry(type, id, text, resolvedWeight));
+        if (suggestion.equalsContent(previous)) {
+            return;
+        }
+        all.put(key, suggestion);
+
+        View v = view;
+        Map<String, Suggestion> delta = new HashMap<>(v.delta);
+        delta.put(key, suggestion);
+        Set<String> stale = new HashSet<>(v.stale);
+        stale.add(key);
+        publish(v.base, delta, stale);
+    }
+
+    /**
+     * 항목 1건 제거
+     */
+    public synchronized void remove(Type type, Long id) {
+        String key = type.name() + ":" + id;
+        if (all.remove(key) == null) {
+            return;
+        }
+        View v = view;
+        Map<String, Suggestion> delta = new HashMap<>(v.delta);
+        delta.remove(key);
+        Set<String> stale = new HashSet<>(v.stale);
+        stale.add(key);
+        publish(v.base, delta, stale);
+    }
+
+    private void publish(Base base, Map<String, Suggestion> delta, Set<String> stale) {
+        if (stale.size() > compactThreshold) {
+            compact();
+            return;
+        }
+        view = new View(base, Map.copyOf(delta), Set.copyOf(stale));
+    }
+
+    // 현재 항목 전체로 기본 색인 재생성 (변경분 비움)
+    private void compact() {
+        view = new View(Base.build(all.values()), Map.of(), Set.of());
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 조회용 불변 스냅샷: 기본 색인 + 이후 변경분 + 기본 색인에서 무시할 항목 키
+     */
+    private static class View {
+        private final Base base;
+        private final Map<String, Suggestion> delta;
+        private final Set<String> stale;
+
+        private View(Base base, Map<String, Suggestion> delta, Set<String> stale) {
+            this.base = base;
+            this.delta = delta;
+            this.stale = stale;
+        }
+    }
+
+    /**
+     * 기본 색인: 정렬된 키 배열 + 키별 항목 + 가중치 최대값 세그먼트 트리
+     */
+    private static class Base {
+        private final String[] keys;
+        private final Suggestion[] owners;
+        // 구간 내 가장 높은 순위 키의 위치 (리프 = 키 위치)
+        private final int[] tree;
+        private final int leafStart;
+
+        private Base(String[] keys, Suggestion[] owners) {
+            this.keys = keys;
+            this.owners = owners;
+            int leaves = 1;
+            while (leaves < Math.max(1, keys.length)) {
+                leaves <<= 1;
+            }
+            this.leafStart = leaves;
+            this.tree = new int[leaves * 2];
+            Arrays.fill(tree, -1);
+            for (int i = 0; i < keys.length; i++) {
+                tree[leaves + i] = i;
+            }
+            for (int node = leaves - 1; node >= 1; node--) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        private static Base build(Collection<Suggestion> suggestions) {
+            List<Object[]> pairs = new ArrayList<>();
+            for (Suggestion suggestion : suggestions) {
+                for (String key : suggestion.keys) {
+                    pairs.add(new Object[]{key, suggestion});
+                }
+            }
+            pairs.sort((a, b) -> ((String) a[0]).compareTo((String) b[0]));
+            String[] keys = new String[pairs.size()];
+            Suggestion[] owners = new Suggestion[pairs.size()];
+            for (int i = 0; i < pairs.size(); i++) {
+                keys[i] = (String) pairs.get(i)[0];
+                owners[i] = (Suggestion) pairs.get(i)[1];
+            }
+            return new Base(keys, owners);
+        }
+
+        // 접두어 구간 [from, to)에서 순위가 높은 순으로 서로 다른 항목 limit개
+        private List<Suggestion> top(String prefix, int limit, Set<String> stale) {
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+            List<Suggestion> result = new ArrayList<>();
+            if (from >= to) {
+                return result;
+            }
+
+            Set<Suggestion> seen = new HashSet<>();
+            // {구간 시작, 구간 끝, 구간 내 최고 순위 위치}
+            PriorityQueue<int[]> heap = new PriorityQueue<>((a, b) -> compare(a[2], b[2]));
+            heap.add(new int[]{from, to, best(from, to)});
+            while (!heap.isEmpty() && result.size() < limit) {
+                int[] range = heap.poll();
+                int position = range[2];
+                Suggestion owner = owners[position];
+                if (!stale.contains(owner.key) && seen.add(owner)) {
+                    result.add(owner);
+                }
+                if (range[0] < position) {
+                    heap.add(new int[]{range[0], position, best(range[0], position)});
+                }
+                if (position + 1 < range[1]) {
+                    heap.add(new int[]{position + 1, range[1], best(position + 1, range[1])});
+                }
+            }
+            return result;
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // 구간 [from, to)에서 가장 높은 순위 위치
+        private int best(int from, int to) {
+            int result = -1;
+            for (int l = from + leafStart, r = to + leafStart; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) {
+                    result = better(result, tree[l++]);
+                }
+                if ((r & 1) == 1) {
+                    result = better(result, tree[--r]);
+                }
+            }
+            return result;
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) {
+                return b;
+            }
+            if (b < 0) {
+                return a;
+            }
+            return compare(a, b) <= 0 ? a : b;
+        }
+
+        private int compare(int a, int b) {
+            int c = Suggestion.RANKING.compare(owners[a], owners[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        }
+    }
+
+    /**
+     * 자동완성 항목 (불변)
+     */
+    private static class Suggestion {
+        private static final Comparator<Suggestion> RANKING = Comparator
+                .comparingLong((Suggestion s) -> s.weight).reversed()
+                .thenComparingInt(s -> s.text.length())
+                .thenComparing(s -> s.text)
+                .thenComparing(s -> s.type)
+                .thenComparing(s -> s.id);
+
+        private final Type type;
+        private final Long id;
+        private final String key;
+        private final String text;
+        private final long weight;
+        private final String[] keys;
+
+        private Suggestion(Type type, Long id, String text, long weight, String[] keys) {
+            this.type = type;
+            this.id = id;
+            this.key = type.name() + ":" + id;
+            this.text = text;
+            this.weight = weight;
+            this.keys = keys;
+        }
+
+        private static Suggestion of(Entry entry) {
+            String text = entry.getText().trim();
+            String normalized = normalize(text);
+            List<String> keys = new ArrayList<>();
+            keys.add(normalized);
+            for (int i = normalized.indexOf(' '); i >= 0 && keys.size() < MAX_KEYS_PER_SUGGESTION;
+                 i = normalized.indexOf(' ', i + 1)) {
+                keys.add(normalized.substring(i + 1));
+            }
+            return new Suggestion(entry.getType(), entry.getId(), text, entry.getWeight(),
+                    keys.stream().distinct().toArray(String[]::new));
+        }
+
+        private boolean equalsContent(Suggestion other) {
+            return other != null && other.text.equals(text) && other.weight == weight;
+        }
+    }
+
+    /**
+     * 색인 대상 이름과 인기 가중치
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Type type;
+        private final Long id;
+        private final String text;
+        private final long weight;
+    }
+}
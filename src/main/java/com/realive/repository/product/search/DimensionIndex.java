@@ -0,0 +1,418 @@
+package com.realive.repository.product.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 가구 크기(가로 × 깊이 × 높이, cm) 검색용 k-d 트리 색인
+ * - 판매중이고 세 치수가 모두 입력된 상품만 색인
+ * - "들어가는 크기" 검색: 세 치수가 모두 지정 크기 이하인 상품 (분할 값이 지정 크기보다 큰 쪽 하위 트리는 건너뜀)
+ * - "비슷한 크기" 검색: 지정 크기와의 거리(유클리드)가 가까운 순 k개 (최근접 이웃 탐색)
+ * - 두 검색 모두 카테고리 필터를 탐색 중에 적용하며, 결과는 지정 크기와 가까운 순
+ * - 상품 변경은 작은 변경분(delta)에 모아 조회 시 함께 반영하고, compact-threshold를 넘으면 트리를 다시 만듦
+ *   (조회는 잠금 없이 불변 스냅샷만 읽음)
+ */
+@Slf4j
+@Component
+public class DimensionIndex {
+
+    private static final int DIMENSIONS = 3;
+    private static final long NO_CATEGORY = -1L;
+
+    private final int compactThreshold;
+
+    // 갱신 전용 (synchronized 메서드 안에서만 접근): 상품 ID → 현재 항목
+    private final Map<Long, Entry> all = new HashMap<>();
+
+    private volatile View view = new View(KdTree.build(List.of()), Map.of(), Set.of(), 0);
+
+    public DimensionIndex(@Value("${product.dimension.compact-threshold:500}") int compactThreshold) {
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * 지정 크기 안에 들어가는 상품 ID (지정 크기와 가까운 순 = 공간을 가장 많이 채우는 순)
+     *
+     * @param categoryIds 카테고리 필터 (하위 카테고리 포함 ID 집합, null이면 조건 없음)
+     */
+    public List<Long> fitsWithin(int width, int depth, int height, Collection<Long> categoryIds, int limit) {
+        int[] query = {width, depth, height};
+        return search(query, categoryIds, limit, true);
+    }
+
+    /**
+     * 지정 크기와 비슷한 상품 ID (거리 가까운 순)
+     */
+    public List<Long> nearest(int width, int depth, int height, Collection<Long> categoryIds, int limit) {
+        int[] query = {width, depth, height};
+        return search(query, categoryIds, limit, false);
+    }
+
+    public int size() {
+        return view.size;
+    }
+
+    private List<Long> search(int[] query, Collection<Long> categoryIds, int limit, boolean fitsOnly) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long[] categories = categoryIds != null
+                ? categoryIds.stream().mapToLong(Long::longValue).sorted().toArray()
+                : null;
+        View v = view;
+
+        Collector collector = new Collector(limit);
+        if (fitsOnly) {
+            v.tree.fitsWithin(query, categories, v.stale, collector);
+        } else {
+            v.tree.nearest(query, categories, v.stale, collector);
+        }
+        // 변경분: 직접 비교 (compact-threshold개 이하)
+        for (Entry entry : v.delta.values()) {
+            int[] point = {entry.getWidth(), entry.getDepth(), entry.getHeight()};
+            long category = entry.getCategoryId() != null ? entry.getCategoryId() : NO_CATEGORY;
+            if (matchesCategory(categories, category) && (!fitsOnly || fits(point, query))) {
+                collector.offer(entry.getProductId(), distance(point, query));
+            }
+        }
+        return collector.result();
+    }
+
+    /**
+     * 전체 재구성
+     */
+    public synchronized void rebuild(Collection<Entry> entries) {
+        all.clear();
+        entries.forEach(entry -> all.put(entry.getProductId(), entry));
+        compact();
+        log.info("상품 크기 색인 재구성 완료 - 상품 수: {}", all.size());
+    }
+
+    /**
+     * 상품 1건 추가/변경
+     */
+    public synchronized void upsert(Entry entry) {
+        all.put(entry.getProductId(), entry);
+        View v = view;
+        Map<Long, Entry> delta = new HashMap<>(v.delta);
+        delta.put(entry.getProductId(), entry);
+        Set<Long> stale = new HashSet<>(v.stale);
+        stale.add(entry.getProductId());
+        publish(v.tree, delta, stale);
+    }
+
+    /**
+     * 상품 1건 제거
+     */
+    public synchronized void remove(Long productId) {
+        if (all.remove(productId) == null) {
+            return;
+        }
+        View v = view;
+        Map<Long, Entry> delta = new HashMap<>(v.delta);
+        delta.remove(productId);
+        Set<Long> stale = new HashSet<>(v.stale);
+        stale.add(productId);
+        publish(v.tree, delta, stale);
+    }
+
+    private void publish(KdTree tree, Map<Long, Entry> delta, Set<Long> stale) {
+        if (stale.size() > compactThreshold) {
+            compact();
+            return;
+        }
+        view = new View(tree, Map.copyOf(delta), Set.copyOf(stale), all.size());
+    }
+
+    private void compact() {
+        view = new View(KdTree.build(all.values()), Map.of(), Set.of(), all.size());
+    }
+
+    private static boolean fits(int[] point, int[] query) {
+        return point[0] <= query[0] && point[1] <= query[1] && point[2] <= query[2];
+    }
+
+    private static boolean matchesCategory(long[] categories, long category) {
+        return categories == null || (category != NO_CATEGORY && Arrays.binarySearch(categories, category) >= 0);
+    }
+
+    private static long distance(int[] point, int[] query) {
+        long sum = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            long diff = point[axis] - query[axis];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    /**
+     * 조회용 불변 스냅샷: 트리 + 이후 변경분 + 트리에서 무시할 상품 ID
+     */
+    private static class View {
+        private final KdTree tree;
+        private final Map<Long, Entry> delta;
+        private final Set<Long> stale;
+        // 색인된 상품 수 (stale에는 트리에 없는 상품 ID도 들어갈 수 있어 트리 크기로 계산하지 않음)
+        private final int size;
+
+        private View(KdTree tree, Map<Long, Entry> delta, Set<Long> stale, int size) {
+            this.tree = tree;
+            this.delta = delta;
+            this.stale = stale;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 배열 기반 k-d 트리 (구간 [lo, hi)의 노드 = 가운데 위치, 분할 축 = 깊이 % 3)
+     */
+    private static class KdTree {
+        private final long[] productIds;
+        private final long[] categoryIds;
+        // 위치 i의 치수: coords[i * 3 + axis]
+        private final int[] coords;
+
+        private KdTree(long[] productIds, long[] categoryIds, int[] coords) {
+            this.productIds = productIds;
+            this.categoryIds = categoryIds;
+            this.coords = coords;
+        }
+
+        private static KdTree build(Collection<Entry> entries) {
+            int n = entries.size();
+            long[] productIds = new long[n];
+            long[] categoryIds = new long[n];
+            int[] coords = new int[n * DIMENSIONS];
+            int i = 0;
+            for (Entry entry : entries) {
+                productIds[i] = entry.getProductId();
+                categoryIds[i] = entry.getCategoryId() != null ? entry.getCategoryId() : NO_CATEGORY;
+                coords[i * DIMENSIONS] = entry.getWidth();
+                coords[i * DIMENSIONS + 1] = entry.getDepth();
+                coords[i * DIMENSIONS + 2] = entry.getHeight();
+                i++;
+            }
+            KdTree tree = new KdTree(productIds, categoryIds, coords);
+            tree.arrange(0, n, 0);
+            return tree;
+        }
+
+        // 구간을 분할 축 기준 중앙값으로 나눈 뒤 양쪽을 재귀적으로 정렬
+        private void arrange(int lo, int hi, int depth) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int axis = depth % DIMENSIONS;
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, axis);
+            arrange(lo, mid, depth + 1);
+            arrange(mid + 1, hi, depth + 1);
+        }
+
+        // 빠른 선택(quickselect): 위치 k에 k번째 값이 오고, 왼쪽은 이하/오른쪽은 이상
+        private void select(int left, int right, int k, int axis) {
+            while (left < right) {
+                int pivot = coord((left + right) >>> 1, axis);
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (coord(i, axis) < pivot) {
+                        i++;
+                    }
+                    while (coord(j, axis) > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void fitsWithin(int[] query, long[] categories, Set<Long> stale, Collector collector) {
+            int[] upper = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+            fitsWithin(0, productIds.length, 0, upper, query, categories, stale, collector);
+        }
+
+        // upper: 구간 [lo, hi) 상품 치수의 축별 상한 (지나온 분할 값으로 좁혀짐)
+        private void fitsWithin(int lo, int hi, int depth, int[] upper, int[] query, long[] categories,
+                                Set<Long> stale, Collector collector) {
+            while (lo < hi) {
+                // 구간 안 어떤 상품도 현재 k번째보다 가까울 수 없으면 구간 전체 제외
+                if (collector.isFull() && lowerBound(upper, query) > collector.worstDistance()) {
+                    return;
+                }
+                int axis = depth % DIMENSIONS;
+                int mid = (lo + hi) >>> 1;
+                int split = coord(mid, axis);
+
+                if (split <= query[axis]) {
+                    visit(mid, query, categories, stale, collector, true);
+                    // 오른쪽(분할 값 이상)에도 조건을 만족하는 값이 있을 수 있음 (지정 크기에 가까운 쪽이므로 먼저 탐색)
+                    fitsWithin(mid + 1, hi, depth + 1, upper, query, categories, stale, collector);
+                }
+                // 왼쪽(분할 값 이하)은 항상 탐색, 분할 값이 지정 크기보다 크면 오른쪽은 전부 제외
+                if (split < upper[axis]) {
+                    upper = upper.clone();
+                    upper[axis] = split;
+                }
+                hi = mid;
+                depth++;
+            }
+        }
+
+        // 치수 상한이 upper인 구간에서 지정 크기 안에 들어가는 상품과 지정 크기 사이 거리의 하한
+        private static long lowerBound(int[] upper, int[] query) {
+            long sum = 0;
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                long gap = (long) query[axis] - Math.min(upper[axis], query[axis]);
+                sum += gap * gap;
+            }
+            return sum;
+        }
+
+        private void nearest(int[] query, long[] categories, Set<Long> stale, Collector collector) {
+            nearest(0, productIds.length, 0, query, categories, stale, collector);
+        }
+
+        private void nearest(int lo, int hi, int depth, int[] query, long[] categories,
+                             Set<Long> stale, Collector collector) {
+            if (lo >= hi) {
+                return;
+            }
+            int axis = depth % DIMENSIONS;
+            int mid = (lo + hi) >>> 1;
+            visit(mid, query, categories, stale, collector, false);
+
+            long diff = (long) query[axis] - coord(mid, axis);
+            boolean leftFirst = diff <= 0;
+            if (leftFirst) {
+                nearest(lo, mid, depth + 1, query, categories, stale, collector);
+            } else {
+                nearest(mid + 1, hi, depth + 1, query, categories, stale, collector);
+            }
+            // 분할 평면까지의 거리가 현재 k번째 거리 이하일 때만 반대쪽 탐색 (같은 거리는 ID가 작은 쪽이 앞서므로 포함)
+            if (!collector.isFull() || diff * diff <= collector.worstDistance()) {
+                if (leftFirst) {
+                    nearest(mid + 1, hi, depth + 1, query, categories, stale, collector);
+                } else {
+                    nearest(lo, mid, depth + 1, query, categories, stale, collector);
+                }
+            }
+        }
+
+        private void visit(int position, int[] query, long[] categories, Set<Long> stale,
+                           Collector collector, boolean fitsOnly) {
+            if (fitsOnly && !(coord(position, 0) <= query[0] && coord(position, 1) <= query[1]
+                    && coord(position, 2) <= query[2])) {
+                return;
+            }
+            if (!matchesCategory(categories, categoryIds[position])) {
+                return;
+            }
+            if (!stale.isEmpty() && stale.contains(productIds[position])) {
+                return;
+            }
+            long sum = 0;
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                long diff = coord(position, axis) - query[axis];
+                sum += diff * diff;
+            }
+            collector.offer(productIds[position], sum);
+        }
+
+        private int coord(int position, int axis) {
+            return coords[position * DIMENSIONS + axis];
+        }
+
+        private void swap(int a, int b) {
+            long id = productIds[a];
+            productIds[a] = productIds[b];
+            productIds[b] = id;
+            long category = categoryIds[a];
+            categoryIds[a] = categoryIds[b];
+            categoryIds[b] = category;
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                int coord = coords[a * DIMENSIONS + axis];
+                coords[a * DIMENSIONS + axis] = coords[b * DIMENSIONS + axis];
+                coords[b * DIMENSIONS + axis] = coord;
+            }
+        }
+    }
+
+    /**
+     * 거리 가까운 순 상위 limit개 (최대 힙: 가장 먼 후보가 맨 위)
+     */
+    private static class Collector {
+        private static final Comparator<long[]> FARTHEST_FIRST =
+                Comparator.<long[]>comparingLong(c -> c[1]).thenComparingLong(c -> c[0]).reversed();
+
+        private final int limit;
+        // {상품 ID, 거리}
+        private final PriorityQueue<long[]> heap = new PriorityQueue<>(FARTHEST_FIRST);
+
+        private Collector(int limit) {
+            this.limit = limit;
+        }
+
+        private void offer(long productId, long distance) {
+            if (heap.size() < limit) {
+                heap.add(new long[]{productId, distance});
+                return;
+            }
+            long[] worst = heap.peek();
+            if (distance < worst[1] || (distance == worst[1] && productId < worst[0])) {
+                heap.poll();
+                heap.add(new long[]{productId, distance});
+            }
+        }
+
+        private boolean isFull() {
+            return heap.size() >= limit;
+        }
+
+        private long worstDistance() {
+            return heap.peek()[1];
+        }
+
+        private List<Long> result() {
+            List<long[]> sorted = new ArrayList<>(heap);
+            sorted.sort(FARTHEST_FIRST.reversed());
+            return sorted.stream().map(c -> c[0]).toList();
+        }
+    }
+
+    /**
+     * 색인 대상 상품 치수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Long productId;
+        private final Long categoryId;
+        private final int width;
+        private final int depth;
+        private final int height;
+    }
+}
@@ -0,0 +1,329 @@
+package com.realive.repository.product.search;
+
+import com.realive.dto.page.FacetCountDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색 패싯(카테고리/가격대/판매자) 개수 집계용 메모리 색인
+ * - 상품마다 0부터 시작하는 순번(ordinal)을 부여하고, 순번별 카테고리/판매자/가격/가격대 값을 배열로 보관
+ * - 검색 결과(후보 상품 ID, 카테고리/판매자/가격 필터)를 순번 BitSet으로 만든 뒤 한 번 순회하며 모든 패싯 개수를 동시에 집계
+ *   → 패싯마다 GROUP BY 쿼리를 실행하지 않음
+ * - 색인 내용은 ProductSearchIndexer가 검색 색인과 함께 적재/갱신
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+
+    public static final String CATEGORY = "category";
+    public static final String PRICE_BAND = "priceBand";
+    public static final String SELLER = "seller";
+
+    private static final int NONE = -1;
+
+    // 가격대 경계 (오름차순), 경계 n개 → 가격대 n + 1개
+    private final int[] priceBounds;
+    private final int maxSellers;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+
+    private volatile boolean ready = false;
+
+    public ProductFacetIndex(@Value("${product.facet.price-bands:100000,300000,500000,1000000}") int[] priceBounds,
+                             @Value("${product.facet.max-sellers:20}") int maxSellers) {
+        this.priceBounds = Arrays.stream(priceBounds).sorted().distinct().toArray();
+        this.maxSellers = maxSellers;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재색인 (새 색인을 만든 뒤 교체, 삭제된 상품의 순번도 정리됨)
+     */
+    public void rebuild(Collection<Entry> entries) {
+        State next = new State();
+        for (Entry entry : entries) {
+            next.put(entry, priceBand(entry.getPrice()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = next;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 패싯 색인 재구성 완료 - 상품 수: {}", next.live.cardinality());
+    }
+
+    /**
+     * 상품 1건 색인 (기존 값은 교체)
+     */
+    public void index(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            state.put(entry, priceBand(entry.getPrice()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 1건 색인 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과의 패싯별 개수 집계
+     *
+     * @param productIds  키워드 검색 후보 상품 ID (null이면 키워드 조건 없음 → 전체 상품)
+     * @param categoryIds 카테고리 필터 (하위 카테고리 포함 ID 집합, null이면 조건 없음)
+     * @param sellerId    판매자 필터 (null이면 조건 없음)
+     * @param minPrice    최소 가격 필터 (null이면 조건 없음)
+     * @param maxPrice    최대 가격 필터 (null이면 조건 없음)
+     * @return 패싯 이름(category, priceBand, seller) → 값별 개수 (개수 내림차순, 0건 제외)
+     */
+    public Map<String, List<FacetCountDTO>> count(Collection<Long> productIds, Collection<Long> categoryIds,
+                                                  Long sellerId, Integer minPrice, Integer maxPrice) {
+        lock.readLock().lock();
+        try {
+            State s = state;
+
+            // 검색 결과 집합 (순번 BitSet)
+            BitSet matched;
+            if (productIds != null) {
+                matched = new BitSet(s.size);
+                for (Long productId : productIds) {
+                    Integer ordinal = s.ordinals.get(productId);
+                    if (ordinal != null) {
+                        matched.set(ordinal);
+                    }
+                }
+                matched.and(s.live);
+            } else {
+                matched = (BitSet) s.live.clone();
+            }
+            if (categoryIds != null) {
+                BitSet inCategories = new BitSet(s.size);
+                for (Long categoryId : categoryIds) {
+                    Integer value = s.categories.ordinalOf(categoryId);
+                    if (value != null) {
+                        inCategories.or(s.categoryPostings.get(value));
+                    }
+                }
+                matched.and(inCategories);
+            }
+            if (sellerId != null || minPrice != null || maxPrice != null) {
+                Integer seller = sellerId != null ? s.sellers.ordinalOf(sellerId) : null;
+                if (sellerId != null && seller == null) {
+                    matched.clear();
+                }
+                for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                    if ((seller != null && s.sellerOf[i] != seller)
+                            || (minPrice != null && s.priceOf[i] < minPrice)
+                            || (maxPrice != null && s.priceOf[i] > maxPrice)) {
+                        matched.clear(i);
+                    }
+                }
+            }
+
+            // 결과 집합 한 번 순회로 모든 패싯 집계
+            int[] categoryCounts = new int[s.categories.size()];
+            int[] sellerCounts = new int[s.sellers.size()];
+            int[] bandCounts = new int[priceBounds.length + 1];
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                if (s.categoryOf[i] != NONE) {
+                    categoryCounts[s.categoryOf[i]]++;
+                }
+                if (s.sellerOf[i] != NONE) {
+                    sellerCounts[s.sellerOf[i]]++;
+                }
+                bandCounts[s.bandOf[i]]++;
+            }
+
+            Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+            facets.put(CATEGORY, toCounts(s.categories, categoryCounts, Integer.MAX_VALUE));
+            facets.put(PRICE_BAND, priceBandCounts(bandCounts));
+            facets.put(SELLER, toCounts(s.sellers, sellerCounts, maxSellers));
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int priceBand(int price) {
+        int band = Arrays.binarySearch(priceBounds, price);
+        // 경계값과 같으면 그 경계에서 시작하는 가격대, 아니면 삽입 위치가 가격대 번호
+        return band >= 0 ? band + 1 : -(band + 1);
+    }
+
+    private static List<FacetCountDTO> toCounts(Dictionary dictionary, int[] counts, int limit) {
+        List<FacetCountDTO> result = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                result.add(new FacetCountDTO(String.valueOf(dictionary.ids.get(i)), dictionary.labels.get(i), counts[i]));
+            }
+        }
+        result.sort(Comparator.comparingLong(FacetCountDTO::getCount).reversed()
+                .thenComparing(FacetCountDTO::getLabel, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    // 가격대는 가격 순서대로 (값: "최소-최대", 최대가 없으면 "최소-" → 상품 목록 조회의 priceBand 필터로 그대로 사용)
+    private List<FacetCountDTO> priceBandCounts(int[] counts) {
+        NumberFormat format = NumberFormat.getNumberInstance(Locale.KOREA);
+        List<FacetCountDTO> result = new ArrayList<>();
+        for (int band = 0; band < counts.length; band++) {
+            if (counts[band] == 0) {
+                continue;
+            }
+            Integer min = band == 0 ? null : priceBounds[band - 1];
+            Integer max = band == priceBounds.length ? null : priceBounds[band] - 1;
+            String value = (min != null ? min : 0) + "-" + (max != null ? max : "");
+            String label = (min != null ? format.format(min) + "원" : "") + "~" + (max != null ? format.format(max) + "원" : "");
+            result.add(new FacetCountDTO(value, label, counts[band]));
+        }
+        return result;
+    }
+
+    /**
+     * 색인 상태 (순번 배열, 값 사전, 카테고리별 순번 BitSet)
+     */
+    private static class State {
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private int size = 0;
+
+        private int[] categoryOf = new int[16];
+        private int[] sellerOf = new int[16];
+        private int[] priceOf = new int[16];
+        private int[] bandOf = new int[16];
+
+        private final Dictionary categories = new Dictionary();
+        private final Dictionary sellers = new Dictionary();
+        private final List<BitSet> categoryPostings = new ArrayList<>();
+
+        private void put(Entry entry, int band) {
+            Integer ordinal = ordinals.get(entry.getProductId());
+            if (ordinal == null) {
+                ordinal = size++;
+                ordinals.put(entry.getProductId(), ordinal);
+                ensureCapacity(size);
+            } else {
+                clearCategory(ordinal);
+            }
+
+            int category = entry.getCategoryId() != null
+                    ? categories.ordinalFor(entry.getCategoryId(), entry.getCategoryName()) : NONE;
+            if (category != NONE) {
+                while (categoryPostings.size() <= category) {
+                    categoryPostings.add(new BitSet());
+                }
+                categoryPostings.get(category).set(ordinal);
+            }
+            categoryOf[ordinal] = category;
+            sellerOf[ordinal] = entry.getSellerId() != null
+                    ? sellers.ordinalFor(entry.getSellerId(), entry.getSellerName()) : NONE;
+            priceOf[ordinal] = entry.getPrice();
+            bandOf[ordinal] = band;
+            live.set(ordinal);
+        }
+
+        // 순번은 재구성 전까지 재사용하지 않고 live 비트만 해제
+        private void remove(Long productId) {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal != null) {
+                clearCategory(ordinal);
+                live.clear(ordinal);
+            }
+        }
+
+        private void clearCategory(int ordinal) {
+            if (categoryOf[ordinal] != NONE) {
+                categoryPostings.get(categoryOf[ordinal]).clear(ordinal);
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > categoryOf.length) {
+                int capacity = Math.max(required, categoryOf.length * 2);
+                categoryOf = Arrays.copyOf(categoryOf, capacity);
+                sellerOf = Arrays.copyOf(sellerOf, capacity);
+                priceOf = Arrays.copyOf(priceOf, capacity);
+                bandOf = Arrays.copyOf(bandOf, capacity);
+            }
+        }
+    }
+
+    /**
+     * 패싯 값 사전 (ID ↔ 값 순번, 표시 이름)
+     */
+    private static class Dictionary {
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<Long> ids = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+
+        private int ordinalFor(Long id, String label) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal == null) {
+                ordinal = ids.size();
+                ordinals.put(id, ordinal);
+                ids.add(id);
+                labels.add(label);
+            } else if (label != null) {
+                // 이름 변경 반영 (카테고리명/판매자명)
+                labels.set(ordinal, label);
+            }
+            return ordinal;
+        }
+
+        private Integer ordinalOf(Long id) {
+            return ordinals.get(id);
+        }
+
+        private int size() {
+            return ids.size();
+        }
+    }
+
+    /**
+     * 색인 대상 상품의 패싯 값
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Long productId;
+        private final Long categoryId;
+        private final String categoryName;
+        private final Long sellerId;
+        private final String sellerName;
+        private final int price;
+    }
+}
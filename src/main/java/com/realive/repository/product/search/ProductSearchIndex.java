@@ -0,0 +1,285 @@
+package com.realive.repository.product.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색용 메모리 역색인
+ * - 상품명/설명/카테고리명/판매자명을 필드별 n-gram 역색인으로 보관하여 LIKE '%키워드%' 전체 스캔을 대체
+ * - 검색 결과는 일치하는 상품 ID 전체(관련도 순)이며, 나머지 조건(활성 여부, 가격, 카테고리 등)과 DTO 변환은 기존 QueryDSL 쿼리가 담당
+ * - 결과를 자르지 않으므로 이후 DB 조건(판매자, 카테고리, 정렬, 개수)이 잘린 후보 집합 위에서 계산되지 않음
+ * - 색인 내용은 ProductSearchIndexer가 시작 시 전체 적재하고, 상품 변경 이벤트로 갱신
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    /**
+     * 색인 필드 (관련도 가중치)
+     */
+    public enum Field {
+        NAME(3.0),
+        DESCRIPTION(1.0),
+        CATEGORY(2.0),
+        SELLER(1.5);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    // 후보 ID를 IN 조건으로 넘길 수 있는 최대 개수 (초과하면 호출 측에서 LIKE 조건 사용)
+    private final int maxIdFilterSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 필드별 역색인: term -> (productId -> 출현 횟수)
+    private Map<Field, Map<String, Map<Long, Integer>>> postings = emptyPostings();
+
+    // 상품별 필드 토큰 수 (재색인 시 기존 posting 제거 및 길이 정규화용)
+    private Map<Long, Map<Field, Map<String, Integer>>> documents = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public ProductSearchIndex(@Value("${product.search.max-id-filter:5000}") int maxIdFilterSize) {
+        this.maxIdFilterSize = maxIdFilterSize;
+    }
+
+    /**
+     * 전체 적재가 한 번이라도 끝났는지 여부 (false면 호출 측에서 기존 LIKE 조건으로 처리)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재색인 (새 색인을 만든 뒤 교체)
+     */
+    public void rebuild(Collection<Document> docs) {
+        Map<Field, Map<String, Map<Long, Integer>>> nextPostings = emptyPostings();
+        Map<Long, Map<Field, Map<String, Integer>>> nextDocuments = new HashMap<>();
+        for (Document doc : docs) {
+            addInternal(nextPostings, nextDocuments, doc);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = nextPostings;
+            documents = nextDocuments;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 검색 색인 재구성 완료 - 상품 수: {}", nextDocuments.size());
+    }
+
+    /**
+     * 상품 1건 색인 (기존 색인 내용은 교체)
+     */
+    public void index(Document doc) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(doc.getProductId());
+            addInternal(postings, documents, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 1건 색인 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     * - 지정한 필드 중 하나라도 키워드의 모든 n-gram을 포함하면 후보 (기존 필드별 contains OR 조건과 동일한 의미)
+     * - 관련도: 필드 가중치 × Σ(출현 횟수 × idf) / √(필드 토큰 수)
+     *
+     * @return 일치하는 상품 ID 전체 (관련도 순)
+     */
+    public SearchResult search(String keyword, Collection<Field> fields) {
+        Set<String> terms = SearchTokenizer.queryTokens(keyword);
+        if (terms.isEmpty() || fields.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int totalDocs = Math.max(documents.size(), 1);
+            for (Field field : fields) {
+                Map<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+                List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    Map<Long, Integer> list = fieldPostings.get(term);
+                    if (list == null) {
+                        lists = null;
+                        break;
+                    }
+                    lists.add(list);
+                }
+                if (lists == null) {
+                    continue;
+                }
+
+                // 가장 짧은 posting부터 교집합
+                lists.sort(Comparator.comparingInt(Map::size));
+                for (Long productId : lists.get(0).keySet()) {
+                    double score = 0;
+                    boolean matched = true;
+                    for (Map<Long, Integer> list : lists) {
+                        Integer tf = list.get(productId);
+                        if (tf == null) {
+                            matched = false;
+                            break;
+                        }
+                        score += tf * Math.log(1.0 + (double) totalDocs / list.size());
+                    }
+                    if (matched) {
+                        int length = documents.get(productId).get(field).values().stream().mapToInt(Integer::intValue).sum();
+                        scores.merge(productId, field.weight * score / Math.sqrt(Math.max(length, 1)), Double::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        return new SearchResult(ranked, ranked.size() <= maxIdFilterSize);
+    }
+
+    private static void addInternal(Map<Field, Map<String, Map<Long, Integer>>> postings,
+                                    Map<Long, Map<Field, Map<String, Integer>>> documents,
+                                    Document doc) {
+        Map<Field, Map<String, Integer>> fieldTerms = new EnumMap<>(Field.class);
+        putTerms(fieldTerms, Field.NAME, doc.getName());
+        putTerms(fieldTerms, Field.DESCRIPTION, doc.getDescription());
+        putTerms(fieldTerms, Field.CATEGORY, doc.getCategoryName());
+        putTerms(fieldTerms, Field.SELLER, doc.getSellerName());
+
+        for (Map.Entry<Field, Map<String, Integer>> e : fieldTerms.entrySet()) {
+            Map<String, Map<Long, Integer>> fieldPostings = postings.get(e.getKey());
+            e.getValue().forEach((term, tf) ->
+                    fieldPostings.computeIfAbsent(term, k -> new HashMap<>()).put(doc.getProductId(), tf));
+        }
+        documents.put(doc.getProductId(), fieldTerms);
+    }
+
+    private static void putTerms(Map<Field, Map<String, Integer>> fieldTerms, Field field, String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : SearchTokenizer.indexTokens(text)) {
+            counts.merge(token, 1, Integer::sum);
+        }
+        fieldTerms.put(field, counts);
+    }
+
+    private void removeInternal(Long productId) {
+        Map<Field, Map<String, Integer>> fieldTerms = documents.remove(productId);
+        if (fieldTerms == null) {
+            return;
+        }
+        for (Map.Entry<Field, Map<String, Integer>> e : fieldTerms.entrySet()) {
+            Map<String, Map<Long, Integer>> fieldPostings = postings.get(e.getKey());
+            for (String term : e.getValue().keySet()) {
+                Map<Long, Integer> list = fieldPostings.get(term);
+                if (list != null) {
+                    list.remove(productId);
+                    if (list.isEmpty()) {
+                        fieldPostings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<Field, Map<String, Map<Long, Integer>>> emptyPostings() {
+        Map<Field, Map<String, Map<Long, Integer>>> map = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            map.put(field, new HashMap<>());
+        }
+        return map;
+    }
+
+    /**
+     * 색인 대상 문서 (상품의 검색 대상 텍스트)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Document {
+        private final Long productId;
+        private final String name;
+        private final String description;
+        private final String categoryName;
+        private final String sellerName;
+    }
+
+    /**
+     * 검색 결과 (일치하는 상품 ID 전체, 관련도 순)
+     */
+    public static class SearchResult {
+        private static final SearchResult EMPTY = new SearchResult(Collections.emptyList(), true);
+
+        @Getter
+        private final List<Long> productIds;
+        private final boolean idFilterable;
+        private final Map<Long, Integer> ranks = new HashMap<>();
+
+        SearchResult(List<Long> productIds, boolean idFilterable) {
+            this.productIds = productIds;
+            this.idFilterable = idFilterable;
+            for (int i = 0; i < productIds.size(); i++) {
+                ranks.put(productIds.get(i), i);
+            }
+        }
+
+        public boolean isEmpty() {
+            return productIds.isEmpty();
+        }
+
+        /**
+         * 상품 ID 전체를 IN 조건으로 넘겨도 되는 크기인지 여부 (product.search.max-id-filter 이하)
+         * - false면 호출 측에서 같은 키워드의 LIKE 조건으로 결과 집합을 구하고, 이 결과는 관련도 정렬에만 사용
+         */
+        public boolean isIdFilterable() {
+            return idFilterable;
+        }
+
+        /**
+         * 관련도 순 정렬용 비교자 (검색 결과에 없는 ID는 뒤로)
+         */
+        public <T> Comparator<T> byRank(Function<T, Long> idExtractor) {
+            return Comparator.comparingInt(item -> ranks.getOrDefault(idExtractor.apply(item), Integer.MAX_VALUE));
+        }
+    }
+}
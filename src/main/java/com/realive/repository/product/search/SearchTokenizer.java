@@ -0,0 +1,77 @@
+package com.realive.repository.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * - 한국어는 띄어쓰기 없이 붙여 쓰는 복합 명사가 많아("원목식탁", "3인용소파") 형태소 분석 대신 문자 n-gram 사용
+ * - 색인: 문자 단위 unigram + bigram, 질의: 두 글자 이상이면 bigram, 한 글자면 unigram
+ *   → "식탁" 질의는 "원목식탁"에, "책" 질의는 "책상"에 매칭됨
+ * - NFKC 정규화 + 소문자 변환으로 전각/반각, 대소문자 차이를 무시
+ */
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (중복 포함, 출현 횟수 계산용)
+     */
+    static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 질의용 토큰 (중복 제거)
+     */
+    static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 정규화 후 문자/숫자 연속 구간 단위로 분리 (공백, 문장부호는 구분자)
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
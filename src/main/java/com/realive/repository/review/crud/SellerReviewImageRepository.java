@@ -2,6 +2,8 @@ package com.realive.repository.review.crud;
 
 import com.realive.domain.review.SellerReviewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,7 +15,7 @@ public interface SellerReviewImageRepository extends JpaRepository<SellerReviewI
     // ReviewServiceImpl에서 업데이트 후, 또는 삭제 전 이미지 URL을 가져오기 위함
     List<SellerReviewImage> findByReview_Id(Long reviewId); // SellerReview 엔티티의 ID를 매핑
 
-    // 스케줄러에서 DB에 저장된 모든 이미지 URL을 가져오기 위한 쿼리 (필요시 추가)
-    // @Query("SELECT s.imageUrl FROM SellerReviewImage s")
-    // List<String> findAllImageUrls();
+    // 업로드 파일 정리 스케줄러에서 참조 중인 이미지 URL을 가져오기 위한 쿼리 (경로 접두사로 제한)
+    @Query("SELECT s.imageUrl FROM SellerReviewImage s WHERE s.imageUrl LIKE CONCAT(:prefix, '%')")
+    List<String> findImageUrlsStartingWith(@Param("prefix") String prefix);
 }
\ No newline at end of file
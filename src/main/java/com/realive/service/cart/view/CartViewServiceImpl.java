@@ -35,13 +35,12 @@ public class CartViewServiceImpl implements CartViewService {
         // Cart에 있는 Product들의 Id를 productIds에 담기
         List<Long> productIds = cartItems.stream()
                 .map(cartItem -> cartItem.getProduct().getId())
+                .distinct() // 중복 ID 제거
                 .collect(Collectors.toList());
 
-                // 상품 ID를 키로, 상품 상세 정보(ProductResponseDTO)를 값으로 하는 Map 생성
-                Map<Long, ProductResponseDTO> productDetailMap = productIds.stream()
-                .distinct() // 중복 ID 제거
-                .map(id -> productViewRepository.findProductDetailById(id).orElse(null))
-                .filter(dto -> dto != null)
+        // 상품 ID를 키로, 상품 상세 정보(ProductResponseDTO)를 값으로 하는 Map 생성
+        // 상품 수와 관계없이 일괄 조회 (상품/카테고리/판매자/배송정책 조인 1회 + 썸네일 캐시 미적중분 1회)
+        Map<Long, ProductResponseDTO> productDetailMap = productViewRepository.findProductDetailsByIds(productIds).stream()
                 .collect(Collectors.toMap(ProductResponseDTO::getId, dto -> dto));
         // 장바구니 항목을 상품 상세 정보와 결합해 CartItemResponseDTO 리스트로 변환
         List<CartItemResponseDTO> itemDTOs = cartItems.stream()
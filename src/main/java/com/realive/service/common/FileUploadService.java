@@ -1,23 +1,146 @@
 package com.realive.service.common;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * MultipartFile을 서버의 로컬 디렉토리에 저장하고,
  * 저장된 경로를 문자열로 반환하는 파일 업로드 서비스
+ * - 내용 주소 저장 대상 카테고리(기본: product)는 SHA-256 해시로 한 번만 저장 (/uploads/blobs/ab/cd/{hash}.{ext})
+ *   → 같은 사진을 여러 상품에 올리거나 수정 시 다시 올려도 디스크 쓰기 없이 기존 파일 경로 반환
+ * - 참조가 없어진 blob은 UploadBlobCollector가 주기적으로 정리
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileUploadService {
 
     // 실제 업로드 디렉토리 (프로젝트 외부 경로로 권장)
     private static final String UPLOAD_DIR = System.getProperty("user.dir") + "/uploads/";
+    private static final String URL_PREFIX = "/uploads/";
+    public static final String BLOB_URL_PREFIX = URL_PREFIX + "blobs/";
+
+    private static final Pattern BLOB_NAME = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]{1,10})?$");
+    private static final Pattern EXTENSION = Pattern.compile("^[a-z0-9]{1,10}$");
+
+    // 내용 주소 저장 대상 카테고리
+    private final Set<String> contentAddressedCategories;
+
+    // 여러 파일 동시 저장용 작업자 풀 (전체 동시 쓰기 수 제한) 및 요청당 최대 동시 저장 수
+    private final ExecutorService uploadExecutor;
+    private final int perRequestParallelism;
+
+    public FileUploadService(@Value("${uploads.content-addressed-categories:product}") Set<String> contentAddressedCategories,
+                             @Value("${uploads.parallel.threads:8}") int threads,
+                             @Value("${uploads.parallel.per-request:4}") int perRequestParallelism) {
+        this.contentAddressedCategories = contentAddressedCategories;
+        this.perRequestParallelism = Math.max(1, perRequestParallelism);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "file-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    /**
+     * 여러 MultipartFile을 동시에 저장하고, 입력 순서대로 저장 경로 반환
+     * - 요청당 동시 저장 수는 uploads.parallel.per-request로 제한 (한 요청이 작업자 풀을 독점하지 않도록)
+     * - 하나라도 실패하면 남은 저장을 취소하고, 이번 요청에서 저장한 파일을 삭제한 뒤 예외 (전부 저장 또는 전부 취소)
+     *   (내용 주소 저장 blob은 다른 상품과 공유될 수 있으므로 삭제하지 않고 정리 스케줄러에 맡김)
+     * @param files 업로드할 파일 목록 (비어 있는 파일은 건너뜀)
+     * @return 저장된 파일의 상대 경로 목록 (/uploads/...)
+     */
+    public List<String> uploadAll(List<MultipartFile> files, String category, Long sellerId) {
+        List<MultipartFile> targets = files == null ? List.of() : files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+        if (targets.size() <= 1) {
+            return targets.stream().map(file -> upload(file, category, sellerId)).toList();
+        }
+
+        Semaphore permits = new Semaphore(perRequestParallelism);
+        List<Future<String>> futures = new ArrayList<>(targets.size());
+        try {
+            for (MultipartFile file : targets) {
+                permits.acquire();
+                futures.add(uploadExecutor.submit(() -> {
+                    try {
+                        return upload(file, category, sellerId);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<String> urls = new ArrayList<>(targets.size());
+            for (Future<String> future : futures) {
+                urls.add(future.get());
+            }
+            return urls;
+        } catch (InterruptedException | ExecutionException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            discard(futures);
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("파일 업로드 실패: " + cause.getMessage());
+        }
+    }
+
+    // 실패한 일괄 업로드 정리: 시작 전인 저장은 취소하고, 진행 중인 저장은 끝날 때까지 기다린 뒤 삭제 (blob 제외)
+    private void discard(List<Future<String>> futures) {
+        futures.forEach(future -> future.cancel(false));
+        for (Future<String> future : futures) {
+            if (future.isCancelled()) {
+                continue;
+            }
+            try {
+                String url = future.get();
+                if (!url.startsWith(BLOB_URL_PREFIX)) {
+                    Files.deleteIfExists(toLocalPath(url));
+                }
+            } catch (Exception ignored) {
+                // 실패한 저장 또는 삭제 실패는 무시
+            }
+        }
+    }
 
     /**
      * MultipartFile을 저장하고, 저장 경로 반환
@@ -29,6 +152,10 @@ public class FileUploadService {
             throw new RuntimeException("업로드할 파일이 존재하지 않습니다.");
         }
 
+        if (contentAddressedCategories.contains(category)) {
+            return storeBlob(file);
+        }
+
         // 고유한 파일명 생성
         String originalFilename = file.getOriginalFilename();
         String uuid = UUID.randomUUID().toString();
@@ -54,6 +181,190 @@ public class FileUploadService {
         return "/uploads/" + subDirPath + newFilename;
     }
     
+    /**
+     * 내용 주소 저장: 해시를 먼저 계산하고, 같은 내용의 blob이 없을 때만 저장
+     * - 임시 파일에 쓴 뒤 원자적으로 이동하여, 동시에 같은 파일을 올려도 완성된 파일만 보이도록 함
+     * - 기존 blob을 재사용하면 수정 시각을 갱신하여 정리 유예 기간 동안 삭제되지 않도록 함
+     */
+    private String storeBlob(MultipartFile file) {
+        try {
+            String hash;
+            try (InputStream in = file.getInputStream()) {
+                hash = sha256(in);
+            }
+            String filename = hash + extensionOf(file.getOriginalFilename());
+            String url = BLOB_URL_PREFIX + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + filename;
+            Path dest = toLocalPath(url);
+
+            // 확인과 갱신을 한 번에: 그 사이 정리 작업이 삭제했으면(NoSuchFileException) 없는 것으로 보고 새로 저장
+            try {
+                Files.setLastModifiedTime(dest, FileTime.fromMillis(System.currentTimeMillis()));
+                return url;
+            } catch (NoSuchFileException e) {
+                // 아래에서 저장
+            }
+
+            Files.createDirectories(dest.getParent());
+            Path temp = Files.createTempFile(dest.getParent(), filename, ".tmp");
+            try {
+                try (InputStream in = file.getInputStream()) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                try {
+                    Files.move(temp, dest, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // 다른 요청이 같은 내용을 먼저 저장한 경우
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return url;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 내용 주소 저장 파일의 해시 (blob이 아니면 null)
+     * @param url 업로드 경로 (/uploads/...)
+     */
+    public String contentHash(String url) {
+        if (url == null || !url.startsWith(BLOB_URL_PREFIX)) {
+            return null;
+        }
+        Matcher matcher = BLOB_NAME.matcher(url.substring(url.lastIndexOf('/') + 1));
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 참조되지 않는 blob 정리
+     * - blob 디렉토리의 모든 파일(원본, 축소 이미지) 중 참조 목록에 없고 유예 기간보다 오래된 파일 삭제
+     * @param referencedUrls 현재 참조 중인 업로드 경로
+     * @param gracePeriod    업로드 후 참조가 저장되기 전까지 보호할 기간
+     * @return 삭제한 파일 수
+     */
+    public int deleteUnreferencedBlobs(Set<String> referencedUrls, Duration gracePeriod) {
+        Path root = Paths.get(UPLOAD_DIR).toAbsolutePath().normalize().resolve("blobs");
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        long cutoff = System.currentTimeMillis() - gracePeriod.toMillis();
+        List<Path> candidates = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String url = BLOB_URL_PREFIX + root.relativize(path).toString().replace(File.separatorChar, '/');
+                if (!referencedUrls.contains(url) && Files.getLastModifiedTime(path).toMillis() <= cutoff) {
+                    candidates.add(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 정리 실패: " + e.getMessage());
+        }
+
+        int deleted = 0;
+        for (Path path : candidates) {
+            try {
+                if (deleteIfStale(path, cutoff)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("blob 삭제 실패 - {}", path, e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 삭제 직전에 수정 시각을 다시 확인하여, 목록을 만든 뒤 재사용(storeBlob, 축소 이미지 재사용)된 파일은 남김
+     * - 먼저 다른 이름으로 옮긴 뒤 확인하므로, 옮긴 이후의 재사용 요청은 파일이 없는 것으로 보고 새로 저장함
+     *   (확인과 삭제 사이에 갱신되어도 지워지는 경우가 없음)
+     * @return 삭제했으면 true
+     */
+    private static boolean deleteIfStale(Path path, long cutoff) throws IOException {
+        Path trash = path.resolveSibling(path.getFileName() + ".gc");
+        try {
+            Files.move(path, trash, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (Files.getLastModifiedTime(trash).toMillis() > cutoff) {
+            // 옮기는 사이 같은 내용이 다시 저장되었으면 그 파일을 유지
+            try {
+                Files.move(trash, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(trash);
+            }
+            return false;
+        }
+        Files.delete(trash);
+        return true;
+    }
+
+    private static String sha256(InputStream in) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 확장자는 영문 소문자/숫자만 유지 (응답 Content-Type 판단용), 그 외에는 생략
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null || originalFilename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String ext = originalFilename.substring(originalFilename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? "." + ext : "";
+    }
+
+    /**
+     * 업로드 경로(/uploads/...)를 실제 파일 경로로 변환
+     * @param url upload()가 반환한 경로
+     * @return 업로드 디렉토리 안의 파일 경로
+     */
+    public Path toLocalPath(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            throw new IllegalArgumentException("업로드 경로가 아닙니다: " + url);
+        }
+        Path root = Paths.get(UPLOAD_DIR).toAbsolutePath().normalize();
+        Path path = root.resolve(url.substring(URL_PREFIX.length())).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("업로드 경로가 아닙니다: " + url);
+        }
+        return path;
+    }
+
+    /**
+     * 기존 업로드 파일과 같은 디렉토리에 파생 파일(축소 이미지 등) 저장
+     * - 임시 파일에 쓴 뒤 원자적으로 옮기므로 읽는 쪽에서 쓰다 만 파일을 보지 않음 (같은 이름이 있으면 교체)
+     * @param url      기준 파일 경로 (/uploads/...)
+     * @param filename 저장할 파일명
+     * @param content  파일 내용
+     * @return 저장된 파일의 상대 경로 (/uploads/...)
+     */
+    public String storeSibling(String url, String filename, byte[] content) {
+        Path dest = toLocalPath(url).resolveSibling(filename);
+        try {
+            Path temp = Files.createTempFile(dest.getParent(), filename, ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, dest, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage());
+        }
+        return url.substring(0, url.lastIndexOf('/') + 1) + filename;
+    }
+
     /**
      * 파일이 존재하면 삭제
      * @param sellerId 판매자 ID
@@ -0,0 +1,67 @@
+package com.realive.service.common;
+
+import com.realive.repository.product.ProductImageRepository;
+import com.realive.repository.review.crud.SellerReviewImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내용 주소 저장(blob) 파일 정리
+ * - ProductImage(원본, 목록용, 축소 이미지)와 SellerReviewImage가 참조하는 blob 경로별 참조 수를 집계
+ * - 참조 수가 0이고 유예 기간보다 오래된 blob 파일을 삭제
+ * - 유예 기간: 업로드 직후 아직 DB에 참조가 저장되지 않은 파일, 이미지 처리 중인 축소 이미지 보호
+ */
+@Slf4j
+@Component
+public class UploadBlobCollector {
+
+    private final FileUploadService fileUploadService;
+    private final ProductImageRepository productImageRepository;
+    private final SellerReviewImageRepository sellerReviewImageRepository;
+    private final Duration gracePeriod;
+
+    public UploadBlobCollector(FileUploadService fileUploadService,
+                               ProductImageRepository productImageRepository,
+                               SellerReviewImageRepository sellerReviewImageRepository,
+                               @Value("${uploads.blob-gc.grace-hours:24}") long graceHours) {
+        this.fileUploadService = fileUploadService;
+        this.productImageRepository = productImageRepository;
+        this.sellerReviewImageRepository = sellerReviewImageRepository;
+        this.gracePeriod = Duration.ofHours(graceHours);
+    }
+
+    @Scheduled(initialDelayString = "${uploads.blob-gc.interval-ms:21600000}",
+            fixedDelayString = "${uploads.blob-gc.interval-ms:21600000}")
+    public void collect() {
+        try {
+            Map<String, Integer> referenceCounts = referenceCounts();
+            int deleted = fileUploadService.deleteUnreferencedBlobs(referenceCounts.keySet(), gracePeriod);
+            log.info("업로드 blob 정리 완료 - 참조 중인 blob: {}, 삭제: {}", referenceCounts.size(), deleted);
+        } catch (Exception e) {
+            log.error("업로드 blob 정리 실패", e);
+        }
+    }
+
+    /**
+     * blob 경로별 참조 수 (같은 사진을 여러 상품/리뷰가 공유하면 2 이상)
+     */
+    public Map<String, Integer> referenceCounts() {
+        String prefix = FileUploadService.BLOB_URL_PREFIX;
+        Map<String, Integer> counts = new HashMap<>();
+        for (List<String> urls : List.of(
+                productImageRepository.findUrlsStartingWith(prefix),
+                productImageRepository.findListUrlsStartingWith(prefix),
+                productImageRepository.findVariantUrlsStartingWith(prefix),
+                sellerReviewImageRepository.findImageUrlsStartingWith(prefix))) {
+            urls.forEach(url -> counts.merge(url, 1, Integer::sum));
+        }
+        return counts;
+    }
+}
@@ -12,6 +12,8 @@ import com.realive.dto.product.ProductListDTO;
 import com.realive.dto.product.ProductResponseDTO;
 import com.realive.repository.customer.productview.ProductDetail;
 import com.realive.repository.customer.productview.ProductSearch;
+import com.realive.serviceimpl.product.ProductDetailCache;
+import com.realive.serviceimpl.product.ProductViewCounter;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.log4j.Log4j2;
@@ -25,12 +27,18 @@ public class ProductViewServiceImpl implements ProductViewService {
 
     private final ProductSearch productSearch;
     private final ProductDetail productDetail;
+    private final ProductDetailCache productDetailCache;
+    private final ProductViewCounter productViewCounter;
 
     public ProductViewServiceImpl(
             @Qualifier("productSearchImpl") ProductSearch productSearch,
-            @Qualifier("productDetailImpl") ProductDetail productDetail) {
+            @Qualifier("productDetailImpl") ProductDetail productDetail,
+            ProductDetailCache productDetailCache,
+            ProductViewCounter productViewCounter) {
         this.productSearch = productSearch;
         this.productDetail = productDetail;
+        this.productDetailCache = productDetailCache;
+        this.productViewCounter = productViewCounter;
     }
 
     @Override
@@ -40,8 +48,14 @@ public class ProductViewServiceImpl implements ProductViewService {
 
     @Override
     public ProductResponseDTO getProductDetail(Long id) {
-        return productDetail.findProductDetailById(id)
-                .orElseThrow(() -> new EntityNotFoundException("해당 상품이 존재하지 않습니다. id=" + id));
+        ProductResponseDTO detail = productDetailCache.getCustomerView(id,
+                productId -> productDetail.findProductDetailById(productId).orElse(null));
+        if (detail == null) {
+            throw new EntityNotFoundException("해당 상품이 존재하지 않습니다. id=" + id);
+        }
+        // 조회수는 메모리 카운터에만 기록 (주기적으로 DB 반영)
+        productViewCounter.record(id);
+        return detail;
     }
 
 }
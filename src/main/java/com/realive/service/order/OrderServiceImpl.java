@@ -2,7 +2,6 @@ package com.realive.service.order;
 
 import com.realive.domain.common.enums.DeliveryStatus;
 import com.realive.domain.common.enums.DeliveryType;
-import com.realive.domain.common.enums.MediaType;
 import com.realive.domain.common.enums.OrderStatus;
 import com.realive.domain.common.enums.PaymentType;
 import com.realive.domain.customer.Customer;
@@ -17,8 +16,8 @@ import com.realive.repository.order.OrderDeliveryRepository;
 import com.realive.repository.order.OrderItemRepository;
 import com.realive.repository.order.OrderRepository;
 import com.realive.repository.product.DeliveryPolicyRepository;
-import com.realive.repository.product.ProductImageRepository;
 import com.realive.repository.product.ProductRepository;
+import com.realive.repository.product.ProductThumbnailResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -29,7 +28,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -46,7 +44,7 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
-    private final ProductImageRepository productImageRepository;
+    private final ProductThumbnailResolver productThumbnailResolver;
     private final DeliveryPolicyRepository deliveryPolicyRepository;
     private final CustomerRepository customerRepository;
     private final OrderDeliveryRepository orderDeliveryRepository;
@@ -68,12 +66,7 @@ public class OrderServiceImpl implements OrderService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        Map<Long, String> thumbnailUrls = productImageRepository.findThumbnailUrlsByProductIds(productIdsInOrder, MediaType.IMAGE)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (String) arr[1]
-                ));
+        Map<Long, String> thumbnailUrls = productThumbnailResolver.resolveAll(productIdsInOrder);
 
         // DeliveryPolicyRepository에 findByProductIds가 없으므로 findAll 후 필터링
         Map<Long, DeliveryPolicy> deliveryPoliciesByProductId = deliveryPolicyRepository.findAll().stream()
@@ -142,12 +135,7 @@ public class OrderServiceImpl implements OrderService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        Map<Long, String> thumbnailUrls = productImageRepository.findThumbnailUrlsByProductIds(productIds, MediaType.IMAGE)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (String) arr[1]
-                ));
+        Map<Long, String> thumbnailUrls = productThumbnailResolver.resolveAll(productIds);
 
         // DeliveryPolicyRepository에 findByProductIds가 없으므로 findAll 후 필터링
         Map<Long, DeliveryPolicy> deliveryPoliciesByProductId = deliveryPolicyRepository.findAll().stream()
@@ -563,11 +551,7 @@ public class OrderServiceImpl implements OrderService {
         }
 
         // 상품 이미지 URL 조회
-        String imageUrl = productImageRepository.findThumbnailUrlsByProductIds(Collections.singletonList(productId), MediaType.IMAGE)
-                .stream()
-                .findFirst()
-                .map(arr -> (String) arr[1])
-                .orElse(null);
+        String imageUrl = productThumbnailResolver.resolve(productId);
 
         // 총 상품 가격 계산
         int totalProductPrice = product.getPrice() * quantity;
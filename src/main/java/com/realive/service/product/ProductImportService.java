@@ -0,0 +1,20 @@
+package com.realive.service.product;
+
+import com.realive.dto.product.ProductImportResultDTO;
+
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+    /**
+     * 상품 CSV 대량 등록
+     * - 첫 행은 헤더 (name, description, price 필수 / stock, width, depth, height, status, categoryId, active,
+     *   deliveryType, deliveryCost, regionLimit 선택, 순서 무관)
+     * - 형식/카테고리 검증에 실패한 행은 건너뛰고 결과에 줄 번호와 함께 보고
+     * - 배치 단위로 커밋되므로, 도중에 중단되어도 이미 처리된 배치는 등록된 상태로 유지
+     * - 이미지는 포함하지 않으며, 등록 후 상품 수정으로 추가
+     *
+     * @throws IllegalArgumentException 존재하지 않는 판매자, 빈 파일, 헤더 누락/오류
+     */
+    ProductImportResultDTO importCsv(InputStream csv, Long sellerId);
+}
@@ -2,6 +2,7 @@ package com.realive.service.product;
 
 import com.realive.dto.page.PageResponseDTO;
 import com.realive.dto.product.CustomerProductSearchCondition;
+import com.realive.dto.product.DimensionSearchCondition;
 import com.realive.dto.product.ProductListDTO;
 import com.realive.dto.product.ProductRequestDTO;
 import com.realive.dto.product.ProductResponseDTO;
@@ -46,6 +47,25 @@ public interface ProductService {
      */
     PageResponseDTO<ProductListDTO> getVisibleProducts(CustomerProductSearchCondition condition);
 
+    /**
+     * 함께 구매한 상품 목록 (판매중인 상품만, 함께 구매한 주문 수 내림차순)
+     * - 주기적으로 계산된 모델에서 조회하며, 모델에 없는 상품은 빈 목록
+     */
+    List<ProductListDTO> getFrequentlyBoughtTogether(Long productId, int limit);
+
+    /**
+     * 조회수 많은 상품 목록 (판매중인 상품만, 조회수 내림차순)
+     * - 조회수는 주기적으로 반영되므로 최근 몇 초의 조회는 포함되지 않을 수 있음
+     */
+    List<ProductListDTO> getMostViewedProducts(int limit);
+
+    /**
+     * 가구 크기 검색 (판매중이고 가로/깊이/높이가 모두 입력된 상품만)
+     *
+     * @throws IllegalArgumentException 치수 누락 또는 0 이하
+     */
+    List<ProductListDTO> searchByDimensions(DimensionSearchCondition condition);
+
     /**
      * 관리자용 전체 상품 목록 조회
      * - 모든 판매자의 상품을 조회
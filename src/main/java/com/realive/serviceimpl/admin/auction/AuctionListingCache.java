@@ -0,0 +1,245 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.dto.auction.AuctionResponseDTO;
+import com.realive.event.AuctionChangedEvent;
+import com.realive.event.BidPlacedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중/시작 예정 경매 목록의 메모리 스냅샷
+ * - 스냅샷은 AuctionServiceImpl의 주기 작업에서 통째로 재구성되며, 생성 이후 변경되지 않음
+ * - 입찰 발생 시에는 현재가(및 마감 연장 시 마감 시간)만 별도 맵에 덮어써서 응답에 반영 (스냅샷 재구성 없이)
+ * - 스냅샷으로 처리할 수 없는 조회(종료 경매, 지원하지 않는 정렬 등)는 Optional.empty()를 반환하여 DB 조회로 위임
+ */
+@Slf4j
+@Component
+public class AuctionListingCache {
+
+    private final long refreshIntervalMillis;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 스냅샷 이후 입찰로 갱신된 현재가 (auctionId -> currentPrice)
+    private final Map<Integer, Integer> patchedPrices = new ConcurrentHashMap<>();
+
+    // 스냅샷 이후 마감 연장(soft-close)으로 늦춰진 마감 시간 (auctionId -> endTime)
+    private final Map<Integer, LocalDateTime> patchedEndTimes = new ConcurrentHashMap<>();
+
+    // 경매 등록/수정/취소 등으로 즉시 재구성이 필요한지 여부
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    public AuctionListingCache(@Value("${auction.listing.refresh-interval-ms:30000}") long refreshIntervalMillis) {
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * 재구성이 필요하면 재구성 시작을 표시하고 true 반환
+     * - DB 조회 전에 플래그를 내려야, 조회 도중 발생한 변경 이벤트가 다음 주기에 다시 반영됨
+     */
+    public boolean tryBeginRefresh() {
+        boolean expired = System.currentTimeMillis() - snapshot.getBuiltAt() >= refreshIntervalMillis;
+        return stale.getAndSet(false) || expired;
+    }
+
+    /**
+     * 재구성 실패 시 다음 주기에 다시 시도하도록 표시
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    /**
+     * 새 스냅샷으로 교체
+     * - 새 스냅샷에 이미 반영된(또는 목록에서 사라진) 경매의 덮어쓴 현재가/마감 시간은 제거
+     */
+    void replace(List<Entry> entries) {
+        Snapshot next = new Snapshot(List.copyOf(entries), System.currentTimeMillis());
+        snapshot = next;
+
+        Map<Integer, Integer> basePrices = next.getEntries().stream()
+                .collect(Collectors.toMap(e -> e.getAuction().getId(), e -> e.getAuction().getCurrentPrice(), (a, b) -> a));
+        patchedPrices.entrySet().removeIf(e -> {
+            Integer base = basePrices.get(e.getKey());
+            return base == null || base >= e.getValue();
+        });
+
+        Map<Integer, LocalDateTime> baseEndTimes = next.getEntries().stream()
+                .collect(Collectors.toMap(e -> e.getAuction().getId(), e -> e.getAuction().getEndTime(), (a, b) -> a));
+        patchedEndTimes.entrySet().removeIf(e -> {
+            LocalDateTime base = baseEndTimes.get(e.getKey());
+            return base == null || !base.isBefore(e.getValue());
+        });
+        log.debug("경매 목록 스냅샷 재구성 완료 - 항목 수: {}", entries.size());
+    }
+
+    /**
+     * 입찰로 변경된 현재가 반영 (가격은 증가만 하므로 더 큰 값을 유지)
+     */
+    public void patchCurrentPrice(Integer auctionId, Integer currentPrice) {
+        if (auctionId == null || currentPrice == null) {
+            return;
+        }
+        patchedPrices.merge(auctionId, currentPrice, Math::max);
+    }
+
+    /**
+     * 마감 연장으로 늦춰진 마감 시간 반영 (마감 시간은 늦춰지기만 하므로 더 늦은 값을 유지)
+     */
+    public void patchEndTime(Integer auctionId, LocalDateTime endTime) {
+        if (auctionId == null || endTime == null) {
+            return;
+        }
+        patchedEndTimes.merge(auctionId, endTime, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBidPlaced(BidPlacedEvent event) {
+        patchCurrentPrice(event.getAuctionId(), event.getBidPrice());
+        patchEndTime(event.getAuctionId(), event.getExtendedEndTime());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        log.debug("경매 변경 감지 - AuctionId: {}, 스냅샷 재구성 예약", event.getAuctionId());
+        markStale();
+    }
+
+    /**
+     * 스냅샷에서 경매 목록 페이지 조회
+     *
+     * @return 스냅샷으로 처리 가능한 경우 결과 페이지, 그렇지 않으면 Optional.empty()
+     */
+    public Optional<Page<AuctionResponseDTO>> find(Pageable pageable, String categoryFilter, String statusFilter) {
+        Snapshot current = snapshot;
+        if (current == Snapshot.EMPTY) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Predicate<AuctionResponseDTO> statusPredicate = statusPredicate(statusFilter, now);
+        Comparator<AuctionResponseDTO> comparator = toComparator(pageable.getSort());
+        if (statusPredicate == null || comparator == null) {
+            return Optional.empty();
+        }
+
+        List<AuctionResponseDTO> matched = current.getEntries().stream()
+                .filter(e -> !StringUtils.hasText(categoryFilter) || categoryFilter.equals(e.getCategoryName()))
+                .map(e -> withPatches(e.getAuction()))
+                .filter(statusPredicate)
+                .sorted(comparator)
+                .collect(Collectors.toList());
+
+        if (pageable.isUnpaged()) {
+            return Optional.of(new PageImpl<>(matched, pageable, matched.size()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        return Optional.of(new PageImpl<>(matched.subList(from, to), pageable, matched.size()));
+    }
+
+    // 상태 필터: ON_AUCTION(기본값), UPCOMING만 스냅샷에서 처리
+    private static Predicate<AuctionResponseDTO> statusPredicate(String statusFilter, LocalDateTime now) {
+        String status = StringUtils.hasText(statusFilter) ? statusFilter.toUpperCase() : "ON_AUCTION";
+        switch (status) {
+            case "ON_AUCTION":
+                return a -> !a.getStartTime().isAfter(now) && a.getEndTime().isAfter(now);
+            case "UPCOMING":
+                return a -> a.getStartTime().isAfter(now);
+            default:
+                return null;
+        }
+    }
+
+    // 정렬 조건을 Comparator로 변환 (지원하지 않는 속성이 있으면 null)
+    private static Comparator<AuctionResponseDTO> toComparator(Sort sort) {
+        Comparator<AuctionResponseDTO> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<AuctionResponseDTO> comparator = propertyComparator(order.getProperty());
+            if (comparator == null) {
+                return null;
+            }
+            if (order.isDescending()) {
+                comparator = comparator.reversed();
+            }
+            result = (result == null) ? comparator : result.thenComparing(comparator);
+        }
+        Comparator<AuctionResponseDTO> byId = propertyComparator("id");
+        return (result == null) ? byId : result.thenComparing(byId);
+    }
+
+    private static Comparator<AuctionResponseDTO> propertyComparator(String property) {
+        return switch (property) {
+            case "id" -> Comparator.comparing(AuctionResponseDTO::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "startPrice" -> Comparator.comparing(AuctionResponseDTO::getStartPrice, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "currentPrice" -> Comparator.comparing(AuctionResponseDTO::getCurrentPrice, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "startTime" -> Comparator.comparing(AuctionResponseDTO::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "endTime" -> Comparator.comparing(AuctionResponseDTO::getEndTime, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "createdAt" -> Comparator.comparing(AuctionResponseDTO::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> null;
+        };
+    }
+
+    // 스냅샷 항목은 공유 객체이므로 현재가/마감 시간이 바뀐 경우에만 복사본을 만들어 반환
+    private AuctionResponseDTO withPatches(AuctionResponseDTO auction) {
+        Integer patchedPrice = patchedPrices.get(auction.getId());
+        LocalDateTime patchedEndTime = patchedEndTimes.get(auction.getId());
+        boolean priceChanged = patchedPrice != null && patchedPrice > auction.getCurrentPrice();
+        boolean endTimeChanged = patchedEndTime != null && patchedEndTime.isAfter(auction.getEndTime());
+        if (!priceChanged && !endTimeChanged) {
+            return auction;
+        }
+        return AuctionResponseDTO.builder()
+                .id(auction.getId())
+                .productId(auction.getProductId())
+                .startPrice(auction.getStartPrice())
+                .currentPrice(priceChanged ? patchedPrice : auction.getCurrentPrice())
+                .startTime(auction.getStartTime())
+                .endTime(endTimeChanged ? patchedEndTime : auction.getEndTime())
+                .status(auction.getStatus())
+                .createdAt(auction.getCreatedAt())
+                .updatedAt(auction.getUpdatedAt())
+                .adminProduct(auction.getAdminProduct())
+                .build();
+    }
+
+    /**
+     * 스냅샷 항목: 응답 DTO + 카테고리 필터용 카테고리명
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class Entry {
+        private final AuctionResponseDTO auction;
+        private final String categoryName;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyList(), 0L);
+
+        private final List<Entry> entries;
+        private final long builtAt;
+    }
+}
@@ -4,30 +4,31 @@ import com.realive.domain.admin.Admin;
 import com.realive.domain.auction.AdminProduct;
 import com.realive.domain.auction.Auction;
 import com.realive.domain.common.enums.AuctionStatus;
-import com.realive.domain.common.enums.MediaType;
 import com.realive.domain.product.Product;
-import com.realive.domain.product.ProductImage;
 import com.realive.dto.auction.AdminProductDTO;
 import com.realive.dto.auction.AuctionCreateRequestDTO;
 import com.realive.dto.auction.AuctionResponseDTO;
 import com.realive.dto.auction.AuctionCancelResponseDTO;
 import com.realive.dto.auction.AuctionUpdateRequestDTO;
 import com.realive.dto.auction.AdminPurchaseRequestDTO;
+import com.realive.event.AuctionChangedEvent;
 import com.realive.repository.admin.AdminRepository;
 import com.realive.repository.auction.AdminProductRepository;
 import com.realive.repository.auction.AuctionRepository;
-import com.realive.repository.product.ProductImageRepository;
 import com.realive.repository.product.ProductRepository;
+import com.realive.repository.product.ProductThumbnailResolver;
 import com.realive.service.admin.auction.AuctionService;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,7 +53,9 @@ public class AuctionServiceImpl implements AuctionService {
     private final ProductRepository productRepository;
     private final AdminProductRepository adminProductRepository;
     private final AdminRepository adminRepository;
-    private final ProductImageRepository productImageRepository;
+    private final ProductThumbnailResolver productThumbnailResolver;
+    private final AuctionListingCache auctionListingCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -92,6 +95,7 @@ public class AuctionServiceImpl implements AuctionService {
         Auction savedAuction = auctionRepository.save(auction);
         log.info("관리자(ID:{})에 의해 경매 등록 성공 - AuctionId: {}, ProductId: {}",
                 adminUserId, savedAuction.getId(), savedAuction.getProductId());
+        eventPublisher.publishEvent(new AuctionChangedEvent(savedAuction.getId()));
 
         // 5. AdminProduct 상태 업데이트
         adminProduct.setAuctioned(true);
@@ -101,9 +105,7 @@ public class AuctionServiceImpl implements AuctionService {
 
         // 6. 응답 DTO 생성
         AdminProductDTO adminProductDtoForResponse = AdminProductDTO.fromEntity(adminProduct, originalProduct,
-            productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(originalProduct.getId(), MediaType.IMAGE)
-                .map(ProductImage::getUrl)
-                .orElse(null));
+            productThumbnailResolver.resolve(originalProduct.getId()));
         return AuctionResponseDTO.fromEntity(savedAuction, adminProductDtoForResponse);
     }
 
@@ -111,6 +113,12 @@ public class AuctionServiceImpl implements AuctionService {
     public Page<AuctionResponseDTO> getActiveAuctions(Pageable pageable, String categoryFilter, String statusFilter) {
         log.info("경매 목록 조회 요청 처리 - Pageable: {}, Category: {}, Status: {}", pageable, categoryFilter, statusFilter);
 
+        // 진행 중/시작 예정 목록은 메모리 스냅샷에서 처리 (DB 조회 없음)
+        Optional<Page<AuctionResponseDTO>> cached = auctionListingCache.find(pageable, categoryFilter, statusFilter);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         Specification<Auction> spec = (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
             LocalDateTime now = LocalDateTime.now();
@@ -164,6 +172,39 @@ public class AuctionServiceImpl implements AuctionService {
         return new PageImpl<>(auctionResponseDTOs, pageable, auctionPage.getTotalElements());
     }
 
+    /**
+     * 진행 중/시작 예정 경매 목록 스냅샷 재구성
+     * - 변경 이벤트가 있었거나 재구성 주기가 지난 경우에만 DB를 조회
+     */
+    @Scheduled(fixedDelayString = "${auction.listing.poll-interval-ms:1000}")
+    public void refreshListingSnapshot() {
+        if (!auctionListingCache.tryBeginRefresh()) {
+            return;
+        }
+        try {
+            List<Auction> auctions = auctionRepository.findByStatusNotInAndEndTimeAfter(
+                    List.of(AuctionStatus.COMPLETED, AuctionStatus.CANCELLED), LocalDateTime.now());
+            List<AuctionResponseDTO> dtos = convertToAuctionResponseDTOs(auctions);
+
+            // 카테고리 필터용 카테고리명 (스냅샷 항목에 함께 보관)
+            List<Long> productIds = auctions.stream()
+                    .map(auction -> auction.getProductId().longValue())
+                    .distinct()
+                    .collect(Collectors.toList());
+            Map<Long, String> categoryNames = productRepository.findAllByIdIn(productIds).stream()
+                    .filter(product -> product.getCategory() != null)
+                    .collect(Collectors.toMap(Product::getId, product -> product.getCategory().getName(), (a, b) -> a));
+
+            List<AuctionListingCache.Entry> entries = dtos.stream()
+                    .map(dto -> new AuctionListingCache.Entry(dto, categoryNames.get(dto.getProductId().longValue())))
+                    .collect(Collectors.toList());
+            auctionListingCache.replace(entries);
+        } catch (Exception e) {
+            log.error("경매 목록 스냅샷 재구성 실패", e);
+            auctionListingCache.markStale();
+        }
+    }
+
     @Override
     public AuctionResponseDTO getAuctionDetails(Integer auctionId) {
         log.info("관리자 - 경매 상세 정보 조회 요청 - AuctionId: {}", auctionId);
@@ -174,9 +215,7 @@ public class AuctionServiceImpl implements AuctionService {
                 .orElseThrow(() -> new NoSuchElementException("경매에 연결된 관리자 상품 정보를 찾을 수 없습니다. Product ID: " + auction.getProductId()));
         Product product = productRepository.findById(adminProduct.getProductId().longValue()).orElse(null);
         AdminProductDTO adminProductDto = AdminProductDTO.fromEntity(adminProduct, product,
-            productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                .map(ProductImage::getUrl)
-                .orElse(null));
+            product != null ? productThumbnailResolver.resolve(product.getId()) : null);
         return AuctionResponseDTO.fromEntity(auction, adminProductDto);
     }
 
@@ -213,9 +252,7 @@ public class AuctionServiceImpl implements AuctionService {
             }
             AdminProductDTO adminProductDto = (adminProduct != null) ? 
                 AdminProductDTO.fromEntity(adminProduct, product,
-                    productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                        .map(ProductImage::getUrl)
-                        .orElse(null)) : null;
+                    product != null ? productThumbnailResolver.resolve(product.getId()) : null) : null;
             return AuctionResponseDTO.fromEntity(auction, adminProductDto);
         });
     }
@@ -254,7 +291,10 @@ public class AuctionServiceImpl implements AuctionService {
                     .collect(Collectors.toMap(Product::getId, p -> p, (p1, p2) -> p1)); // 중복 키 발생 시 첫 번째 것 사용
         }
 
-        // 5. 최종 DTO 변환
+        // 5. 썸네일 URL 일괄 조회 (경매 건별 조회 대신 한 번의 쿼리)
+        Map<Long, String> thumbnailUrlMap = productThumbnailResolver.resolveAll(productMapById.keySet());
+
+        // 6. 최종 DTO 변환
         Map<Integer, AdminProduct> finalAdminProductMap = adminProductMapByProductId; // final 키워드 (람다에서 사용)
         Map<Long, Product> finalProductMap = productMapById; // final 키워드
 
@@ -267,9 +307,7 @@ public class AuctionServiceImpl implements AuctionService {
                     }
                     AdminProductDTO adminProductDto = (adminProduct != null) ?
                             AdminProductDTO.fromEntity(adminProduct, product,
-                                productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                                    .map(ProductImage::getUrl)
-                                    .orElse(null)) : null;
+                                product != null ? thumbnailUrlMap.get(product.getId()) : null) : null;
                     return AuctionResponseDTO.fromEntity(auctionEntity, adminProductDto);
                 })
                 .collect(Collectors.toList());
@@ -310,6 +348,7 @@ public class AuctionServiceImpl implements AuctionService {
         // 4. 경매 상태 업데이트
         auction.setStatus(AuctionStatus.CANCELLED);
         Auction savedAuction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(new AuctionChangedEvent(savedAuction.getId()));
 
         // 5. 응답 DTO 생성
         return AuctionCancelResponseDTO.builder()
@@ -359,13 +398,12 @@ public class AuctionServiceImpl implements AuctionService {
         }
 
         Auction savedAuction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(new AuctionChangedEvent(savedAuction.getId()));
         AdminProduct adminProduct = adminProductRepository.findByProductId(savedAuction.getProductId())
                 .orElseThrow(() -> new NoSuchElementException("경매에 연결된 관리자 상품 정보를 찾을 수 없습니다. Product ID: " + savedAuction.getProductId()));
         Product product = productRepository.findById(adminProduct.getProductId().longValue()).orElse(null);
         AdminProductDTO adminProductDto = AdminProductDTO.fromEntity(adminProduct, product,
-            productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                .map(ProductImage::getUrl)
-                .orElse(null));
+            product != null ? productThumbnailResolver.resolve(product.getId()) : null);
         return AuctionResponseDTO.fromEntity(savedAuction, adminProductDto);
     }
 }
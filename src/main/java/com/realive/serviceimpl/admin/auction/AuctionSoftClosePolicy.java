@@ -0,0 +1,45 @@
+package com.realive.serviceimpl.admin.auction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 경매 마감 연장(soft-close) 정책
+ * - 마감 windowSeconds초 이내에 입찰이 들어오면 마감 시간을 extensionSeconds초 연장
+ * - 마감 직전 1초에 몰리는 입찰(스나이핑)을 분산시키기 위한 용도
+ */
+@Component
+public class AuctionSoftClosePolicy {
+
+    private final boolean enabled;
+    private final long windowSeconds;
+    private final long extensionSeconds;
+
+    public AuctionSoftClosePolicy(
+            @Value("${auction.soft-close.enabled:true}") boolean enabled,
+            @Value("${auction.soft-close.window-seconds:30}") long windowSeconds,
+            @Value("${auction.soft-close.extension-seconds:30}") long extensionSeconds) {
+        this.enabled = enabled;
+        this.windowSeconds = windowSeconds;
+        this.extensionSeconds = extensionSeconds;
+    }
+
+    /**
+     * 입찰 시점 기준으로 연장된 마감 시간 계산
+     * @param endTime 현재 마감 시간
+     * @param bidTime 입찰 시각
+     * @return 연장이 필요한 경우 새 마감 시간, 아니면 Optional.empty()
+     */
+    public Optional<LocalDateTime> extendedEndTime(LocalDateTime endTime, LocalDateTime bidTime) {
+        if (!enabled || endTime == null || !endTime.isAfter(bidTime)) {
+            return Optional.empty();
+        }
+        if (endTime.isAfter(bidTime.plusSeconds(windowSeconds))) {
+            return Optional.empty();
+        }
+        return Optional.of(endTime.plusSeconds(extensionSeconds));
+    }
+}
@@ -0,0 +1,42 @@
+package com.realive.serviceimpl.admin.auction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 낙관적 락 버전(auctions.version) 보정
+ * - 버전 컬럼 추가 이전에 생성된 경매는 version이 NULL이라 엔티티 저장(비관적 입찰, 관리자 수정/취소) 시
+ *   버전 비교가 실패하므로 기동 시 0으로 채움
+ * - ddl-auto=update는 기존 컬럼의 기본값/NOT NULL을 바꾸지 않으므로 여기서 함께 지정
+ *   (권한 부족 등으로 ALTER가 실패해도 보정된 데이터로는 정상 동작하므로 경고만 남김)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionVersionBackfill implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    public void backfill() {
+        int updated = jdbcTemplate.update("UPDATE auctions SET version = 0 WHERE version IS NULL");
+        if (updated > 0) {
+            log.info("경매 버전 보정 - NULL → 0: {}건", updated);
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE auctions ALTER COLUMN version SET DEFAULT 0");
+            jdbcTemplate.execute("ALTER TABLE auctions ALTER COLUMN version SET NOT NULL");
+        } catch (DataAccessException e) {
+            log.warn("경매 버전 컬럼 제약 변경 실패 - 데이터 보정만 적용", e);
+        }
+    }
+}
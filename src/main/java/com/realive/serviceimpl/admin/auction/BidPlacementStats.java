@@ -0,0 +1,50 @@
+package com.realive.serviceimpl.admin.auction;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 입찰 처리 통계 (누적 카운터)
+ * - 입찰 경합 벤치마크 및 운영 중 입찰 전략 비교에 사용
+ */
+@Component
+public class BidPlacementStats {
+
+    private final LongAdder placed = new LongAdder();        // 성공한 입찰 수
+    private final LongAdder rejected = new LongAdder();      // 검증 실패로 거절된 입찰 수 (가격/상태 등)
+    private final LongAdder retries = new LongAdder();       // 락 획득 실패로 재시도한 횟수
+    private final LongAdder lockFailures = new LongAdder();  // 락 획득 실패(타임아웃 포함) 횟수
+
+    public void recordPlaced() {
+        placed.increment();
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordLockFailure() {
+        lockFailures.increment();
+    }
+
+    public long getPlaced() {
+        return placed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getLockFailures() {
+        return lockFailures.sum();
+    }
+}
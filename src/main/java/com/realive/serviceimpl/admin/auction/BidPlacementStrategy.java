@@ -0,0 +1,23 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.dto.bid.BidResponseDTO;
+
+/**
+ * 입찰 처리 전략
+ * - pessimistic: SERIALIZABLE + SELECT ... FOR UPDATE (기존 방식)
+ * - optimistic: 조건부 UPDATE 한 번으로 현재가 갱신
+ * BidServiceImpl에서 설정값(bid.placement.strategy)에 따라 선택
+ */
+public interface BidPlacementStrategy {
+
+    /**
+     * 입찰을 처리합니다.
+     *
+     * @param auctionId 경매 ID
+     * @param customerId 입찰자 ID
+     * @param requestDTO 입찰 요청 정보
+     * @return 입찰 결과
+     */
+    BidResponseDTO placeBid(Integer auctionId, Integer customerId, BidRequestDTO requestDTO);
+}
@@ -0,0 +1,124 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.dto.bid.BidRateLimitStatsDTO;
+import com.realive.util.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 입찰 요청 제한기 (고객별 + 경매별 토큰 버킷)
+ * - BidServiceImpl.placeBid 호출 전(트랜잭션/락 획득 전)에 검사하여 과도한 요청을 즉시 거절
+ * - 고객 버킷을 먼저 소모하고, 경매 버킷에서 거절되면 고객 토큰은 반환
+ */
+@Slf4j
+@Component
+public class BidRateLimiter {
+
+    public enum Result {
+        ALLOWED,
+        CUSTOMER_THROTTLED,
+        AUCTION_THROTTLED
+    }
+
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final boolean enabled;
+    private final double customerBurst;
+    private final double customerRefillPerSecond;
+    private final double auctionBurst;
+    private final double auctionRefillPerSecond;
+
+    private final Map<Integer, TokenBucket> customerBuckets = new ConcurrentHashMap<>();
+    private final Map<Integer, TokenBucket> auctionBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder customerThrottledCount = new LongAdder();
+    private final LongAdder auctionThrottledCount = new LongAdder();
+
+    public BidRateLimiter(
+            @Value("${bid.rate-limit.enabled:true}") boolean enabled,
+            @Value("${bid.rate-limit.customer.burst:5}") double customerBurst,
+            @Value("${bid.rate-limit.customer.refill-per-second:1}") double customerRefillPerSecond,
+            @Value("${bid.rate-limit.auction.burst:50}") double auctionBurst,
+            @Value("${bid.rate-limit.auction.refill-per-second:20}") double auctionRefillPerSecond) {
+        this.enabled = enabled;
+        this.customerBurst = customerBurst;
+        this.customerRefillPerSecond = customerRefillPerSecond;
+        this.auctionBurst = auctionBurst;
+        this.auctionRefillPerSecond = auctionRefillPerSecond;
+    }
+
+    /**
+     * 입찰 요청 허용 여부 판단
+     * @param customerId 입찰자 ID
+     * @param auctionId 경매 ID
+     * @return 판단 결과
+     */
+    public Result tryAcquire(Integer customerId, Integer auctionId) {
+        if (!enabled) {
+            return Result.ALLOWED;
+        }
+
+        TokenBucket customerBucket = customerBuckets.computeIfAbsent(customerId,
+                id -> new TokenBucket(customerBurst, customerRefillPerSecond));
+        if (!customerBucket.tryAcquire()) {
+            customerThrottledCount.increment();
+            log.warn("입찰 요청 제한(고객) - 고객ID: {}, 경매ID: {}", customerId, auctionId);
+            return Result.CUSTOMER_THROTTLED;
+        }
+
+        TokenBucket auctionBucket = auctionBuckets.computeIfAbsent(auctionId,
+                id -> new TokenBucket(auctionBurst, auctionRefillPerSecond));
+        if (!auctionBucket.tryAcquire()) {
+            customerBucket.release();
+            auctionThrottledCount.increment();
+            log.warn("입찰 요청 제한(경매) - 고객ID: {}, 경매ID: {}", customerId, auctionId);
+            return Result.AUCTION_THROTTLED;
+        }
+
+        allowedCount.increment();
+        return Result.ALLOWED;
+    }
+
+    /**
+     * 거절된 요청의 재시도 대기 시간(초, Retry-After 헤더용)
+     * - 거절한 버킷에 다음 토큰이 충전될 때까지의 시간을 올림 (최소 1초)
+     */
+    public long retryAfterSeconds(Result result, Integer customerId, Integer auctionId) {
+        TokenBucket bucket = switch (result) {
+            case CUSTOMER_THROTTLED -> customerBuckets.get(customerId);
+            case AUCTION_THROTTLED -> auctionBuckets.get(auctionId);
+            case ALLOWED -> null;
+        };
+        if (bucket == null) {
+            return result == Result.ALLOWED ? 0L : 1L;
+        }
+        long nanos = bucket.nanosUntilAvailable();
+        return Math.max(1L, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public BidRateLimitStatsDTO getStats() {
+        return BidRateLimitStatsDTO.builder()
+                .enabled(enabled)
+                .allowedCount(allowedCount.sum())
+                .customerThrottledCount(customerThrottledCount.sum())
+                .auctionThrottledCount(auctionThrottledCount.sum())
+                .trackedCustomers(customerBuckets.size())
+                .trackedAuctions(auctionBuckets.size())
+                .build();
+    }
+
+    // 오래 사용되지 않은(가득 찬) 버킷 정리 - 버킷 맵이 무한히 커지지 않도록
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        customerBuckets.values().removeIf(bucket -> bucket.isIdle(IDLE_EVICT_NANOS));
+        auctionBuckets.values().removeIf(bucket -> bucket.isIdle(IDLE_EVICT_NANOS));
+    }
+}
@@ -0,0 +1,108 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.auction.Bid;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.domain.customer.Customer;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.dto.bid.BidResponseDTO;
+import com.realive.event.BidPlacedEvent;
+import com.realive.exception.BidException;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.util.TickSizeCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 UPDATE 기반 입찰 처리 전략
+ * - "진행 중 + 마감 전 + 현재가가 (입찰가 - 입찰단위) 이하"일 때만 현재가를 갱신하는 UPDATE 한 번으로 입찰 수락
+ * - 행 잠금은 UPDATE 시점부터 커밋까지만 유지되며, 재시도/대기 없이 실패 시 즉시 거절
+ * - Auction.version도 함께 증가시켜, 엔티티를 읽고 수정하는 다른 경로(관리자 수정 등)와의 충돌을 감지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticBidPlacementStrategy implements BidPlacementStrategy {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final CustomerRepository customerRepository;
+    private final TickSizeCalculator tickSizeCalculator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidPlacementStats bidPlacementStats;
+    private final AuctionSoftClosePolicy auctionSoftClosePolicy;
+
+    @Override
+    @Transactional
+    public BidResponseDTO placeBid(Integer auctionId, Integer customerId, BidRequestDTO requestDTO) {
+        log.info("입찰 처리 시작(조건부 UPDATE) - 경매ID: {}, 고객ID: {}, 입찰가: {}",
+                auctionId, customerId, requestDTO.getBidPrice());
+        try {
+            Customer customer = customerRepository.findById(customerId.longValue())
+                    .orElseThrow(() -> new BidException("존재하지 않는 고객입니다."));
+
+            // 잠금 없이 조회: 입찰 단위 계산(시작가 기준) 및 명백히 낮은 입찰의 조기 거절용
+            Auction auction = auctionRepository.findById(auctionId)
+                    .orElseThrow(() -> new BidException("존재하지 않는 경매입니다."));
+            validate(auction, requestDTO.getBidPrice());
+
+            LocalDateTime now = LocalDateTime.now();
+            int tickSize = tickSizeCalculator.calculateTickSize(auction.getStartPrice());
+            int updated = auctionRepository.raiseCurrentPrice(auctionId, requestDTO.getBidPrice(),
+                    requestDTO.getBidPrice() - tickSize, AuctionStatus.PROCEEDING, now);
+            if (updated == 0) {
+                // 조회 이후 다른 입찰/상태 변경이 먼저 반영됨 → 최신 상태로 거절 사유 판단
+                Auction latest = auctionRepository.findById(auctionId)
+                        .orElseThrow(() -> new BidException("존재하지 않는 경매입니다."));
+                validate(latest, requestDTO.getBidPrice());
+                throw new BidException("현재가보다 높은 금액을 입력해주세요.");
+            }
+
+            // 마감 직전 입찰이면 마감 시간 연장
+            // - 위 UPDATE로 이 트랜잭션이 행 잠금을 보유 중이며, 조회 시점 마감 시간과 같을 때만 갱신(중복 연장 방지)
+            LocalDateTime extendedEndTime = auctionSoftClosePolicy.extendedEndTime(auction.getEndTime(), now)
+                    .filter(newEndTime -> auctionRepository.extendEndTime(auctionId, auction.getEndTime(), newEndTime) == 1)
+                    .orElse(null);
+            if (extendedEndTime != null) {
+                log.info("마감 연장 - 경매ID: {}, {} -> {}", auctionId, auction.getEndTime(), extendedEndTime);
+            }
+
+            Bid bid = bidRepository.save(Bid.builder()
+                    .auctionId(auctionId)
+                    .customerId(customerId)
+                    .bidPrice(requestDTO.getBidPrice())
+                    .build());
+
+            // 커밋 이후 경매 목록 스냅샷의 현재가/마감 시간 갱신
+            eventPublisher.publishEvent(new BidPlacedEvent(auctionId, requestDTO.getBidPrice(), extendedEndTime));
+
+            log.info("입찰 처리 완료(조건부 UPDATE) - 입찰ID: {}, 고객명: {}", bid.getId(), customer.getName());
+            bidPlacementStats.recordPlaced();
+            return BidResponseDTO.fromEntity(bid, customer.getName());
+        } catch (BidException e) {
+            bidPlacementStats.recordRejected();
+            throw e;
+        }
+    }
+
+    // 기존 비관적 락 경로와 동일한 검증 규칙 및 메시지
+    private void validate(Auction auction, int bidPrice) {
+        if (auction.getStatus() != AuctionStatus.PROCEEDING || !auction.getEndTime().isAfter(LocalDateTime.now())) {
+            throw new BidException("종료된 경매입니다.");
+        }
+        int minBidPrice = tickSizeCalculator.calculateMinBidPrice(auction.getCurrentPrice(), auction.getStartPrice());
+        if (bidPrice < minBidPrice) {
+            throw new BidException("입찰 단위가 맞지 않습니다.");
+        }
+        if (bidPrice <= auction.getCurrentPrice()) {
+            throw new BidException("현재가보다 높은 금액을 입력해주세요.");
+        }
+    }
+}
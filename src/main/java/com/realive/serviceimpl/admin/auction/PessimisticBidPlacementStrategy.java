@@ -0,0 +1,131 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.auction.Bid;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.domain.customer.Customer;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.dto.bid.BidResponseDTO;
+import com.realive.event.BidPlacedEvent;
+import com.realive.exception.BidException;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.util.TickSizeCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비관적 락 기반 입찰 처리 전략 (기본값)
+ * - SERIALIZABLE 격리 수준에서 경매 행을 SELECT ... FOR UPDATE로 잠근 뒤 검증/갱신
+ * - 락 획득 실패 시 최대 3회 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PessimisticBidPlacementStrategy implements BidPlacementStrategy {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final CustomerRepository customerRepository;
+    private final TickSizeCalculator tickSizeCalculator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidPlacementStats bidPlacementStats;
+    private final AuctionSoftClosePolicy auctionSoftClosePolicy;
+
+    @Override
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public BidResponseDTO placeBid(Integer auctionId, Integer customerId, BidRequestDTO requestDTO) {
+        int maxRetries = 3;
+        int retryCount = 0;
+        
+        while (retryCount < maxRetries) {
+            try {
+                log.info("입찰 처리 시작 - 경매ID: {}, 고객ID: {}, 입찰가: {}", 
+                    auctionId, customerId, requestDTO.getBidPrice());
+                
+                // 경매 조회 (Pessimistic Lock 적용)
+                Auction auction = auctionRepository.findByIdWithLock(auctionId)
+                    .orElseThrow(() -> new BidException("존재하지 않는 경매입니다."));
+                
+                // 경매 상태 확인
+                if (auction.getStatus() != AuctionStatus.PROCEEDING) {
+                    throw new BidException("종료된 경매입니다.");
+                }
+                
+                // 입찰가 검증
+                int minBidPrice = tickSizeCalculator.calculateMinBidPrice(auction.getCurrentPrice(), auction.getStartPrice());
+                if (requestDTO.getBidPrice() < minBidPrice) {
+                    throw new BidException("입찰 단위가 맞지 않습니다.");
+                }
+                
+                if (requestDTO.getBidPrice() <= auction.getCurrentPrice()) {
+                    throw new BidException("현재가보다 높은 금액을 입력해주세요.");
+                }
+                
+                // 고객 정보 조회
+                Customer customer = customerRepository.findById(customerId.longValue())
+                    .orElseThrow(() -> new BidException("존재하지 않는 고객입니다."));
+                
+                // 입찰 생성
+                Bid bid = Bid.builder()
+                    .auctionId(auction.getId())
+                    .customerId(customerId)
+                    .bidPrice(requestDTO.getBidPrice())
+                    .build();
+                
+                // 입찰 저장
+                bid = bidRepository.save(bid);
+                
+                // 경매 현재가 업데이트 (마감 직전 입찰이면 마감 시간 연장 - 행 잠금 상태이므로 원자적)
+                auction.setCurrentPrice(requestDTO.getBidPrice());
+                LocalDateTime extendedEndTime = auctionSoftClosePolicy
+                    .extendedEndTime(auction.getEndTime(), LocalDateTime.now())
+                    .orElse(null);
+                if (extendedEndTime != null) {
+                    log.info("마감 연장 - 경매ID: {}, {} -> {}", auction.getId(), auction.getEndTime(), extendedEndTime);
+                    auction.setEndTime(extendedEndTime);
+                }
+                auctionRepository.save(auction);
+
+                // 커밋 이후 경매 목록 스냅샷의 현재가/마감 시간 갱신
+                eventPublisher.publishEvent(new BidPlacedEvent(auction.getId(), requestDTO.getBidPrice(), extendedEndTime));
+                
+                log.info("입찰 처리 완료 - 입찰ID: {}, 고객명: {}", bid.getId(), customer.getName());
+                bidPlacementStats.recordPlaced();
+                
+                return BidResponseDTO.fromEntity(bid, customer.getName());
+                
+            } catch (BidException e) {
+                bidPlacementStats.recordRejected();
+                throw e;
+            } catch (PessimisticLockingFailureException e) {
+                bidPlacementStats.recordLockFailure();
+                retryCount++;
+                log.warn("입찰 처리 재시도 {} - 경매ID: {}, 고객ID: {}", retryCount, auctionId, customerId);
+                
+                if (retryCount == maxRetries) {
+                    log.error("입찰 처리 최대 재시도 횟수 초과 - 경매ID: {}, 고객ID: {}", auctionId, customerId);
+                    throw new BidException("입찰 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                
+                bidPlacementStats.recordRetry();
+                try {
+                    Thread.sleep(100); // 100ms 대기 후 재시도
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new BidException("입찰 처리가 중단되었습니다.");
+                }
+            }
+        }
+        
+        throw new BidException("입찰 처리 중 오류가 발생했습니다.");
+    }
+}
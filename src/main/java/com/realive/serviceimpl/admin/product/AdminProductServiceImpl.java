@@ -2,9 +2,7 @@ package com.realive.serviceimpl.admin.product;
 
 import com.realive.domain.admin.Admin;
 import com.realive.domain.auction.AdminProduct;
-import com.realive.domain.common.enums.MediaType;
 import com.realive.domain.product.Product;
-import com.realive.domain.product.ProductImage;
 import com.realive.domain.seller.Seller;
 import com.realive.dto.admin.ProductDetailDTO;
 import com.realive.dto.auction.AdminPurchaseRequestDTO;
@@ -14,8 +12,9 @@ import com.realive.dto.product.ProductListDTO;
 import com.realive.dto.product.ProductSearchCondition;
 import com.realive.repository.admin.AdminRepository;
 import com.realive.repository.auction.AdminProductRepository;
-import com.realive.repository.product.ProductImageRepository;
+import com.realive.repository.product.CategoryHierarchyCache;
 import com.realive.repository.product.ProductRepository;
+import com.realive.repository.product.ProductThumbnailResolver;
 import com.realive.service.admin.product.AdminProductService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.Join;
@@ -52,7 +51,8 @@ public class AdminProductServiceImpl implements AdminProductService {
     private final AdminProductRepository adminProductRepository;
     private final ProductRepository productRepository;
     private final AdminRepository adminRepository;
-    private final ProductImageRepository productImageRepository;
+    private final ProductThumbnailResolver productThumbnailResolver;
+    private final CategoryHierarchyCache categoryHierarchyCache;
 
     @Override
     @Transactional
@@ -107,9 +107,7 @@ public class AdminProductServiceImpl implements AdminProductService {
         log.info("관리자 상품 매입 완료: adminProductId={}", savedAdminProduct.getId());
 
         return AdminProductDTO.fromEntity(savedAdminProduct, product,
-            productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                .map(ProductImage::getUrl)
-                .orElse(null));
+            productThumbnailResolver.resolve(product.getId()));
     }
 
     @Override
@@ -121,9 +119,7 @@ public class AdminProductServiceImpl implements AdminProductService {
                 .orElse(null);
 
         return AdminProductDTO.fromEntity(adminProduct, product,
-            productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                .map(ProductImage::getUrl)
-                .orElse(null));
+            productThumbnailResolver.resolve(product.getId()));
     }
 
     @Override
@@ -167,9 +163,7 @@ public class AdminProductServiceImpl implements AdminProductService {
                 .map(adminProduct -> {
                     Product product = productRepository.findById(adminProduct.getProductId().longValue()).orElse(null);
                     String thumbnailUrl = product != null ?
-                            productImageRepository.findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                                    .map(ProductImage::getUrl)
-                                    .orElse(null) : null;
+                            productThumbnailResolver.resolve(product.getId()) : null;
                     return AdminProductDTO.fromEntity(adminProduct, product, thumbnailUrl);
                 });
     }
@@ -182,10 +176,11 @@ public class AdminProductServiceImpl implements AdminProductService {
         Specification<AdminProduct> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            // 카테고리 필터
+            // 카테고리 필터 (하위 카테고리 포함)
             if (condition.getCategoryId() != null) {
                 Join<AdminProduct, Product> productJoin = root.join("product", JoinType.INNER);
-                predicates.add(cb.equal(productJoin.get("category").get("id"), condition.getCategoryId()));
+                predicates.add(productJoin.get("category").get("id")
+                        .in(categoryHierarchyCache.getSelfAndDescendantIds(condition.getCategoryId())));
             }
 
             // 상태 필터
@@ -239,19 +234,14 @@ public class AdminProductServiceImpl implements AdminProductService {
         List<Product> products = allProducts.subList(start, end);
 
         // 6. 썸네일 이미지 매핑
-        List<Object[]> rows = productImageRepository.findThumbnailUrlsByProductIds(
-            products.stream().map(Product::getId).toList(), 
-            MediaType.IMAGE
-        );
-        Map<Long, String> imageMap = rows.stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> (String) row[1]
-                ));
+        Map<Long, String> imageMap = productThumbnailResolver.resolveAll(
+            products.stream().map(Product::getId).toList());
 
         // 7. DTO 변환
         List<ProductListDTO> dtoList = products.stream()
-                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId())))
+                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId()),
+                        categoryHierarchyCache.getFullPath(product.getCategory()),
+                        categoryHierarchyCache.getParentName(product.getCategory())))
                 .collect(Collectors.toList());
 
         return PageResponseDTO.<ProductListDTO>withAll()
@@ -278,12 +268,7 @@ public class AdminProductServiceImpl implements AdminProductService {
                 .collect(Collectors.toMap(Product::getId, p -> p, (p1, p2) -> p1));
 
         // 3. 썸네일 URL 일괄 조회
-        Map<Long, String> thumbnailUrlMap = productImageRepository.findThumbnailUrlsByProductIds(productIds, MediaType.IMAGE)
-                .stream()
-                .collect(Collectors.toMap(
-                    row -> (Long) row[0],
-                    row -> (String) row[1]
-                ));
+        Map<Long, String> thumbnailUrlMap = productThumbnailResolver.resolveAll(productIds);
 
         // 4. DTO 변환
         return adminProducts.stream()
@@ -0,0 +1,312 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.domain.common.enums.OrderStatus;
+import com.realive.repository.product.recommend.CoPurchaseIndex;
+import com.realive.util.LongIntHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * "함께 구매한 상품" 모델 계산/저장 (오프라인 배치)
+ * - 주문 상품을 주문 ID 순으로 한 번 스트리밍 조회하며, 같은 주문에 포함된 상품 쌍의 동시 구매 주문 수를 집계
+ *   (order_items 자기 조인 없이 한 번의 순차 조회)
+ * - 집계는 기본형 해시맵(상품 ID → 순번, 상품 쌍 → 주문 수)으로 하고, 상품별 상위 K개만 남겨 메모리 색인으로 교체
+ * - 계산 결과는 product_co_purchase 테이블에 스냅샷으로 저장하고, 시작 시에는 스냅샷만 읽어 색인 구성
+ * - 취소/환불된 주문과 window-days 이전 주문은 제외
+ */
+@Slf4j
+@Component
+public class CoPurchaseModelBuilder {
+
+    private static final String ORDER_ITEMS_SQL =
+            "SELECT oi.order_id, oi.product_id FROM order_items oi JOIN orders o ON o.id = oi.order_id " +
+                    "WHERE o.ordered_at >= ? AND o.status NOT IN ('" + OrderStatus.PAYMENT_CANCELED.name() + "', '" +
+                    OrderStatus.PURCHASE_CANCELED.name() + "', '" + OrderStatus.REFUND_COMPLETED.name() + "') " +
+                    "ORDER BY oi.order_id";
+
+    private static final String SNAPSHOT_SELECT_SQL =
+            "SELECT product_id, related_product_id, score FROM product_co_purchase " +
+                    "ORDER BY product_id, score DESC, related_product_id";
+
+    private static final String SNAPSHOT_DELETE_SQL = "DELETE FROM product_co_purchase";
+
+    private static final String SNAPSHOT_INSERT_SQL =
+            "INSERT INTO product_co_purchase (product_id, related_product_id, score) VALUES (?, ?, ?)";
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CoPurchaseIndex coPurchaseIndex;
+    private final TaskScheduler taskScheduler;
+
+    // 상품별로 보관할 연관 상품 수
+    private final int topK;
+    // 연관 상품으로 인정할 최소 동시 구매 주문 수
+    private final int minSupport;
+    // 한 주문에서 쌍을 만들 최대 상품 수 (대량 주문의 쌍 폭증 방지)
+    private final int maxItemsPerOrder;
+    private final int windowDays;
+
+    public CoPurchaseModelBuilder(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  CoPurchaseIndex coPurchaseIndex,
+                                  TaskScheduler taskScheduler,
+                                  @Value("${product.co-purchase.top-k:10}") int topK,
+                                  @Value("${product.co-purchase.min-support:2}") int minSupport,
+                                  @Value("${product.co-purchase.max-items-per-order:50}") int maxItemsPerOrder,
+                                  @Value("${product.co-purchase.window-days:365}") int windowDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.coPurchaseIndex = coPurchaseIndex;
+        this.taskScheduler = taskScheduler;
+        this.topK = topK;
+        this.minSupport = Math.max(1, minSupport);
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.windowDays = windowDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            loadSnapshot();
+        } catch (Exception e) {
+            log.warn("함께 구매한 상품 스냅샷 로딩 실패", e);
+        }
+        // 저장된 스냅샷이 없으면(최초 배포) 바로 계산 - 주문 전체를 읽는 긴 작업이라 시작 스레드가 아닌 스케줄러에서 실행
+        if (coPurchaseIndex.isEmpty()) {
+            taskScheduler.schedule(this::rebuild, Instant.now());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${product.co-purchase.rebuild-interval-ms:21600000}",
+            fixedDelayString = "${product.co-purchase.rebuild-interval-ms:21600000}")
+    public synchronized void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            CoPurchaseIndex.Snapshot snapshot = compute();
+            saveSnapshot(snapshot);
+            coPurchaseIndex.replace(snapshot);
+            log.info("함께 구매한 상품 모델 계산 완료 - 연관 항목 수: {}, 소요: {}ms",
+                    snapshot.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("함께 구매한 상품 모델 계산 실패 - 기존 색인 유지", e);
+        }
+    }
+
+    void loadSnapshot() {
+        CoPurchaseIndex.Builder builder = new CoPurchaseIndex.Builder();
+        jdbcTemplate.query(SNAPSHOT_SELECT_SQL,
+                rs -> {
+                    builder.add(rs.getLong(1), rs.getLong(2), rs.getInt(3));
+                });
+        CoPurchaseIndex.Snapshot snapshot = builder.build();
+        if (snapshot.size() > 0) {
+            coPurchaseIndex.replace(snapshot);
+        }
+    }
+
+    /**
+     * 주문 내역으로 모델 계산
+     */
+    CoPurchaseIndex.Snapshot compute() {
+        // 상품 ID ↔ 순번 (쌍 키를 순번 두 개로 만들기 위함)
+        LongIntHashMap ordinals = new LongIntHashMap(1 << 12);
+        List<Long> productIds = new ArrayList<>();
+        // (작은 순번 << 32 | 큰 순번) → 함께 구매한 주문 수
+        LongIntHashMap pairCounts = new LongIntHashMap(1 << 16);
+
+        OrderAccumulator order = new OrderAccumulator(maxItemsPerOrder);
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusDays(windowDays));
+
+        // PostgreSQL은 트랜잭션 안에서만 fetchSize만큼 나눠 읽음 (전체 결과를 메모리에 올리지 않음)
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(ORDER_ITEMS_SQL);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setTimestamp(1, since);
+                    return ps;
+                },
+                rs -> {
+                    long orderId = rs.getLong(1);
+                    long productId = rs.getLong(2);
+                    if (orderId != order.orderId) {
+                        order.countPairs(pairCounts);
+                        order.reset(orderId);
+                    }
+                    int ordinal = ordinals.get(productId, -1);
+                    if (ordinal < 0) {
+                        ordinal = productIds.size();
+                        ordinals.put(productId, ordinal);
+                        productIds.add(productId);
+                    }
+                    order.add(ordinal);
+                }));
+        order.countPairs(pairCounts);
+
+        return topKSnapshot(productIds, pairCounts);
+    }
+
+    // 상품별 상위 K개 선택 후 (상품 ID 오름차순, 점수 내림차순) 스냅샷 생성
+    CoPurchaseIndex.Snapshot topKSnapshot(List<Long> productIds, LongIntHashMap pairCounts) {
+        int productCount = productIds.size();
+        long[] ids = new long[productCount];
+        for (int i = 0; i < productCount; i++) {
+            ids[i] = productIds.get(i);
+        }
+        int[] related = new int[productCount * topK];
+        int[] scores = new int[productCount * topK];
+        int[] sizes = new int[productCount];
+
+        pairCounts.forEach((pair, count) -> {
+            if (count < minSupport) {
+                return;
+            }
+            int a = (int) (pair >>> 32);
+            int b = (int) pair;
+            offer(ids, related, scores, sizes, a, b, count);
+            offer(ids, related, scores, sizes, b, a, count);
+        });
+
+        // 상품 ID 오름차순 순회용 순번 정렬
+        Integer[] order = new Integer[productCount];
+        for (int i = 0; i < productCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Long.compare(ids[x], ids[y]));
+
+        CoPurchaseIndex.Builder builder = new CoPurchaseIndex.Builder();
+        long[] entryIds = new long[topK];
+        int[] entryScores = new int[topK];
+        for (int ordinal : order) {
+            int size = sizes[ordinal];
+            if (size == 0) {
+                continue;
+            }
+            int base = ordinal * topK;
+            for (int i = 0; i < size; i++) {
+                entryIds[i] = ids[related[base + i]];
+                entryScores[i] = scores[base + i];
+            }
+            // 점수 내림차순, 같으면 상품 ID 오름차순 (K가 작으므로 삽입 정렬)
+            for (int i = 1; i < size; i++) {
+                long id = entryIds[i];
+                int score = entryScores[i];
+                int j = i - 1;
+                while (j >= 0 && (entryScores[j] < score || (entryScores[j] == score && entryIds[j] > id))) {
+                    entryIds[j + 1] = entryIds[j];
+                    entryScores[j + 1] = entryScores[j];
+                    j--;
+                }
+                entryIds[j + 1] = id;
+                entryScores[j + 1] = score;
+            }
+            long productId = ids[ordinal];
+            for (int i = 0; i < size; i++) {
+                builder.add(productId, entryIds[i], entryScores[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    // 상품 target의 상위 K개 후보에 (candidate, score) 추가 - 가득 차면 가장 뒤 순위(낮은 점수, 같으면 큰 ID)와 교체
+    // (점수가 같은 후보가 경계에 걸려도 집계 순서와 무관하게 작은 상품 ID가 남음)
+    private void offer(long[] ids, int[] related, int[] scores, int[] sizes, int target, int candidate, int score) {
+        int base = target * topK;
+        if (sizes[target] < topK) {
+            related[base + sizes[target]] = candidate;
+            scores[base + sizes[target]] = score;
+            sizes[target]++;
+            return;
+        }
+        int last = base;
+        for (int i = base + 1; i < base + topK; i++) {
+            if (ranksBefore(scores[last], ids[related[last]], scores[i], ids[related[i]])) {
+                last = i;
+            }
+        }
+        if (ranksBefore(score, ids[candidate], scores[last], ids[related[last]])) {
+            related[last] = candidate;
+            scores[last] = score;
+        }
+    }
+
+    // 점수 내림차순, 같으면 상품 ID 오름차순
+    private static boolean ranksBefore(int score, long id, int otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    // 스냅샷 통째로 교체 (조회 중인 다른 인스턴스는 커밋 전까지 이전 스냅샷을 읽음)
+    private void saveSnapshot(CoPurchaseIndex.Snapshot snapshot) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(SNAPSHOT_DELETE_SQL);
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            snapshot.forEach((productId, relatedProductId, score) -> {
+                batch.add(new Object[]{productId, relatedProductId, score});
+                if (batch.size() == INSERT_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(SNAPSHOT_INSERT_SQL, batch);
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(SNAPSHOT_INSERT_SQL, batch);
+            }
+        });
+    }
+
+    /**
+     * 현재 주문의 상품 순번 (중복 제거)
+     */
+    private static class OrderAccumulator {
+        private final int[] items;
+        private long orderId = -1;
+        private int size = 0;
+
+        private OrderAccumulator(int maxItems) {
+            this.items = new int[Math.max(2, maxItems)];
+        }
+
+        private void reset(long orderId) {
+            this.orderId = orderId;
+            this.size = 0;
+        }
+
+        private void add(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == ordinal) {
+                    return;
+                }
+            }
+            if (size < items.length) {
+                items[size++] = ordinal;
+            }
+        }
+
+        // 주문 안의 모든 상품 쌍 집계
+        private void countPairs(LongIntHashMap pairCounts) {
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    int a = Math.min(items[i], items[j]);
+                    int b = Math.max(items[i], items[j]);
+                    pairCounts.addTo(((long) a << 32) | b, 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.dto.product.ProductDetailCacheStatsDTO;
+import com.realive.dto.product.ProductResponseDTO;
+import com.realive.event.ProductChangedEvent;
+import com.realive.util.BoundedTtlCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회 캐시 (read-through)
+ * - 구매자 상세(ProductViewServiceImpl)와 판매자 상세(ProductServiceImpl)를 각각 상품 ID로 캐시
+ * - 상품 변경(수정, 비활성화, 재고 변경) 커밋 이후 해당 상품 항목만 무효화
+ * - 캐시된 DTO는 여러 요청이 공유하므로 호출 측에서 변경하면 안 됨
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private final BoundedTtlCache<Long, ProductResponseDTO> customerViews;
+    private final BoundedTtlCache<Long, SellerView> sellerViews;
+
+    public ProductDetailCache(@Value("${product.detail-cache.max-size:10000}") int maxSize,
+                              @Value("${product.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.customerViews = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000L);
+        this.sellerViews = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000L);
+    }
+
+    public ProductResponseDTO getCustomerView(Long productId, Function<Long, ProductResponseDTO> loader) {
+        return customerViews.get(productId, loader);
+    }
+
+    public SellerView getSellerView(Long productId, Function<Long, SellerView> loader) {
+        return sellerViews.get(productId, loader);
+    }
+
+    public void invalidate(Long productId) {
+        customerViews.invalidate(productId);
+        sellerViews.invalidate(productId);
+    }
+
+    // 커밋 이후에 무효화해야, 무효화와 커밋 사이에 옛 데이터가 다시 캐시되지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        log.debug("상품 변경 감지 - ProductId: {}, 상세 캐시 무효화", event.getProductId());
+        invalidate(event.getProductId());
+    }
+
+    public ProductDetailCacheStatsDTO getStats() {
+        return ProductDetailCacheStatsDTO.builder()
+                .customerViewSize(customerViews.size())
+                .customerViewHits(customerViews.getHitCount())
+                .customerViewMisses(customerViews.getMissCount())
+                .sellerViewSize(sellerViews.size())
+                .sellerViewHits(sellerViews.getHitCount())
+                .sellerViewMisses(sellerViews.getMissCount())
+                .evictions(customerViews.getEvictionCount() + sellerViews.getEvictionCount())
+                .invalidations(customerViews.getInvalidationCount())
+                .build();
+    }
+
+    /**
+     * 판매자 상세 캐시 항목 (권한 확인용 판매자 ID 포함)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class SellerView {
+        private final Long sellerId;
+        private final ProductResponseDTO detail;
+    }
+}
@@ -0,0 +1,235 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.domain.product.ProductImage;
+import com.realive.event.ProductImageUploadedEvent;
+import com.realive.repository.product.ProductImageRepository;
+import com.realive.service.common.FileUploadService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 이미지 처리 파이프라인 (비동기)
+ * - 원본 이미지가 저장된 트랜잭션이 커밋된 뒤, 제한된 작업자 풀에서 폭별 축소 이미지(JPEG)를 생성
+ * - 생성된 파일은 원본과 같은 업로드 디렉토리에 저장하고 ProductImage의 variantUrls/listUrl을 갱신
+ *   → ProductImage 변경 이벤트로 썸네일/상세 캐시가 무효화되어 목록은 축소 이미지를 사용
+ * - 대기열이 가득 차면 작업을 제출한 스레드가 직접 처리 (CallerRunsPolicy) → 업로드 속도를 처리 속도에 맞춤
+ * - 처리에 실패하면 축소 이미지 없이 원본을 그대로 사용
+ */
+@Slf4j
+@Component
+public class ProductImagePipeline {
+
+    private final ProductImageRepository productImageRepository;
+    private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 생성할 폭 (오름차순, px)
+    private final int[] widths;
+    // 목록 썸네일로 사용할 최소 폭
+    private final int listWidth;
+    private final float jpegQuality;
+
+    private final ThreadPoolExecutor executor;
+
+    public ProductImagePipeline(ProductImageRepository productImageRepository,
+                                FileUploadService fileUploadService,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${product.image-pipeline.widths:200,480,960}") int[] widths,
+                                @Value("${product.image-pipeline.list-width:480}") int listWidth,
+                                @Value("${product.image-pipeline.jpeg-quality:0.85}") float jpegQuality,
+                                @Value("${product.image-pipeline.workers:2}") int workers,
+                                @Value("${product.image-pipeline.queue-capacity:200}") int queueCapacity) {
+        this.productImageRepository = productImageRepository;
+        this.fileUploadService = fileUploadService;
+        this.transactionTemplate = transactionTemplate;
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).sorted().distinct().toArray();
+        this.listWidth = listWidth;
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "product-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductImageUploaded(ProductImageUploadedEvent event) {
+        executor.execute(() -> process(event.getProductImageId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 이미지 1건 처리: 원본 디코딩 → 폭별 축소/JPEG 인코딩 → 저장 → ProductImage 갱신
+     */
+    void process(Long productImageId) {
+        try {
+            String originalUrl = productImageRepository.findById(productImageId)
+                    .map(ProductImage::getUrl)
+                    .orElse(null);
+            if (originalUrl == null) {
+                return;
+            }
+
+            BufferedImage original;
+            try (InputStream in = Files.newInputStream(fileUploadService.toLocalPath(originalUrl))) {
+                original = ImageIO.read(in);
+            }
+            if (original == null) {
+                log.warn("상품 이미지 처리 생략 (지원하지 않는 형식) - ProductImageId: {}, url: {}", productImageId, originalUrl);
+                return;
+            }
+
+            // 원본보다 작은 폭만 생성 (확대하지 않음)
+            String baseName = baseName(originalUrl);
+            Map<Integer, String> variantUrls = new LinkedHashMap<>();
+            for (int width : widths) {
+                if (width >= original.getWidth()) {
+                    break;
+                }
+                String filename = baseName + "_w" + width + ".jpg";
+                String existing = originalUrl.substring(0, originalUrl.lastIndexOf('/') + 1) + filename;
+                // 같은 원본(내용 주소 저장 blob)을 공유하는 이미지는 이미 만든 축소 이미지를 재사용
+                // (수정 시각을 갱신하여 참조가 저장되기 전에 UploadBlobCollector가 정리하지 않도록 함)
+                if (touchIfExists(fileUploadService.toLocalPath(existing))) {
+                    variantUrls.put(width, existing);
+                    continue;
+                }
+                byte[] jpeg = encodeJpeg(resize(original, width));
+                variantUrls.put(width, fileUploadService.storeSibling(originalUrl, filename, jpeg));
+            }
+            if (variantUrls.isEmpty()) {
+                return;
+            }
+
+            String listUrl = variantUrls.entrySet().stream()
+                    .filter(e -> e.getKey() >= listWidth)
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    productImageRepository.findById(productImageId).ifPresent(image -> {
+                        // 처리 중 이미지가 교체되었으면 반영하지 않음
+                        if (!originalUrl.equals(image.getUrl())) {
+                            return;
+                        }
+                        image.getVariantUrls().putAll(variantUrls);
+                        image.setListUrl(listUrl);
+                    }));
+            log.debug("상품 이미지 처리 완료 - ProductImageId: {}, 생성 폭: {}", productImageId, variantUrls.keySet());
+        } catch (Exception e) {
+            log.warn("상품 이미지 처리 실패 (원본 사용) - ProductImageId: {}", productImageId, e);
+        }
+    }
+
+    // 파일이 있으면 수정 시각을 현재로 갱신 (확인과 갱신 사이에 삭제되었으면 false → 새로 생성)
+    private static boolean touchIfExists(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // 절반씩 여러 번 줄인 뒤 목표 폭으로 축소 (한 번에 크게 줄일 때의 계단 현상 방지)
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        BufferedImage current = toRgb(source);
+        int width = current.getWidth();
+        int height = current.getHeight();
+        int targetHeight = Math.max(1, (int) Math.round((double) height * targetWidth / width));
+
+        while (width > targetWidth) {
+            width = Math.max(width / 2, targetWidth);
+            height = width == targetWidth ? targetHeight : Math.max(height / 2, targetHeight);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        }
+        return current;
+    }
+
+    // JPEG는 투명도를 지원하지 않으므로 흰 배경 위에 그려 RGB로 변환
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // "/uploads/product/1/uuid_name.png" → "uuid_name"
+    private static String baseName(String url) {
+        String filename = url.substring(url.lastIndexOf('/') + 1);
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+}
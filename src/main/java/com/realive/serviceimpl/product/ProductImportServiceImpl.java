@@ -0,0 +1,424 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.domain.common.enums.DeliveryType;
+import com.realive.domain.common.enums.ProductStatus;
+import com.realive.dto.product.ProductImportResultDTO;
+import com.realive.repository.product.CategoryHierarchyCache;
+import com.realive.repository.seller.SellerRepository;
+import com.realive.service.product.ProductImportService;
+import com.realive.util.CsvReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 CSV 대량 등록
+ * - CSV를 한 행씩 읽어 검증하고, batch-size 행마다 JDBC 배치 INSERT 후 커밋 → 파일 크기와 무관하게 메모리 사용량 일정
+ * - 상품 ID가 IDENTITY 방식이라 JPA(Hibernate)는 INSERT를 배치로 묶지 못하므로 JdbcTemplate으로 직접 INSERT하고
+ *   생성된 ID를 받아 배송 정책도 같은 트랜잭션에서 배치 INSERT
+ * - 카테고리 존재 여부는 행마다 조회하지 않고 카테고리 계층 캐시로 확인
+ * - 배치 중 DB 오류가 나면 해당 배치만 롤백하고 행 단위로 다시 저장해 실패한 행만 보고
+ * - 엔티티 리스너를 거치지 않으므로 배치 커밋 후 검색 색인을 직접 갱신
+ *   (PostgreSQL 드라이버 reWriteBatchedInserts=true 설정 시 배치가 다중 VALUES INSERT로 합쳐져 더 빠름)
+ */
+@Slf4j
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final String PRODUCT_INSERT_SQL =
+            "INSERT INTO products (name, description, price, stock, width, depth, height, status, is_active, " +
+                    "seller_id, category_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELIVERY_POLICY_INSERT_SQL =
+            "INSERT INTO delivery_policy (type, cost, region_limit, product_id, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("name", "description", "price");
+    private static final Set<String> COLUMNS = Set.of("name", "description", "price", "stock", "width", "depth",
+            "height", "status", "categoryid", "active", "deliverytype", "deliverycost", "regionlimit");
+
+    private static final int NAME_MAX_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SellerRepository sellerRepository;
+    private final CategoryHierarchyCache categoryHierarchyCache;
+    private final ProductSearchIndexer productSearchIndexer;
+
+    private final int batchSize;
+    private final long maxRows;
+    private final int maxErrors;
+
+    public ProductImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    SellerRepository sellerRepository,
+                                    CategoryHierarchyCache categoryHierarchyCache,
+                                    ProductSearchIndexer productSearchIndexer,
+                                    @Value("${product.import.batch-size:500}") int batchSize,
+                                    @Value("${product.import.max-rows:50000}") long maxRows,
+                                    @Value("${product.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sellerRepository = sellerRepository;
+        this.categoryHierarchyCache = categoryHierarchyCache;
+        this.productSearchIndexer = productSearchIndexer;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public ProductImportResultDTO importCsv(InputStream csv, Long sellerId) {
+        if (sellerId == null || !sellerRepository.existsById(sellerId)) {
+            throw new IllegalArgumentException("존재하지 않는 판매자입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+        // 최근 등록된 카테고리도 검증에 반영되도록 시작 시 한 번 재구성
+        categoryHierarchyCache.invalidate();
+
+        Progress progress = new Progress(maxErrors);
+        try (CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)))) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 파일이 비어 있습니다.");
+            }
+            Map<String, Integer> columns = columns(header);
+
+            List<Row> batch = new ArrayList<>(batchSize);
+            while (true) {
+                List<String> record;
+                try {
+                    record = reader.next();
+                } catch (IllegalArgumentException e) {
+                    // 닫히지 않은 큰따옴표: 이후 내용을 행으로 구분할 수 없으므로 중단
+                    progress.error(reader.getRecordLine(), e.getMessage() + " 이후 행은 처리하지 않았습니다.");
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (isBlank(record)) {
+                    continue;
+                }
+                long line = reader.getRecordLine();
+                if (progress.totalRows >= maxRows) {
+                    progress.error(line, "최대 행 수(" + maxRows + ")를 넘어 이후 행은 처리하지 않았습니다.");
+                    break;
+                }
+                progress.totalRows++;
+
+                try {
+                    batch.add(parse(record, columns, line));
+                } catch (IllegalArgumentException e) {
+                    progress.failed(line, e.getMessage());
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, sellerId, progress);
+                    batch.clear();
+                }
+            }
+            flush(batch, sellerId, progress);
+        } catch (IOException e) {
+            throw new IllegalStateException("CSV 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("상품 CSV 대량 등록 완료 - SellerId: {}, 행: {}, 등록: {}, 실패: {}, 소요: {}ms",
+                sellerId, progress.totalRows, progress.imported, progress.failed, elapsed);
+
+        return ProductImportResultDTO.builder()
+                .totalRows(progress.totalRows)
+                .importedCount(progress.imported)
+                .failedCount(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.errorsTruncated)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    // 배치 저장 (실패 시 행 단위로 재시도) 후 검색 색인 갱신
+    private void flush(List<Row> batch, Long sellerId, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = new ArrayList<>(batch.size());
+        try {
+            productIds.addAll(insertInTransaction(batch, sellerId));
+        } catch (DataAccessException e) {
+            log.warn("상품 CSV 배치 저장 실패 - 행 단위로 재시도 (행 수: {})", batch.size(), e);
+            for (Row row : batch) {
+                try {
+                    productIds.addAll(insertInTransaction(List.of(row), sellerId));
+                } catch (DataAccessException rowError) {
+                    log.warn("상품 CSV 행 저장 실패 - line: {}", row.line, rowError);
+                    progress.failed(row.line, "저장 중 오류가 발생했습니다.");
+                }
+            }
+        }
+        progress.imported += productIds.size();
+        productSearchIndexer.indexAll(productIds);
+    }
+
+    private List<Long> insertInTransaction(List<Row> rows, Long sellerId) {
+        return transactionTemplate.execute(status -> insert(rows, sellerId));
+    }
+
+    // 상품 배치 INSERT → 생성된 ID로 배송 정책 배치 INSERT
+    private List<Long> insert(List<Row> rows, Long sellerId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(PRODUCT_INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Row row = rows.get(i);
+                        ps.setString(1, row.name);
+                        ps.setString(2, row.description);
+                        ps.setInt(3, row.price);
+                        ps.setInt(4, row.stock);
+                        ps.setObject(5, row.width, Types.INTEGER);
+                        ps.setObject(6, row.depth, Types.INTEGER);
+                        ps.setObject(7, row.height, Types.INTEGER);
+                        ps.setString(8, row.status.name());
+                        ps.setBoolean(9, row.active);
+                        ps.setLong(10, sellerId);
+                        ps.setObject(11, row.categoryId, Types.BIGINT);
+                        ps.setTimestamp(12, now);
+                        ps.setTimestamp(13, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            // DataAccessException으로 던져 배치 실패와 같이 롤백 후 행 단위 재시도
+            throw new IncorrectResultSizeDataAccessException("생성된 상품 ID 수가 행 수와 다릅니다.", rows.size(), keys.size());
+        }
+        List<Long> productIds = new ArrayList<>(rows.size());
+        List<Object[]> policies = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Long productId = ((Number) keys.get(i).get("id")).longValue();
+            productIds.add(productId);
+            Row row = rows.get(i);
+            if (row.deliveryType != null) {
+                policies.add(new Object[]{row.deliveryType.name(), row.deliveryCost, row.regionLimit, productId, now, now});
+            }
+        }
+        if (!policies.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELIVERY_POLICY_INSERT_SQL, policies,
+                    new int[]{Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP});
+        }
+        return productIds;
+    }
+
+    // 헤더 → 컬럼 위치 (대소문자, 공백, 밑줄 무시: "category_id" = "categoryId")
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = normalize(header.get(i));
+            if (column.isEmpty()) {
+                continue;
+            }
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("알 수 없는 컬럼입니다: " + header.get(i).trim());
+            }
+            if (columns.put(column, i) != null) {
+                throw new IllegalArgumentException("중복된 컬럼입니다: " + header.get(i).trim());
+            }
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("필수 컬럼이 없습니다: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static String normalize(String column) {
+        return column.replace("_", "").replace(" ", "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 행 검증 및 변환 (오류 메시지는 결과에 그대로 노출)
+    private Row parse(List<String> record, Map<String, Integer> columns, long line) {
+        Row row = new Row(line);
+
+        row.name = required(record, columns, "name");
+        if (row.name.length() > NAME_MAX_LENGTH) {
+            throw new IllegalArgumentException("name: " + NAME_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+        row.description = required(record, columns, "description");
+        row.price = integer(record, columns, "price", 1);
+
+        String stock = value(record, columns, "stock");
+        row.stock = stock != null ? integer(record, columns, "stock", 0) : 1;
+        row.width = value(record, columns, "width") != null ? integer(record, columns, "width", 0) : null;
+        row.depth = value(record, columns, "depth") != null ? integer(record, columns, "depth", 0) : null;
+        row.height = value(record, columns, "height") != null ? integer(record, columns, "height", 0) : null;
+
+        String status = value(record, columns, "status");
+        row.status = status != null ? enumValue(ProductStatus.class, status, "status") : ProductStatus.상;
+
+        String categoryId = value(record, columns, "categoryid");
+        if (categoryId != null) {
+            try {
+                row.categoryId = Long.parseLong(categoryId);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("categoryId: 숫자여야 합니다.");
+            }
+            if (!categoryHierarchyCache.contains(row.categoryId)) {
+                throw new IllegalArgumentException("categoryId: 존재하지 않는 카테고리입니다. (" + categoryId + ")");
+            }
+        }
+
+        // 재고가 없으면 판매중으로 등록하지 않음 (상품 수정과 동일한 규칙)
+        String active = value(record, columns, "active");
+        boolean requestedActive = true;
+        if (active != null) {
+            if (!active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("active: true 또는 false여야 합니다.");
+            }
+            requestedActive = Boolean.parseBoolean(active);
+        }
+        row.active = requestedActive && row.stock >= 1;
+
+        String deliveryType = value(record, columns, "deliverytype");
+        String deliveryCost = value(record, columns, "deliverycost");
+        String regionLimit = value(record, columns, "regionlimit");
+        if (deliveryType != null) {
+            row.deliveryType = enumValue(DeliveryType.class, deliveryType, "deliveryType");
+            row.deliveryCost = deliveryCost != null ? integer(record, columns, "deliverycost", 0) : 0;
+            row.regionLimit = regionLimit;
+        } else if (deliveryCost != null || regionLimit != null) {
+            throw new IllegalArgumentException("deliveryType: 배송비/지역 제한을 입력하려면 배송 방식이 필요합니다.");
+        }
+        return row;
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String required(List<String> record, Map<String, Integer> columns, String column) {
+        String value = value(record, columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + ": 필수 값입니다.");
+        }
+        return value;
+    }
+
+    private static int integer(List<String> record, Map<String, Integer> columns, String column, int min) {
+        String value = required(record, columns, column);
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": 정수여야 합니다. (" + value + ")");
+        }
+        if (parsed < min) {
+            throw new IllegalArgumentException(column + ": " + min + " 이상이어야 합니다.");
+        }
+        return parsed;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value, String column) {
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + ": 허용되지 않는 값입니다. (" + value + ")");
+        }
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    /**
+     * 검증을 통과한 CSV 행
+     */
+    private static class Row {
+        private final long line;
+        private String name;
+        private String description;
+        private int price;
+        private int stock;
+        private Integer width;
+        private Integer depth;
+        private Integer height;
+        private ProductStatus status;
+        private boolean active;
+        private Long categoryId;
+        private DeliveryType deliveryType;
+        private int deliveryCost;
+        private String regionLimit;
+
+        private Row(long line) {
+            this.line = line;
+        }
+    }
+
+    /**
+     * 처리 현황 (오류는 최대 개수까지만 보관)
+     */
+    private static class Progress {
+        private final int maxErrors;
+        private final List<ProductImportResultDTO.RowError> errors = new ArrayList<>();
+        private long totalRows = 0;
+        private long imported = 0;
+        private long failed = 0;
+        private boolean errorsTruncated = false;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void failed(long line, String message) {
+            failed++;
+            error(line, message);
+        }
+
+        private void error(long line, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductImportResultDTO.RowError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.domain.product.Product;
+import com.realive.event.ProductChangedEvent;
+import com.realive.dto.sellercategory.SellerCategoryDTO;
+import com.realive.repository.product.CategoryHierarchyCache;
+import com.realive.repository.product.ProductRepository;
+import com.realive.repository.product.ProductViewCountRepository;
+import com.realive.repository.product.search.AutocompleteIndex;
+import com.realive.repository.product.search.DimensionIndex;
+import com.realive.repository.product.search.ProductFacetIndex;
+import com.realive.repository.product.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 검색 색인(역색인, 패싯 색인, 자동완성 색인, 크기 색인) 적재/갱신
+ * - 애플리케이션 시작 시 전체 상품을 ID 구간 단위로 읽어 색인 구성
+ * - 상품 등록/수정/비활성화 커밋 이후 해당 상품만 다시 색인
+ * - 자동완성 인기 가중치: 상품은 조회수, 카테고리/판매자는 소속 판매중 상품 수 + 조회수 합
+ * - 다른 인스턴스에서 변경된 상품, 판매자명 변경 등을 반영하기 위해 주기적으로 전체 재구성
+ * - 재구성 중에 들어온 변경은 상품 ID를 기록해 두었다가 새 색인으로 교체한 뒤 다시 반영
+ *   (재구성 스캔이 변경 이전 데이터를 읽었더라도 교체 후 색인에서 변경이 사라지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final DimensionIndex dimensionIndex;
+    private final ProductViewCountRepository productViewCountRepository;
+    private final CategoryHierarchyCache categoryHierarchyCache;
+
+    private final Object changeLock = new Object();
+
+    // 재구성 중 변경된 상품 ID (재구성 중이 아니면 null)
+    private Set<Long> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${product.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${product.search.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        synchronized (changeLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        try {
+            List<ProductSearchIndex.Document> docs = new ArrayList<>();
+            List<ProductFacetIndex.Entry> facetEntries = new ArrayList<>();
+            List<AutocompleteIndex.Entry> autocompleteEntries = new ArrayList<>();
+            List<DimensionIndex.Entry> dimensionEntries = new ArrayList<>();
+            Map<Long, Long> viewCounts = new HashMap<>();
+            for (Object[] row : productViewCountRepository.findAllViewCounts()) {
+                viewCounts.put((Long) row[0], (Long) row[1]);
+            }
+            Map<Long, Long> categoryWeights = new HashMap<>();
+            Map<Long, Long> sellerWeights = new HashMap<>();
+            Map<Long, String> sellerNames = new HashMap<>();
+            long lastId = 0L;
+            while (true) {
+                List<Product> batch = productRepository.findIndexBatchAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(product -> {
+                    docs.add(toDocument(product));
+                    facetEntries.add(toFacetEntry(product));
+                    DimensionIndex.Entry dimensions = toDimensionEntry(product);
+                    if (dimensions != null) {
+                        dimensionEntries.add(dimensions);
+                    }
+                    if (product.isActive()) {
+                        long views = viewCounts.getOrDefault(product.getId(), 0L);
+                        autocompleteEntries.add(new AutocompleteIndex.Entry(
+                                AutocompleteIndex.Type.PRODUCT, product.getId(), product.getName(), views));
+                        if (product.getCategory() != null) {
+                            categoryWeights.merge(product.getCategory().getId(), views + 1, Long::sum);
+                        }
+                        if (product.getSeller() != null) {
+                            sellerWeights.merge(product.getSeller().getId(), views + 1, Long::sum);
+                            sellerNames.put(product.getSeller().getId(), product.getSeller().getName());
+                        }
+                    }
+                });
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            productSearchIndex.rebuild(docs);
+            productFacetIndex.rebuild(facetEntries);
+            dimensionIndex.rebuild(dimensionEntries);
+
+            for (SellerCategoryDTO category : categoryHierarchyCache.getTree().getCategories()) {
+                autocompleteEntries.add(new AutocompleteIndex.Entry(AutocompleteIndex.Type.CATEGORY,
+                        category.getId(), category.getName(), categoryWeights.getOrDefault(category.getId(), 0L)));
+            }
+            sellerNames.forEach((sellerId, name) -> autocompleteEntries.add(new AutocompleteIndex.Entry(
+                    AutocompleteIndex.Type.SELLER, sellerId, name, sellerWeights.get(sellerId))));
+            autocompleteIndex.rebuild(autocompleteEntries);
+        } catch (Exception e) {
+            log.error("상품 검색 색인 재구성 실패", e);
+        } finally {
+            Set<Long> changed;
+            synchronized (changeLock) {
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            }
+            replay(changed);
+        }
+    }
+
+    // 재구성 중 변경된 상품을 교체된 색인에 다시 반영 (DB의 현재 상태 기준, 삭제된 상품은 색인에서 제거)
+    private void replay(Set<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            Set<Long> missing = new HashSet<>(productIds);
+            for (Product product : productRepository.findWithCategoryAndSellerByIdIn(productIds)) {
+                indexProduct(product);
+                missing.remove(product.getId());
+            }
+            missing.forEach(this::removeProduct);
+            log.info("재구성 중 변경된 상품 재색인 - 상품 수: {}", productIds.size());
+        } catch (Exception e) {
+            log.warn("재구성 중 변경된 상품 재색인 실패 - 상품 수: {}", productIds.size(), e);
+        }
+    }
+
+    // 재구성 중이면 변경된 상품 ID 기록 (색인 반영 전에 기록하여 교체 시점과 겹쳐도 누락되지 않도록)
+    private void recordChanged(Collection<Long> productIds) {
+        synchronized (changeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(productIds);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        recordChanged(List.of(event.getProductId()));
+        try {
+            productRepository.findWithCategoryAndSellerById(event.getProductId())
+                    .ifPresentOrElse(this::indexProduct, () -> removeProduct(event.getProductId()));
+        } catch (Exception e) {
+            // 색인 갱신 실패는 다음 주기 재구성에서 복구되므로 요청 처리에는 영향 없음
+            log.warn("상품 검색 색인 갱신 실패 - ProductId: {}", event.getProductId(), e);
+        }
+    }
+
+    /**
+     * 여러 상품을 한 번의 조회로 색인 (엔티티 리스너를 거치지 않는 JDBC 대량 등록 이후 호출)
+     */
+    public void indexAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        recordChanged(productIds);
+        try {
+            for (Product product : productRepository.findWithCategoryAndSellerByIdIn(productIds)) {
+                indexProduct(product);
+            }
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 일괄 갱신 실패 - 상품 수: {}", productIds.size(), e);
+        }
+    }
+
+    private void indexProduct(Product product) {
+        productSearchIndex.index(toDocument(product));
+        productFacetIndex.index(toFacetEntry(product));
+        indexAutocomplete(product);
+        indexDimensions(product);
+    }
+
+    private void removeProduct(Long productId) {
+        productSearchIndex.remove(productId);
+        productFacetIndex.remove(productId);
+        autocompleteIndex.remove(AutocompleteIndex.Type.PRODUCT, productId);
+        dimensionIndex.remove(productId);
+    }
+
+    // 판매중인 상품만 자동완성 대상 (인기 가중치는 다음 전체 재구성 때 갱신)
+    private void indexAutocomplete(Product product) {
+        if (product.isActive()) {
+            autocompleteIndex.upsert(AutocompleteIndex.Type.PRODUCT, product.getId(), product.getName(), null);
+        } else {
+            autocompleteIndex.remove(AutocompleteIndex.Type.PRODUCT, product.getId());
+        }
+    }
+
+    private void indexDimensions(Product product) {
+        DimensionIndex.Entry entry = toDimensionEntry(product);
+        if (entry != null) {
+            dimensionIndex.upsert(entry);
+        } else {
+            dimensionIndex.remove(product.getId());
+        }
+    }
+
+    // 판매중이고 세 치수가 모두 입력된 상품만 크기 색인 대상
+    private static DimensionIndex.Entry toDimensionEntry(Product product) {
+        if (!product.isActive() || product.getWidth() == null || product.getDepth() == null || product.getHeight() == null) {
+            return null;
+        }
+        return new DimensionIndex.Entry(
+                product.getId(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getWidth(),
+                product.getDepth(),
+                product.getHeight());
+    }
+
+    private static ProductSearchIndex.Document toDocument(Product product) {
+        return new ProductSearchIndex.Document(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getCategory() != null ? product.getCategory().getName() : null,
+                product.getSeller() != null ? product.getSeller().getName() : null);
+    }
+
+    private static ProductFacetIndex.Entry toFacetEntry(Product product) {
+        return new ProductFacetIndex.Entry(
+                product.getId(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getCategory() != null ? product.getCategory().getName() : null,
+                product.getSeller() != null ? product.getSeller().getId() : null,
+                product.getSeller() != null ? product.getSeller().getName() : null,
+                product.getPrice());
+    }
+}
@@ -5,7 +5,11 @@ import com.realive.domain.product.*;
 import com.realive.domain.seller.Seller;
 import com.realive.dto.page.PageResponseDTO;
 import com.realive.dto.product.*;
+import com.realive.event.ProductChangedEvent;
+import com.realive.event.ProductImageUploadedEvent;
 import com.realive.repository.product.*;
+import com.realive.repository.product.recommend.CoPurchaseIndex;
+import com.realive.repository.product.search.DimensionIndex;
 import com.realive.repository.seller.SellerRepository;
 import com.realive.service.common.FileUploadService;
 import com.realive.service.product.ProductService;
@@ -14,17 +18,29 @@ import com.realive.service.seller.SellerService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -37,13 +53,24 @@ public class ProductServiceImpl implements ProductService {
 
         private static final Logger log = LoggerFactory.getLogger(ProductServiceImpl.class);
 
+        private static final String PRODUCT_IMAGE_INSERT_SQL =
+                        "INSERT INTO product_images (product_id, url, is_thumbnail, media_type) VALUES (?, ?, ?, ?)";
+
         private final ProductImageRepository productImageRepository;
         private final ProductRepository productRepository;
         private final CategoryRepository categoryRepository;
+        private final CategoryHierarchyCache categoryHierarchyCache;
         private final SellerRepository sellerRepository;
         private final DeliveryPolicyRepository deliveryPolicyRepository;
         private final FileUploadService fileUploadService;
         private final SellerService sellerService;
+        private final ProductThumbnailResolver productThumbnailResolver;
+        private final ProductDetailCache productDetailCache;
+        private final CoPurchaseIndex coPurchaseIndex;
+        private final ProductViewCountRepository productViewCountRepository;
+        private final DimensionIndex dimensionIndex;
+        private final JdbcTemplate jdbcTemplate;
+        private final ApplicationEventPublisher eventPublisher;
 
         @Override
         public Long createProduct(ProductRequestDTO dto, Long sellerId) {
@@ -72,40 +99,11 @@ public class ProductServiceImpl implements ProductService {
 
                 productRepository.save(product);
 
-                // 대표 이미지 저장
-                String imageUrl = fileUploadService.upload(dto.getImageThumbnail(), "product", sellerId);
-                productImageRepository.save(ProductImage.builder()
-                                .url(imageUrl)
-                                .isThumbnail(true)
-                                .mediaType(MediaType.IMAGE)
-                                .product(product)
-                                .build());
-
-                // 대표 영상 저장 (선택)
-                if (dto.getVideoThumbnail() != null && !dto.getVideoThumbnail().isEmpty()) {
-                        String videoUrl = fileUploadService.upload(dto.getVideoThumbnail(), "product", sellerId);
-                        productImageRepository.save(ProductImage.builder()
-                                        .url(videoUrl)
-                                        .isThumbnail(true)
-                                        .mediaType(MediaType.VIDEO)
-                                        .product(product)
-                                        .build());
-                }
-
-                // 서브 이미지 저장
-                if (dto.getSubImages() != null && !dto.getSubImages().isEmpty()) {
-                        for (MultipartFile file : dto.getSubImages()) {
-                                if (file != null && !file.isEmpty()) {
-                                        String url = fileUploadService.upload(file, "product", sellerId);
-                                        productImageRepository.save(ProductImage.builder()
-                                                        .url(url)
-                                                        .isThumbnail(false)
-                                                        .mediaType(MediaType.IMAGE)
-                                                        .product(product)
-                                                        .build());
-                                }
-                        }
+                // 대표 이미지(필수), 대표 영상(선택), 서브 이미지 저장
+                if (dto.getImageThumbnail() == null || dto.getImageThumbnail().isEmpty()) {
+                        throw new RuntimeException("업로드할 파일이 존재하지 않습니다.");
                 }
+                saveProductMedia(product, sellerId, dto.getImageThumbnail(), dto.getVideoThumbnail(), dto.getSubImages());
 
                 // 배송 정책 저장
                 if (dto.getDeliveryPolicy() != null) {
@@ -131,50 +129,20 @@ public class ProductServiceImpl implements ProductService {
                 }
 
                 
-                // 대표 이미지 저장
+                // 기존 대표 이미지/영상은 새 파일이 있을 때만 교체
                 if (dto.getImageThumbnail() != null && !dto.getImageThumbnail().isEmpty()) {
                         productImageRepository.findByProductId(productId).stream()
                         .filter(img -> img.isThumbnail() && img.getMediaType() == MediaType.IMAGE)
                         .forEach(productImageRepository::delete);
-
-                        String imageUrl = fileUploadService.upload(dto.getImageThumbnail(), "product", sellerId);
-                        productImageRepository.save(ProductImage.builder()
-                                        .url(imageUrl)
-                                        .isThumbnail(true)
-                                        .mediaType(MediaType.IMAGE)
-                                        .product(product)
-                                        .build());
                 }
-
-                // 대표 영상 저장
                 if (dto.getVideoThumbnail() != null && !dto.getVideoThumbnail().isEmpty()) {
                         productImageRepository.findByProductId(productId).stream()
                         .filter(img -> img.isThumbnail() && img.getMediaType() == MediaType.VIDEO)
                         .forEach(productImageRepository::delete);
-                        
-                        String videoUrl = fileUploadService.upload(dto.getVideoThumbnail(), "product", sellerId);
-                        productImageRepository.save(ProductImage.builder()
-                                        .url(videoUrl)
-                                        .isThumbnail(true)
-                                        .mediaType(MediaType.VIDEO)
-                                        .product(product)
-                                        .build());
                 }
 
-                // 서브 이미지 저장
-                if (dto.getSubImages() != null && !dto.getSubImages().isEmpty()) {
-                        for (MultipartFile file : dto.getSubImages()) {
-                                if (file != null && !file.isEmpty()) {
-                                        String url = fileUploadService.upload(file, "product", sellerId);
-                                        productImageRepository.save(ProductImage.builder()
-                                                        .url(url)
-                                                        .isThumbnail(false)
-                                                        .mediaType(MediaType.IMAGE)
-                                                        .product(product)
-                                                        .build());
-                                }
-                        }
-                }
+                // 대표 이미지, 대표 영상, 서브 이미지 저장
+                saveProductMedia(product, sellerId, dto.getImageThumbnail(), dto.getVideoThumbnail(), dto.getSubImages());
 
                 // 상품 정보 수정
                 product.setName(dto.getName());
@@ -247,14 +215,12 @@ public class ProductServiceImpl implements ProductService {
                                 .map(Product::getId)
                                 .toList();
 
-                List<Object[]> rows = productImageRepository.findThumbnailUrlsByProductIds(productIds, MediaType.IMAGE);
-                Map<Long, String> imageMap = rows.stream()
-                                .collect(Collectors.toMap(
-                                                row -> (Long) row[0],
-                                                row -> (String) row[1]));
+                Map<Long, String> imageMap = productThumbnailResolver.resolveAll(productIds);
 
                 List<ProductListDTO> dtoList = products.stream()
-                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId())))
+                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId()),
+                                                categoryHierarchyCache.getFullPath(product.getCategory()),
+                                                categoryHierarchyCache.getParentName(product.getCategory())))
                                 .collect(Collectors.toList());
 
                 return PageResponseDTO.<ProductListDTO>withAll()
@@ -269,14 +235,21 @@ public class ProductServiceImpl implements ProductService {
                 Seller seller = (Seller) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
                 Long sellerId = seller.getId();
 
+                // 상세 캐시 조회 (권한 확인은 캐시 적중 여부와 관계없이 매번 수행)
+                ProductDetailCache.SellerView view = productDetailCache.getSellerView(productId, this::loadSellerView);
+                if (!view.getSellerId().equals(sellerId)) {
+                        throw new SecurityException("해당 상품에 대한 조회 권한이 없습니다.");
+                }
+                return view.getDetail();
+        }
+
+        // 판매자 상세 DB 조회 (캐시 미적중 시)
+        private ProductDetailCache.SellerView loadSellerView(Long productId) {
                 Product product = productRepository.findById(productId)
                                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
                 Category category = product.getCategory();
-                if (!product.getSeller().getId().equals(sellerId)) {
-                        throw new SecurityException("해당 상품에 대한 조회 권한이 없습니다.");
-                }
-                return ProductResponseDTO.builder()
+                ProductResponseDTO detail = ProductResponseDTO.builder()
                                 .id(product.getId())
                                 .name(product.getName())
                                 .description(product.getDescription())
@@ -289,24 +262,100 @@ public class ProductServiceImpl implements ProductService {
                                 .isActive(product.isActive())
                                 .imageThumbnailUrl(getThumbnailUrlByType(productId, MediaType.IMAGE))
                                 .videoThumbnailUrl(getThumbnailUrlByType(productId, MediaType.VIDEO))
-                                .categoryName(Category.getCategoryFullPath(product.getCategory()))
+                                .categoryName(categoryHierarchyCache.getFullPath(category))
                                 .categoryId(category.getId()) // ✅ 추가
-                                .parentCategoryId(category.getParent() != null ? category.getParent().getId() : null) // ✅ 추가
+                                .parentCategoryId(categoryHierarchyCache.getParentId(category)) // ✅ 추가
                                 .sellerName(product.getSeller().getName())
                                 .build();
+                return new ProductDetailCache.SellerView(product.getSeller().getId(), detail);
         }
 
         public String getThumbnailUrlByType(Long productId, MediaType mediaType) {
-                return productImageRepository
-                                .findFirstByProductIdAndIsThumbnailTrueAndMediaType(productId, mediaType)
-                                .map(ProductImage::getUrl)
-                                .orElse(null);
+                return productThumbnailResolver.resolve(productId, mediaType);
+        }
+
+        /**
+         * 상품 미디어 저장
+         * - 한 요청의 파일들은 FileUploadService.uploadAll로 동시에 저장 (하나라도 실패하면 전부 취소)
+         * - ProductImage 행은 JDBC 배치 INSERT 한 번으로 저장 (IDENTITY ID라 JPA saveAll은 행마다 INSERT)
+         * - 배치 INSERT는 엔티티 리스너를 거치지 않으므로 축소 이미지 생성/캐시 무효화 이벤트를 직접 발행
+         */
+        private void saveProductMedia(Product product, Long sellerId, MultipartFile thumbnail,
+                                      MultipartFile video, List<MultipartFile> subImages) {
+                List<MultipartFile> files = new ArrayList<>();
+                List<ProductImage> images = new ArrayList<>();
+
+                if (thumbnail != null && !thumbnail.isEmpty()) {
+                        files.add(thumbnail);
+                        images.add(ProductImage.builder().isThumbnail(true).mediaType(MediaType.IMAGE).product(product).build());
+                }
+                if (video != null && !video.isEmpty()) {
+                        files.add(video);
+                        images.add(ProductImage.builder().isThumbnail(true).mediaType(MediaType.VIDEO).product(product).build());
+                }
+                if (subImages != null) {
+                        for (MultipartFile file : subImages) {
+                                if (file != null && !file.isEmpty()) {
+                                        files.add(file);
+                                        images.add(ProductImage.builder().isThumbnail(false).mediaType(MediaType.IMAGE).product(product).build());
+                                }
+                        }
+                }
+                if (files.isEmpty()) {
+                        return;
+                }
+
+                List<String> urls = fileUploadService.uploadAll(files, "product", sellerId);
+                for (int i = 0; i < images.size(); i++) {
+                        images.get(i).setUrl(urls.get(i));
+                }
+                List<Long> imageIds = insertProductImages(images);
+
+                for (int i = 0; i < images.size(); i++) {
+                        if (images.get(i).getMediaType() == MediaType.IMAGE) {
+                                eventPublisher.publishEvent(new ProductImageUploadedEvent(imageIds.get(i)));
+                        }
+                }
+                eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+        }
+
+        // 상품 이미지 배치 INSERT → 생성된 ID (입력 순서)
+        private List<Long> insertProductImages(List<ProductImage> images) {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                                con -> con.prepareStatement(PRODUCT_IMAGE_INSERT_SQL, new String[]{"id"}),
+                                new BatchPreparedStatementSetter() {
+                                        @Override
+                                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                                ProductImage image = images.get(i);
+                                                ps.setLong(1, image.getProduct().getId());
+                                                ps.setString(2, image.getUrl());
+                                                ps.setBoolean(3, image.isThumbnail());
+                                                ps.setString(4, image.getMediaType().name());
+                                        }
+
+                                        @Override
+                                        public int getBatchSize() {
+                                                return images.size();
+                                        }
+                                },
+                                keyHolder);
+
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                if (keys.size() != images.size()) {
+                        throw new IllegalStateException("생성된 상품 이미지 ID 수가 이미지 수와 다릅니다.");
+                }
+                return keys.stream()
+                                .map(key -> ((Number) key.get("id")).longValue())
+                                .collect(Collectors.toList());
         }
 
         // 구매자 전용 상품 목록 조회
         @Override
         public PageResponseDTO<ProductListDTO> getVisibleProducts(CustomerProductSearchCondition condition) {
-                Page<Product> result = productRepository.searchVisibleProducts(condition);
+                Slice<Product> result = condition.isCountFree()
+                                ? productRepository.searchVisibleProductSlice(condition)
+                                : productRepository.searchVisibleProducts(condition);
                 List<Product> products = result.getContent();
 
                 // 상품 id 목록 추출
@@ -315,25 +364,104 @@ public class ProductServiceImpl implements ProductService {
                                 .toList();
 
                 // 상품 이미지 매핑
-                List<Object[]> rows = productImageRepository.findThumbnailUrlsByProductIds(productIDs, MediaType.IMAGE);
-                Map<Long, String> imageMap = rows.stream()
-                                .collect(Collectors.toMap(
-                                                row -> (Long) row[0],
-                                                row -> (String) row[1]));
+                Map<Long, String> imageMap = productThumbnailResolver.resolveAll(productIDs);
 
                 // 상품 DTO 매핑
                 List<ProductListDTO> dtoList = products.stream()
-                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId())))
+                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId()),
+                                                categoryHierarchyCache.getFullPath(product.getCategory()),
+                                                categoryHierarchyCache.getParentName(product.getCategory())))
                                 .toList();
 
+                // 슬라이스 모드: 다음 페이지 존재 여부 + 캐시된 대략적인 전체 개수 + 다음 페이지 키셋 커서
+                // (관련도 순 검색은 전체 개수를 이미 알고 있어 Page로 반환되며 커서를 지원하지 않음)
+                if (!(result instanceof Page<Product> page)) {
+                        String nextCursor = products.isEmpty() ? null
+                                        : ProductCursor.after(ProductCursor.keyForSort(condition.getSort()),
+                                                        products.get(products.size() - 1)).encode();
+                        return PageResponseDTO.<ProductListDTO>withSlice()
+                                        .pageRequestDTO(condition)
+                                        .dtoList(dtoList)
+                                        .hasNext(result.hasNext())
+                                        .approximateTotal(productRepository.findApproximateVisibleProductCount(condition))
+                                        .nextCursor(nextCursor)
+                                        .build();
+                }
+
                 // 반환
                 return PageResponseDTO.<ProductListDTO>withAll()
                                 .pageRequestDTO(condition)
                                 .dtoList(dtoList)
-                                .total((int) result.getTotalElements())
+                                .total((int) page.getTotalElements())
                                 .build();
         }
 
+        // 함께 구매한 상품 조회: 메모리 모델에서 ID 조회 → 상품 한 번에 조회 → 모델 순서 유지
+        @Override
+        public List<ProductListDTO> getFrequentlyBoughtTogether(Long productId, int limit) {
+                // 판매 중지된 상품을 걸러도 limit을 채울 수 있도록 모델의 후보를 모두 가져옴
+                long[] relatedIds = coPurchaseIndex.related(productId, Integer.MAX_VALUE);
+                if (relatedIds.length == 0 || limit <= 0) {
+                        return List.of();
+                }
+
+                return toActiveListInOrder(Arrays.stream(relatedIds).boxed().toList(), limit);
+        }
+
+        // 조회수 많은 상품 조회: 반영된 조회수 기준 상품 ID → 상품 한 번에 조회 → 조회수 순서 유지
+        @Override
+        public List<ProductListDTO> getMostViewedProducts(int limit) {
+                if (limit <= 0) {
+                        return List.of();
+                }
+                List<Long> ids = productViewCountRepository.findMostViewedActiveProductIds(PageRequest.of(0, limit));
+                return toActiveListInOrder(ids, limit);
+        }
+
+        // 가구 크기 검색: 메모리 k-d 트리에서 ID 조회 → 상품 한 번에 조회 → 크기가 가까운 순서 유지
+        @Override
+        public List<ProductListDTO> searchByDimensions(DimensionSearchCondition condition) {
+                Integer width = condition.getWidth();
+                Integer depth = condition.getDepth();
+                Integer height = condition.getHeight();
+                if (width == null || depth == null || height == null || width <= 0 || depth <= 0 || height <= 0) {
+                        throw new IllegalArgumentException("가로, 깊이, 높이를 모두 1 이상으로 입력해야 합니다.");
+                }
+                int limit = Math.max(1, Math.min(condition.getLimit(), 100));
+                Set<Long> categoryIds = condition.getCategoryId() != null
+                                ? categoryHierarchyCache.getSelfAndDescendantIds(condition.getCategoryId())
+                                : null;
+
+                List<Long> ids = condition.isNearest()
+                                ? dimensionIndex.nearest(width, depth, height, categoryIds, limit)
+                                : dimensionIndex.fitsWithin(width, depth, height, categoryIds, limit);
+                return toActiveListInOrder(ids, limit);
+        }
+
+        // 상품 ID 순서대로 판매중인 상품만 목록 DTO로 변환 (상품/카테고리/판매자 한 번에 조회, 썸네일은 캐시)
+        private List<ProductListDTO> toActiveListInOrder(List<Long> ids, int limit) {
+                if (ids.isEmpty()) {
+                        return List.of();
+                }
+                Map<Long, Product> productMap = productRepository.findWithCategoryAndSellerByIdIn(ids).stream()
+                                .filter(Product::isActive)
+                                .collect(Collectors.toMap(Product::getId, p -> p));
+                List<Product> products = ids.stream()
+                                .map(productMap::get)
+                                .filter(Objects::nonNull)
+                                .limit(limit)
+                                .toList();
+
+                Map<Long, String> imageMap = productThumbnailResolver.resolveAll(
+                                products.stream().map(Product::getId).toList());
+
+                return products.stream()
+                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId()),
+                                                categoryHierarchyCache.getFullPath(product.getCategory()),
+                                                categoryHierarchyCache.getParentName(product.getCategory())))
+                                .toList();
+        }
+
         @Override
         public PageResponseDTO<ProductListDTO> getAllProductsForAdmin(ProductSearchCondition condition) {
                 log.info("관리자용 전체 상품 목록 조회 - 조건: {}", condition);
@@ -348,15 +476,13 @@ public class ProductServiceImpl implements ProductService {
                                 .toList();
 
                 // 썸네일 이미지 매핑
-                List<Object[]> rows = productImageRepository.findThumbnailUrlsByProductIds(productIds, MediaType.IMAGE);
-                Map<Long, String> imageMap = rows.stream()
-                                .collect(Collectors.toMap(
-                                                row -> (Long) row[0],
-                                                row -> (String) row[1]));
+                Map<Long, String> imageMap = productThumbnailResolver.resolveAll(productIds);
 
                 // DTO 변환
                 List<ProductListDTO> dtoList = products.stream()
-                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId())))
+                                .map(product -> ProductListDTO.from(product, imageMap.get(product.getId()),
+                                                categoryHierarchyCache.getFullPath(product.getCategory()),
+                                                categoryHierarchyCache.getParentName(product.getCategory())))
                                 .collect(Collectors.toList());
 
                 return PageResponseDTO.<ProductListDTO>withAll()
@@ -0,0 +1,140 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.dto.product.ProductViewCounterStatsDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 상세 조회수 카운터
+ * - 조회 시에는 상품별 LongAdder만 증가 (잠금/DB 접근 없음)
+ * - flush-interval-ms마다 모인 조회수를 product_view_counts에 배치 UPSERT로 더함
+ *   (상품 ID 순으로 정렬해 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같아 교착 상태가 생기지 않음)
+ * - 반영에 실패하면 조회수를 카운터에 되돌려 다음 주기에 다시 반영
+ * - 두 주기 연속 조회가 없던 상품의 카운터만 제거
+ *   (한 주기만 보고 제거하면, 카운터를 꺼낸 뒤 증가시키기 직전의 조회가 제거된 카운터에 더해져 누락될 수 있음)
+ */
+@Slf4j
+@Component
+public class ProductViewCounter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO product_view_counts (product_id, view_count, updated_at) VALUES (?, ?, ?) " +
+                    "ON CONFLICT (product_id) DO UPDATE " +
+                    "SET view_count = product_view_counts.view_count + EXCLUDED.view_count, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    // 직전 반영 주기에 조회가 없던 상품 ID (flush 안에서만 접근)
+    private final Set<Long> idle = new HashSet<>();
+
+    private final long startedAt = System.currentTimeMillis();
+    private volatile long lastFlushAt = 0L;
+    private volatile long lastFlushMillis = 0L;
+    private volatile int lastFlushedProducts = 0;
+    private volatile long lastFlushedViews = 0L;
+    private final AtomicLong totalFlushedViews = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+
+    public ProductViewCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 조회 1건 기록
+     */
+    public void record(Long productId) {
+        if (productId != null) {
+            counters.computeIfAbsent(productId, id -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 모인 조회수를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long started = System.currentTimeMillis();
+
+        List<Object[]> rows = new ArrayList<>();
+        long views = 0L;
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                rows.add(new Object[]{entry.getKey(), count, null});
+                views += count;
+                idle.remove(entry.getKey());
+            } else if (!idle.add(entry.getKey())) {
+                // 두 주기 연속 0: 첫 주기 이전에 카운터를 꺼내 둔 요청도 한 주기 안에 증가를 마치므로 제거해도 누락 없음
+                counters.remove(entry.getKey(), entry.getValue());
+                idle.remove(entry.getKey());
+            }
+        }
+        if (rows.isEmpty()) {
+            lastFlushAt = started;
+            return;
+        }
+        rows.sort((a, b) -> Long.compare((Long) a[0], (Long) b[0]));
+        Timestamp now = new Timestamp(started);
+        rows.forEach(row -> row[2] = now);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows));
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            rows.forEach(row -> counters.computeIfAbsent((Long) row[0], id -> new LongAdder()).add((Long) row[1]));
+            flushFailures.incrementAndGet();
+            log.warn("상품 조회수 반영 실패 - 상품 수: {}, 조회수: {} (다음 주기에 재시도)", rows.size(), views, e);
+            return;
+        }
+
+        lastFlushAt = started;
+        lastFlushMillis = System.currentTimeMillis() - started;
+        lastFlushedProducts = rows.size();
+        lastFlushedViews = views;
+        totalFlushedViews.addAndGet(views);
+        log.debug("상품 조회수 반영 - 상품 수: {}, 조회수: {}, 소요: {}ms", rows.size(), views, lastFlushMillis);
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public ProductViewCounterStatsDTO getStats() {
+        long pending = counters.values().stream().mapToLong(LongAdder::sum).sum();
+        long flushedAt = lastFlushAt;
+        return ProductViewCounterStatsDTO.builder()
+                .pendingViews(pending)
+                .trackedProducts(counters.size())
+                .flushLagMillis(System.currentTimeMillis() - (flushedAt > 0 ? flushedAt : startedAt))
+                .lastFlushAt(flushedAt > 0
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(flushedAt), ZoneId.systemDefault()) : null)
+                .lastFlushMillis(lastFlushMillis)
+                .lastFlushedProducts(lastFlushedProducts)
+                .lastFlushedViews(lastFlushedViews)
+                .totalFlushedViews(totalFlushedViews.get())
+                .flushFailures(flushFailures.get())
+                .build();
+    }
+}
@@ -0,0 +1,213 @@
+package com.realive.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기/TTL 제한이 있는 read-through 캐시
+ * - 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - 항목은 저장 후 ttl이 지나면 만료되어 다시 로딩
+ * - 무효화 세대(epoch): 로딩 도중 무효화가 일어나면 로딩 결과를 저장하지 않음
+ *   → 변경 전 데이터를 읽던 요청이 무효화 이후에 옛 값을 다시 캐시에 넣는 경쟁 상태 방지
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 무효화할 때마다 증가 (entries 잠금 안에서만 변경/비교)
+    private long epoch = 0L;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    public BoundedTtlCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기와 TTL은 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 loader로 로딩 후 저장
+     * - loader가 null을 반환하거나 예외를 던지면 저장하지 않음
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long startEpoch;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > clock.getAsLong()) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+            startEpoch = epoch;
+        }
+        misses.increment();
+
+        // DB 조회는 잠금 밖에서 수행
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (entries) {
+                if (epoch == startEpoch) {
+                    entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 여러 키 일괄 조회, 없거나 만료된 키만 모아 batchLoader로 한 번에 로딩 후 저장
+     * - batchLoader가 반환하지 않은(또는 null 값인) 키는 결과와 캐시에 포함되지 않음
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> batchLoader) {
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        long startEpoch;
+        synchronized (entries) {
+            long now = clock.getAsLong();
+            for (K key : keys) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null && entry.expiresAt > now) {
+                    result.put(key, entry.value);
+                } else {
+                    if (entry != null) {
+                        entries.remove(key);
+                    }
+                    missing.add(key);
+                }
+            }
+            startEpoch = epoch;
+        }
+        hits.add(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        misses.add(missing.size());
+
+        Map<K, V> loaded = batchLoader.apply(missing);
+        synchronized (entries) {
+            long expiresAt = clock.getAsLong() + ttlMillis;
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    result.put(key, value);
+                    if (epoch == startEpoch) {
+                        entries.put(key, new Entry<>(value, expiresAt));
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 로딩 없이 캐시된 값만 조회
+     *
+     * @return 없거나 만료되었으면 null
+     */
+    public V getIfPresent(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt > clock.getAsLong()) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 값을 직접 저장 (다른 경로에서 이미 조회한 값을 캐시에 반영할 때 사용)
+     */
+    public void put(K key, V value) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+        }
+    }
+
+    /**
+     * 항목 무효화 (진행 중인 로딩 결과도 저장되지 않음)
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            epoch++;
+            entries.remove(key);
+        }
+        invalidations.increment();
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            epoch++;
+            entries.clear();
+        }
+        invalidations.increment();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
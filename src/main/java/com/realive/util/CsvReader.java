@@ -0,0 +1,119 @@
+package com.realive.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180)
+ * - 한 번에 한 행(record)만 읽어 반환하므로 파일 크기와 무관하게 메모리 사용량이 일정
+ * - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈, 연속 큰따옴표("") 이스케이프 지원
+ * - 줄 구분은 \n, \r\n 모두 허용하며, 첫 행 앞의 UTF-8 BOM은 무시 (엑셀 저장 파일)
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BOM = 0xFEFF;
+
+    private final Reader reader;
+
+    // 현재 읽는 위치의 줄 번호 (1부터) / 마지막으로 반환한 행이 시작된 줄 번호
+    private long line = 1;
+    private long recordLine = 0;
+
+    private boolean first = true;
+    private int pushback = -1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 필드 목록, 파일 끝이면 null
+     * @throws IllegalArgumentException 닫히지 않은 큰따옴표
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다. (" + recordLine + "행)");
+                }
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int nextChar = read();
+                    if (nextChar != '\n') {
+                        pushback = nextChar;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 반환한 행이 시작된 줄 번호 (1부터, 오류 보고용)
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -1) {
+            int c = pushback;
+            pushback = -1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
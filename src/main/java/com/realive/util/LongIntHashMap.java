@@ -0,0 +1,135 @@
+package com.realive.util;
+
+import java.util.Arrays;
+
+/**
+ * long → int 해시맵 (기본형 배열, 개방 주소법/선형 탐사)
+ * - 키/값을 박싱하지 않아 대량 집계(수백만 건) 시 HashMap&lt;Long, Integer&gt;보다 메모리/GC 부담이 훨씬 적음
+ * - 음수 키는 지원하지 않음 (빈 칸 표시에 -1 사용)
+ * - 삭제는 지원하지 않음 (집계 전용), 스레드 안전하지 않음
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY = -1L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+    private int resizeAt;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * @return 값, 없으면 defaultValue
+     */
+    public int get(long key, int defaultValue) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long k = keys[slot];
+            if (k == key) {
+                return values[slot];
+            }
+            if (k == EMPTY) {
+                return defaultValue;
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        values[slotFor(key)] = value;
+    }
+
+    /**
+     * 값에 delta를 더함 (없으면 0에서 시작)
+     *
+     * @return 더한 뒤의 값
+     */
+    public int addTo(long key, int delta) {
+        int slot = slotFor(key);
+        return values[slot] += delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 항목 순회 (순서 없음)
+     */
+    public void forEach(Consumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, int value);
+    }
+
+    // 키의 칸 위치 (없으면 새로 만들고 값 0)
+    private int slotFor(long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("음수 키는 지원하지 않습니다: " + key);
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (true) {
+            long k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == EMPTY) {
+                if (size >= resizeAt) {
+                    resize();
+                    return slotFor(key);
+                }
+                keys[slot] = key;
+                size++;
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // 연속된 ID/상위 비트에 몰린 키도 고르게 분산 (MurmurHash3 fmix64)
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,91 @@
+package com.realive.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 락 없이(CAS) 동작하는 토큰 버킷
+ * - capacity: 최대 누적 토큰 수 (버스트 허용량)
+ * - refillPerSecond: 초당 충전되는 토큰 수
+ * - 상태(토큰 수, 마지막 충전 시각)를 불변 객체로 두고 AtomicReference로 교체
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("토큰 버킷의 용량과 충전 속도는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     * @return 획득 성공 여부
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = refilled(current, now);
+            if (tokens < 1d) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1d, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 획득했던 토큰 1개 반환 (후속 검사에서 거절된 경우 사용)
+     */
+    public void release() {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens + 1d);
+            if (state.compareAndSet(current, new State(tokens, current.lastRefillNanos))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰 1개가 충전될 때까지 남은 시간 (지금 획득 가능하면 0)
+     */
+    public long nanosUntilAvailable() {
+        double tokens = refilled(state.get(), System.nanoTime());
+        if (tokens >= 1d) {
+            return 0L;
+        }
+        return (long) Math.ceil((1d - tokens) / refillPerNano);
+    }
+
+    /**
+     * 버킷이 가득 찬 상태로 idleNanos 이상 사용되지 않았는지 여부 (정리 대상 판단용)
+     */
+    public boolean isIdle(long idleNanos) {
+        State current = state.get();
+        long now = System.nanoTime();
+        return now - current.lastRefillNanos >= idleNanos && refilled(current, now) >= capacity;
+    }
+
+    private double refilled(State current, long now) {
+        long elapsed = Math.max(0L, now - current.lastRefillNanos);
+        return Math.min(capacity, current.tokens + elapsed * refillPerNano);
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long lastRefillNanos;
+
+        private State(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+}
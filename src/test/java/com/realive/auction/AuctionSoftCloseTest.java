@@ -0,0 +1,99 @@
+package com.realive.auction;
+
+import com.realive.config.H2DataJpaTest;
+import com.realive.config.TestDataFixture;
+import com.realive.domain.auction.Auction;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.service.admin.auction.BidService;
+import com.realive.util.TickSizeCalculator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마감 연장(soft-close) 검증
+ * - 마감 window-seconds 이내의 입찰은 마감 시간을 extension-seconds만큼 연장
+ * - 그 밖의 입찰은 마감 시간을 바꾸지 않음
+ * - 두 입찰 전략(pessimistic/optimistic) 모두 같은 결과여야 함
+ */
+@H2DataJpaTest
+@TestPropertySource(properties = {
+        "auction.soft-close.window-seconds=30",
+        "auction.soft-close.extension-seconds=30"
+})
+@Import(BidPlacementTestConfig.class)
+class AuctionSoftCloseTest {
+
+    private static final int START_PRICE = 100_000;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private TickSizeCalculator tickSizeCalculator;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private TestDataFixture testDataFixture;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"pessimistic", "optimistic"})
+    void 마감_직전_입찰은_마감_시간을_연장한다(String strategy) {
+        useStrategy(strategy);
+        Integer auctionId = createAuction(LocalDateTime.now().plusSeconds(10));
+        LocalDateTime endTime = auctionRepository.findById(auctionId).orElseThrow().getEndTime();
+
+        placeMinimumBid(auctionId);
+
+        assertThat(auctionRepository.findById(auctionId).orElseThrow().getEndTime())
+                .isEqualTo(endTime.plusSeconds(30));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"pessimistic", "optimistic"})
+    void 마감_구간_밖의_입찰은_마감_시간을_바꾸지_않는다(String strategy) {
+        useStrategy(strategy);
+        Integer auctionId = createAuction(LocalDateTime.now().plusHours(1));
+        LocalDateTime endTime = auctionRepository.findById(auctionId).orElseThrow().getEndTime();
+
+        placeMinimumBid(auctionId);
+
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+        assertThat(auction.getEndTime()).isEqualTo(endTime);
+        assertThat(auction.getCurrentPrice()).isGreaterThan(START_PRICE);
+    }
+
+    private void useStrategy(String strategy) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bidService), "placementStrategy", strategy);
+    }
+
+    private void placeMinimumBid(Integer auctionId) {
+        Integer customerId = testDataFixture.createCustomer("softclose").intValue();
+
+        int bidPrice = tickSizeCalculator.calculateMinBidPrice(START_PRICE, START_PRICE);
+        bidService.placeBid(auctionId, customerId, new BidRequestDTO(auctionId, bidPrice));
+    }
+
+    private Integer createAuction(LocalDateTime endTime) {
+        return auctionRepository.save(Auction.builder()
+                .productId(1)
+                .startPrice(START_PRICE)
+                .currentPrice(START_PRICE)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(endTime)
+                .status(AuctionStatus.PROCEEDING)
+                .build()).getId();
+    }
+}
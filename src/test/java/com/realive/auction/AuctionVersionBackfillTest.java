@@ -0,0 +1,101 @@
+package com.realive.auction;
+
+import com.realive.config.H2DataJpaTest;
+import com.realive.config.TestDataFixture;
+import com.realive.domain.auction.Auction;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.service.admin.auction.BidService;
+import com.realive.serviceimpl.admin.auction.AuctionVersionBackfill;
+import com.realive.util.TickSizeCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 버전 컬럼 추가 이전에 생성된 경매(version NULL) 보정 검증
+ * - 보정 후에는 두 입찰 전략 모두 입찰이 반영되고 버전이 0부터 증가
+ */
+@H2DataJpaTest
+@Import({BidPlacementTestConfig.class, AuctionVersionBackfill.class})
+class AuctionVersionBackfillTest {
+
+    private static final int START_PRICE = 100_000;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private TickSizeCalculator tickSizeCalculator;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private TestDataFixture testDataFixture;
+
+    @Autowired
+    private AuctionVersionBackfill auctionVersionBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 컬럼 추가 직후(ddl-auto=update)의 스키마처럼 NULL 허용으로 되돌림
+    @BeforeEach
+    void allowNullVersion() {
+        jdbcTemplate.execute("ALTER TABLE auctions ALTER COLUMN version DROP NOT NULL");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"pessimistic", "optimistic"})
+    void 버전이_NULL인_경매도_보정_후_입찰된다(String strategy) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bidService), "placementStrategy", strategy);
+        Integer auctionId = insertAuctionWithNullVersion();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT version FROM auctions WHERE id = ?", Long.class, auctionId)).isNull();
+
+        auctionVersionBackfill.backfill();
+        int bidPrice = tickSizeCalculator.calculateMinBidPrice(START_PRICE, START_PRICE);
+        bidService.placeBid(auctionId, testDataFixture.createCustomer("backfill").intValue(), new BidRequestDTO(auctionId, bidPrice));
+
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+        assertThat(auction.getCurrentPrice()).isEqualTo(bidPrice);
+        assertThat(auction.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void 보정_후에는_버전_없이_저장할_수_없다() {
+        insertAuctionWithNullVersion();
+
+        auctionVersionBackfill.backfill();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auctions WHERE version IS NULL", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT is_nullable FROM information_schema.columns " +
+                        "WHERE LOWER(table_name) = 'auctions' AND LOWER(column_name) = 'version'", String.class))
+                .isEqualTo("NO");
+    }
+
+    private Integer insertAuctionWithNullVersion() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO auctions (product_id, start_price, current_price, start_time, end_time, status, " +
+                        "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, NULL, ?, ?)",
+                testDataFixture.nextSequence(), START_PRICE, START_PRICE,
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)), Timestamp.valueOf(LocalDateTime.now().plusHours(1)),
+                "PROCEEDING", now, now);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM auctions", Integer.class);
+    }
+}
@@ -0,0 +1,211 @@
+package com.realive.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.auction.Bid;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.domain.customer.Customer;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.exception.BidException;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.service.admin.auction.BidService;
+import com.realive.serviceimpl.admin.auction.BidPlacementStats;
+import com.realive.util.TickSizeCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 경합 벤치마크
+ * - 하나의 경매에 다수의 고객이 마감 직전 동시에 입찰하는 상황을 임베디드 DB(H2)에서 재현
+ * - 처리량, 지연시간(p50/p99), 재시도/락 실패 횟수를 입찰 전략(pessimistic/optimistic)별로 출력
+ * - 전략별로 갱신 손실이 없는지(현재가 = 최고 입찰가, 저장된 입찰 수 = 성공 수) 함께 검증
+ * - 기본 test 태스크에서는 제외되며 ./gradlew bidBenchmark 로 실행
+ *   (예: ./gradlew bidBenchmark -Dbench.bidders=200 -Dbench.duration-seconds=10)
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bidbench;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=5000",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "logging.level.com.realive=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BidPlacementTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BidContentionBenchmark {
+
+    private static final int START_PRICE = 100_000;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidPlacementStats bidPlacementStats;
+
+    @Autowired
+    private TickSizeCalculator tickSizeCalculator;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"pessimistic", "optimistic"})
+    void placeBidUnderContention(String strategy) throws Exception {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bidService), "placementStrategy", strategy);
+
+        int bidders = Integer.getInteger("bench.bidders", 200);
+        int durationSeconds = Integer.getInteger("bench.duration-seconds", 10);
+
+        Integer auctionId = createAuction(durationSeconds);
+        List<Integer> customerIds = createCustomers(bidders);
+
+        long placedBefore = bidPlacementStats.getPlaced();
+        long retriesBefore = bidPlacementStats.getRetries();
+        long lockFailuresBefore = bidPlacementStats.getLockFailures();
+
+        Map<String, Integer> failures = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(bidders);
+        List<Future<WorkerResult>> futures = new ArrayList<>();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        for (Integer customerId : customerIds) {
+            futures.add(executor.submit(() -> runBidder(auctionId, customerId, deadline, start, failures)));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+
+        List<Long> latencies = new ArrayList<>();
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<WorkerResult> future : futures) {
+            WorkerResult result = future.get();
+            latencies.addAll(result.latencies);
+            succeeded += result.succeeded;
+            rejected += result.rejected;
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000d;
+        executor.shutdown();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        log.warn("\n===== 입찰 경합 벤치마크 ({}) =====\n"
+                        + "입찰자 수: {}, 측정 시간: {}s (실측 {}s)\n"
+                        + "시도: {}, 성공: {}, 거절(가격/상태): {}, 기타 실패: {}\n"
+                        + "처리량: 시도 {}/s, 성공 {}/s\n"
+                        + "지연시간: p50 {}ms, p99 {}ms, max {}ms\n"
+                        + "재시도: {}, 락 실패: {}\n"
+                        + "==============================",
+                strategy, bidders, durationSeconds, String.format("%.2f", elapsedSeconds),
+                sorted.length, succeeded, rejected, failures,
+                String.format("%.1f", sorted.length / elapsedSeconds), String.format("%.1f", succeeded / elapsedSeconds),
+                toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.99)),
+                toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                bidPlacementStats.getRetries() - retriesBefore,
+                bidPlacementStats.getLockFailures() - lockFailuresBefore);
+
+        // 갱신 손실 여부 확인: 경매 현재가 = 저장된 최고 입찰가, 저장된 입찰 수 = 성공 수
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+        List<Bid> bids = bidRepository.findByAuctionId(auctionId);
+        int highestBid = bids.stream().mapToInt(Bid::getBidPrice).max().orElse(START_PRICE);
+        assertThat(auction.getCurrentPrice()).isEqualTo(highestBid);
+        assertThat((long) bids.size()).isEqualTo(bidPlacementStats.getPlaced() - placedBefore);
+        assertThat(bids.size()).isEqualTo(succeeded);
+    }
+
+    private WorkerResult runBidder(Integer auctionId, Integer customerId, long deadline,
+                                   CountDownLatch start, Map<String, Integer> failures) throws InterruptedException {
+        WorkerResult result = new WorkerResult();
+        start.await();
+        while (System.nanoTime() < deadline) {
+            int currentPrice = auctionRepository.findById(auctionId).orElseThrow().getCurrentPrice();
+            int bidPrice = tickSizeCalculator.calculateMinBidPrice(currentPrice, START_PRICE);
+
+            long begin = System.nanoTime();
+            try {
+                bidService.placeBid(auctionId, customerId, new BidRequestDTO(auctionId, bidPrice));
+                result.succeeded++;
+            } catch (BidException e) {
+                result.rejected++;
+            } catch (RuntimeException e) {
+                failures.merge(e.getClass().getSimpleName(), 1, Integer::sum);
+            }
+            result.latencies.add(System.nanoTime() - begin);
+        }
+        return result;
+    }
+
+    private Integer createAuction(int durationSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        Auction auction = Auction.builder()
+                .productId(1)
+                .startPrice(START_PRICE)
+                .currentPrice(START_PRICE)
+                .startTime(now.minusHours(1))
+                .endTime(now.plusSeconds(durationSeconds + 60L))
+                .status(AuctionStatus.PROCEEDING)
+                .build();
+        return auctionRepository.save(auction).getId();
+    }
+
+    private List<Integer> createCustomers(int count) {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Customer customer = new Customer("bidder" + i + "@bench.local", "password");
+            customer.setName("bidder" + i);
+            customers.add(customer);
+        }
+        return customerRepository.saveAll(customers).stream()
+                .map(customer -> customer.getId().intValue())
+                .toList();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000d);
+    }
+
+    private static class WorkerResult {
+        private final List<Long> latencies = new ArrayList<>();
+        private int succeeded;
+        private int rejected;
+    }
+}
@@ -0,0 +1,24 @@
+package com.realive.auction;
+
+import com.realive.config.ProductRepositoryTestConfig;
+import com.realive.serviceimpl.admin.auction.AuctionSoftClosePolicy;
+import com.realive.serviceimpl.admin.auction.BidPlacementStats;
+import com.realive.serviceimpl.admin.auction.BidServiceImpl;
+import com.realive.serviceimpl.admin.auction.OptimisticBidPlacementStrategy;
+import com.realive.serviceimpl.admin.auction.PessimisticBidPlacementStrategy;
+import com.realive.util.TickSizeCalculator;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 입찰 처리 @DataJpaTest 공용 설정
+ * - BidServiceImpl과 두 입찰 전략(pessimistic/optimistic), 마감 연장 정책, 입찰 단위 계산기 등록
+ * - 사용: @Import(BidPlacementTestConfig.class)
+ */
+@TestConfiguration
+@ComponentScan(basePackageClasses = TickSizeCalculator.class)
+@Import({BidServiceImpl.class, PessimisticBidPlacementStrategy.class, OptimisticBidPlacementStrategy.class,
+        BidPlacementStats.class, AuctionSoftClosePolicy.class, ProductRepositoryTestConfig.class})
+public class BidPlacementTestConfig {
+}
@@ -0,0 +1,140 @@
+package com.realive.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.auction.Bid;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.domain.customer.Customer;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.exception.BidException;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.service.admin.auction.BidService;
+import com.realive.serviceimpl.admin.auction.BidServiceImpl;
+import com.realive.util.TickSizeCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건부 UPDATE 입찰 전략(optimistic)의 동시 입찰 검증
+ * - 여러 고객이 같은 경매에 동시에 입찰해도 갱신 손실이 없는지 확인
+ *   (현재가 = 저장된 최고 입찰가, 저장된 입찰 수 = 성공 수, 같은 가격으로 두 번 수락되지 않음)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:optimisticbid;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=5000",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "bid.placement.strategy=optimistic",
+        "logging.level.com.realive=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BidPlacementTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticBidPlacementTest {
+
+    private static final int START_PRICE = 100_000;
+    private static final int BIDDERS = 8;
+    private static final int ATTEMPTS_PER_BIDDER = 10;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private TickSizeCalculator tickSizeCalculator;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Test
+    void 동시_입찰에서_갱신_손실이_없다() throws Exception {
+        Integer auctionId = auctionRepository.save(Auction.builder()
+                .productId(1)
+                .startPrice(START_PRICE)
+                .currentPrice(START_PRICE)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .status(AuctionStatus.PROCEEDING)
+                .build()).getId();
+        List<Integer> customerIds = new ArrayList<>();
+        for (int i = 0; i < BIDDERS; i++) {
+            Customer customer = new Customer("optimistic" + i + "@test.local", "password");
+            customer.setName("optimistic" + i);
+            customerIds.add(customerRepository.save(customer).getId().intValue());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BIDDERS);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (Integer customerId : customerIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int succeeded = 0;
+                for (int attempt = 0; attempt < ATTEMPTS_PER_BIDDER; attempt++) {
+                    int currentPrice = auctionRepository.findById(auctionId).orElseThrow().getCurrentPrice();
+                    int bidPrice = tickSizeCalculator.calculateMinBidPrice(currentPrice, START_PRICE);
+                    try {
+                        bidService.placeBid(auctionId, customerId, new BidRequestDTO(auctionId, bidPrice));
+                        succeeded++;
+                    } catch (BidException e) {
+                        // 다른 입찰이 먼저 반영된 경우: 정상 거절
+                    } catch (DataAccessException e) {
+                        // 잠금 대기 시간 초과 등: 실패로만 집계 (아래 불변식은 그대로 성립해야 함)
+                    }
+                }
+                return succeeded;
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Integer> future : futures) {
+            succeeded += future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+        List<Bid> bids = bidRepository.findByAuctionId(auctionId);
+        assertThat(succeeded).isPositive();
+        assertThat(bids).hasSize(succeeded);
+        assertThat(bids.stream().map(Bid::getBidPrice).distinct().count()).isEqualTo(bids.size());
+        assertThat(auction.getCurrentPrice())
+                .isEqualTo(bids.stream().mapToInt(Bid::getBidPrice).max().orElseThrow());
+        // 수락된 입찰마다 버전이 1씩 증가 (저장 시 0에서 시작)
+        assertThat(auction.getVersion()).isEqualTo((long) succeeded);
+    }
+
+    @Test
+    void 알_수_없는_입찰_전략은_기동_시점에_실패한다() {
+        BidServiceImpl service = new BidServiceImpl(null, null, null, null);
+        ReflectionTestUtils.setField(service, "placementStrategy", "optimistc");
+
+        assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(service, "validatePlacementStrategy"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("optimistc");
+    }
+}
@@ -0,0 +1,122 @@
+package com.realive.cart;
+
+import com.realive.config.H2DataJpaTest;
+import com.realive.config.ProductRepositoryTestConfig;
+import com.realive.config.TestDataFixture;
+import com.realive.dto.cart.CartItemResponseDTO;
+import com.realive.dto.cart.CartListResponseDTO;
+import com.realive.service.cart.view.CartViewService;
+import com.realive.service.cart.view.CartViewServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 조회 쿼리 수가 장바구니 상품 수와 관계없이 일정한지 검증
+ * - Hibernate 통계로 getCart 한 번에 실행된 JDBC 문 수를 셈
+ * - 장바구니 항목 1회 + 상품/카테고리/판매자/배송정책 조인 1회 + 썸네일 1회(캐시 미적중 시)
+ */
+@H2DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CartViewServiceImpl.class, ProductRepositoryTestConfig.class})
+class CartViewQueryCountTest {
+
+    @Autowired
+    private CartViewService cartViewService;
+
+    @Autowired
+    private TestDataFixture testDataFixture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 장바구니_상품_수와_관계없이_쿼리_수가_같다() {
+        Long smallCart = createCart(3);
+        Long largeCart = createCart(30);
+
+        long smallQueries = countQueries(smallCart);
+        long largeQueries = countQueries(largeCart);
+
+        assertThat(smallQueries).isEqualTo(3);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+
+        // 썸네일 캐시 적중 시에는 썸네일 쿼리도 생략
+        assertThat(countQueries(largeCart)).isEqualTo(2);
+    }
+
+    @Test
+    void 상품_썸네일_배송정책이_함께_채워진다() {
+        Long customerId = createCart(5);
+
+        CartListResponseDTO cart = cartViewService.getCart(customerId);
+
+        assertThat(cart.getItems()).hasSize(5);
+        for (CartItemResponseDTO item : cart.getItems()) {
+            assertThat(item.getProductName()).startsWith("cart-product-");
+            assertThat(item.getProductImage()).isEqualTo("/thumbnails/" + item.getProductId() + ".jpg");
+            assertThat(item.getDeliveryType()).isEqualTo("유료배송");
+            assertThat(item.getDeliveryCost()).isEqualTo(3_000);
+            assertThat(item.getTotalPrice()).isEqualTo(item.getProductPrice() * item.getQuantity());
+        }
+        assertThat(cart.getTotalItems()).isEqualTo(5 * 2);
+        assertThat(cart.getTotalDeliveryCost()).isEqualTo(5 * 3_000);
+    }
+
+    private long countQueries(Long customerId) {
+        statistics.clear();
+        CartListResponseDTO cart = cartViewService.getCart(customerId);
+        assertThat(cart.getItems()).allSatisfy(item -> assertThat(item.getProductName()).isNotEqualTo("[상품 없음]"));
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 고객 1명과 상품 count개(썸네일, 배송정책 포함)를 만들고 모두 장바구니에 담음
+    private Long createCart(int count) {
+        Long customerId = testDataFixture.createCustomer("cart");
+        Long sellerId = testDataFixture.createSeller("cart");
+        Long categoryId = testDataFixture.createCategory("cart");
+        int sequence = testDataFixture.nextSequence();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            productIds.add(testDataFixture.createProduct(
+                    "cart-product-" + sequence + "-" + i, 10_000 + i, 5, sellerId, categoryId));
+        }
+        for (Long productId : productIds) {
+            testDataFixture.addImage(productId, "/thumbnails/" + productId + ".jpg", true, "IMAGE", null);
+            jdbcTemplate.update(
+                    "INSERT INTO delivery_policy (type, cost, region_limit, product_id, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?, ?)",
+                    "유료배송", 3_000, null, productId, now, now);
+            jdbcTemplate.update(
+                    "INSERT INTO cart_items (customer_id, product_id, quantity, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?)",
+                    customerId, productId, 2, now, now);
+        }
+        return customerId;
+    }
+}
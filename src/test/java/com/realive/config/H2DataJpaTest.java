@@ -0,0 +1,36 @@
+package com.realive.config;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2 인메모리 DB @DataJpaTest 공용 설정
+ * - 테스트 컨텍스트마다 별도 DB(이름 무작위)를 만들고 스키마는 엔티티로 생성/삭제
+ * - 테스트 메서드를 트랜잭션으로 감싸지 않음 (서비스 트랜잭션 커밋, 커밋 이후 이벤트, 동시성을 그대로 검증)
+ * - 테스트 데이터 생성용 TestDataFixture 등록
+ * - 테스트별 추가 설정은 @TestPropertySource(properties = ...)로 지정 (여기 값보다 우선)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:test-${random.uuid};DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "logging.level.com.realive=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TestDataFixture.class)
+public @interface H2DataJpaTest {
+}
@@ -0,0 +1,21 @@
+package com.realive.config;
+
+import com.realive.repository.product.CategoryHierarchyCache;
+import com.realive.repository.product.ProductCountCache;
+import com.realive.repository.product.ProductThumbnailResolver;
+import com.realive.repository.product.search.ProductFacetIndex;
+import com.realive.repository.product.search.ProductSearchIndex;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * @DataJpaTest 공용 설정
+ * - 상품 Repository 구현체(ProductRepositoryImpl, ProductSearchImpl, ProductDetailImpl 등)가 의존하는
+ *   QueryDSL, 메모리 색인/캐시 빈을 한 번에 등록
+ * - 사용: @Import(ProductRepositoryTestConfig.class)
+ */
+@TestConfiguration
+@Import({QuerydslConfig.class, ProductSearchIndex.class, ProductFacetIndex.class, CategoryHierarchyCache.class,
+        ProductCountCache.class, ProductThumbnailResolver.class})
+public class ProductRepositoryTestConfig {
+}
@@ -0,0 +1,110 @@
+package com.realive.config;
+
+import com.realive.domain.customer.Customer;
+import com.realive.domain.seller.Seller;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.repository.seller.SellerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트 데이터 생성 (@H2DataJpaTest에서 주입)
+ * - 판매자/고객은 Repository로, 카테고리/상품/상품 이미지는 엔티티 리스너를 거치지 않도록 JDBC로 저장
+ * - 이름/이메일은 JVM 전체에서 증가하는 순번을 붙여 테스트 간 충돌하지 않음
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestDataFixture {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private static final String PRODUCT_INSERT_SQL =
+            "INSERT INTO products (name, description, price, stock, status, is_active, seller_id, category_id, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SellerRepository sellerRepository;
+    private final CustomerRepository customerRepository;
+
+    public int nextSequence() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * 승인/활성 판매자 (이름: {prefix}-seller-{순번})
+     */
+    public Long createSeller(String prefix) {
+        int sequence = nextSequence();
+        return sellerRepository.save(Seller.builder()
+                .name(prefix + "-seller-" + sequence)
+                .email(prefix + "-seller" + sequence + "@test.local")
+                .password("password")
+                .isApproved(true)
+                .isActive(true)
+                .build()).getId();
+    }
+
+    /**
+     * 고객 (이름: {prefix}{순번})
+     */
+    public Long createCustomer(String prefix) {
+        int sequence = nextSequence();
+        Customer customer = new Customer(prefix + sequence + "@test.local", "password");
+        customer.setName(prefix + sequence);
+        return customerRepository.save(customer).getId();
+    }
+
+    /**
+     * 최상위 카테고리 (이름: {prefix}-category-{순번})
+     */
+    public Long createCategory(String prefix) {
+        String name = prefix + "-category-" + nextSequence();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("INSERT INTO categories (name) VALUES (?)", new String[]{"id"});
+            ps.setString(1, name);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 판매중 상품 (상태 "상", 설명 "test")
+     */
+    public Long createProduct(String name, int price, int stock, Long sellerId, Long categoryId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(PRODUCT_INSERT_SQL, new String[]{"id"});
+            ps.setString(1, name);
+            ps.setString(2, "test");
+            ps.setInt(3, price);
+            ps.setInt(4, stock);
+            ps.setString(5, "상");
+            ps.setBoolean(6, true);
+            ps.setLong(7, sellerId);
+            ps.setObject(8, categoryId);
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 상품 이미지/동영상 (listUrl은 목록용 축소 이미지, 없으면 null)
+     */
+    public void addImage(Long productId, String url, boolean thumbnail, String mediaType, String listUrl) {
+        jdbcTemplate.update(
+                "INSERT INTO product_images (product_id, url, is_thumbnail, media_type, list_url) VALUES (?, ?, ?, ?, ?)",
+                productId, url, thumbnail, mediaType, listUrl);
+    }
+}
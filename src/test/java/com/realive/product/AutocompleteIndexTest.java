@@ -0,0 +1,181 @@
+package com.realive.product;
+
+import com.realive.dto.product.AutocompleteSuggestionDTO;
+import com.realive.repository.product.search.AutocompleteIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 색인 검증
+ * - 추가/변경/제거 후에도 suggest 결과가 전체 비교(단어 접두어 일치, 가중치 → 짧은 이름 → 가나다 순)와 같은지 확인
+ * - compact-threshold를 크게 두면 변경분(delta)과 무시 목록(stale) 경로를, 작게 두면 기본 색인 재생성(compact) 경로를 탐
+ */
+class AutocompleteIndexTest {
+
+    private static final String[] WORDS = {"3인용", "가죽", "가구", "소파", "원목", "식탁", "의자", "모던", "Modern",
+            "침대", "수납장", "책상", "LED", "스탠드"};
+
+    @Test
+    void 이름_중간_단어로도_찾고_인기순으로_돌려준다() {
+        AutocompleteIndex index = new AutocompleteIndex(500);
+        index.rebuild(List.of(
+                entry(AutocompleteIndex.Type.PRODUCT, 1L, "3인용 가죽 소파", 10),
+                entry(AutocompleteIndex.Type.PRODUCT, 2L, "패브릭 소파", 30),
+                entry(AutocompleteIndex.Type.CATEGORY, 3L, "소파", 30),
+                entry(AutocompleteIndex.Type.SELLER, 4L, "가구나라", 5)));
+
+        assertThat(texts(index.suggest("소", 10))).containsExactly("소파", "패브릭 소파", "3인용 가죽 소파");
+        assertThat(texts(index.suggest("  가죽   소 ", 10))).containsExactly("3인용 가죽 소파");
+        assertThat(texts(index.suggest("가", 1))).containsExactly("3인용 가죽 소파");
+        assertThat(index.suggest("없는", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void 변경과_제거가_재구성_전에도_반영된다() {
+        AutocompleteIndex index = new AutocompleteIndex(500);
+        index.rebuild(List.of(
+                entry(AutocompleteIndex.Type.PRODUCT, 1L, "원목 식탁", 10),
+                entry(AutocompleteIndex.Type.PRODUCT, 2L, "원목 의자", 20)));
+
+        index.upsert(AutocompleteIndex.Type.PRODUCT, 1L, "모던 식탁", null);
+        index.remove(AutocompleteIndex.Type.PRODUCT, 2L);
+        index.upsert(AutocompleteIndex.Type.PRODUCT, 3L, "원목 책상", 5L);
+
+        assertThat(texts(index.suggest("원목", 10))).containsExactly("원목 책상");
+        assertThat(texts(index.suggest("식탁", 10))).containsExactly("모던 식탁");
+    }
+
+    @Test
+    void 변경분_경로에서_전체_비교와_결과가_같다() {
+        assertMatchesBruteForce(new AutocompleteIndex(100_000));
+    }
+
+    @Test
+    void 기본_색인_재생성_경로에서_전체_비교와_결과가_같다() {
+        assertMatchesBruteForce(new AutocompleteIndex(3));
+    }
+
+    // 무작위 추가/변경(가중치 유지 포함)/제거를 반복하며 매 단계 suggest 결과를 전체 비교 결과와 대조
+    private static void assertMatchesBruteForce(AutocompleteIndex index) {
+        Random random = new Random(5);
+        Map<String, AutocompleteIndex.Entry> expected = new HashMap<>();
+        List<AutocompleteIndex.Entry> initial = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            AutocompleteIndex.Entry entry = randomEntry(randomType(random), id, random);
+            initial.add(entry);
+            expected.put(key(entry.getType(), id), entry);
+        }
+        index.rebuild(initial);
+
+        for (int step = 0; step < 400; step++) {
+            AutocompleteIndex.Type type = randomType(random);
+            long id = 1 + random.nextInt(1_200);
+            String key = key(type, id);
+            int action = random.nextInt(3);
+            if (action == 0) {
+                AutocompleteIndex.Entry entry = randomEntry(type, id, random);
+                index.upsert(type, id, entry.getText(), entry.getWeight());
+                expected.put(key, entry);
+            } else if (action == 1) {
+                // 가중치 없이 이름만 변경: 기존 가중치 유지 (없으면 0)
+                String text = randomText(random);
+                index.upsert(type, id, text, null);
+                long weight = expected.containsKey(key) ? expected.get(key).getWeight() : 0L;
+                expected.put(key, new AutocompleteIndex.Entry(type, id, text, weight));
+            } else {
+                index.remove(type, id);
+                expected.remove(key);
+            }
+
+            String prefix = randomPrefix(random);
+            int limit = 1 + random.nextInt(15);
+            assertThat(signatures(index.suggest(prefix, limit)))
+                    .as("prefix=%s, limit=%d, step=%d", prefix, limit, step)
+                    .isEqualTo(bruteForce(expected.values(), prefix, limit));
+        }
+    }
+
+    private static List<String> bruteForce(Iterable<AutocompleteIndex.Entry> entries, String prefix, int limit) {
+        String normalized = normalize(prefix);
+        List<AutocompleteIndex.Entry> matches = new ArrayList<>();
+        for (AutocompleteIndex.Entry entry : entries) {
+            String[] words = normalize(entry.getText()).split(" ");
+            for (int i = 0; i < words.length; i++) {
+                if (String.join(" ", Arrays.copyOfRange(words, i, words.length)).startsWith(normalized)) {
+                    matches.add(entry);
+                    break;
+                }
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingLong(AutocompleteIndex.Entry::getWeight).reversed()
+                        .thenComparingInt(entry -> entry.getText().length())
+                        .thenComparing(AutocompleteIndex.Entry::getText)
+                        .thenComparing(AutocompleteIndex.Entry::getType)
+                        .thenComparing(AutocompleteIndex.Entry::getId))
+                .limit(limit)
+                .map(entry -> entry.getType().name() + ":" + entry.getId() + ":" + entry.getText())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> signatures(List<AutocompleteSuggestionDTO> suggestions) {
+        return suggestions.stream()
+                .map(s -> s.getType() + ":" + s.getId() + ":" + s.getText())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> texts(List<AutocompleteSuggestionDTO> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestionDTO::getText).collect(Collectors.toList());
+    }
+
+    // 이름의 한 단어부터 시작하는 1~2단어 접두어 (대소문자/공백 변형 포함)
+    private static String randomPrefix(Random random) {
+        String first = WORDS[random.nextInt(WORDS.length)];
+        String prefix = random.nextInt(4) == 0
+                ? first + "  " + WORDS[random.nextInt(WORDS.length)].substring(0, 1)
+                : first.substring(0, 1 + random.nextInt(first.length()));
+        return random.nextBoolean() ? prefix.toUpperCase(Locale.ROOT) : prefix;
+    }
+
+    private static AutocompleteIndex.Entry randomEntry(AutocompleteIndex.Type type, long id, Random random) {
+        // 가중치 범위를 좁혀 동률(짧은 이름 → 가나다 → 유형 → ID 순)이 자주 생기게 함
+        return new AutocompleteIndex.Entry(type, id, randomText(random), random.nextInt(5));
+    }
+
+    private static String randomText(Random random) {
+        int words = 1 + random.nextInt(4);
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            parts.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return String.join(" ", parts);
+    }
+
+    private static AutocompleteIndex.Type randomType(Random random) {
+        return AutocompleteIndex.Type.values()[random.nextInt(AutocompleteIndex.Type.values().length)];
+    }
+
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(AutocompleteIndex.Type type, long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static AutocompleteIndex.Entry entry(AutocompleteIndex.Type type, Long id, String text, long weight) {
+        return new AutocompleteIndex.Entry(type, id, text, weight);
+    }
+}
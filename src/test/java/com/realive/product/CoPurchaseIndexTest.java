@@ -0,0 +1,69 @@
+package com.realive.product;
+
+import com.realive.repository.product.recommend.CoPurchaseIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 함께 구매한 상품 색인 조회 검증
+ * - 상품별 구간(offsets) 경계와 limit 상한(Integer.MAX_VALUE 포함) 처리 확인
+ */
+class CoPurchaseIndexTest {
+
+    @Test
+    void 상품별_연관_상품을_점수_순서대로_돌려준다() {
+        CoPurchaseIndex index = index();
+
+        assertThat(index.related(1L, 10)).containsExactly(2L, 3L, 4L);
+        assertThat(index.related(2L, 10)).containsExactly(1L, 3L);
+        assertThat(index.related(7L, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void 제한_개수만큼만_돌려준다() {
+        CoPurchaseIndex index = index();
+
+        assertThat(index.related(1L, 2)).containsExactly(2L, 3L);
+        assertThat(index.related(2L, 1)).containsExactly(1L);
+    }
+
+    @Test
+    void 최대_제한값으로_조회해도_해당_상품_구간만_돌려준다() {
+        CoPurchaseIndex index = index();
+
+        assertThat(index.related(1L, Integer.MAX_VALUE)).containsExactly(2L, 3L, 4L);
+        assertThat(index.related(2L, Integer.MAX_VALUE)).containsExactly(1L, 3L);
+        assertThat(index.related(7L, Integer.MAX_VALUE)).containsExactly(1L);
+    }
+
+    @Test
+    void 없는_상품이나_잘못된_제한값은_빈_결과다() {
+        CoPurchaseIndex index = index();
+
+        assertThat(index.related(5L, 10)).isEmpty();
+        assertThat(index.related(null, 10)).isEmpty();
+        assertThat(index.related(1L, 0)).isEmpty();
+        assertThat(new CoPurchaseIndex().related(1L, Integer.MAX_VALUE)).isEmpty();
+        assertThat(new CoPurchaseIndex().isEmpty()).isTrue();
+    }
+
+    @Test
+    void 상품_ID_역순으로_추가하면_거부한다() {
+        CoPurchaseIndex.Builder builder = new CoPurchaseIndex.Builder().add(2L, 1L, 3);
+
+        assertThatThrownBy(() -> builder.add(1L, 2L, 3)).isInstanceOf(IllegalStateException.class);
+    }
+
+    // 상품 1: 2, 3, 4 / 상품 2: 1, 3 / 상품 7: 1
+    private static CoPurchaseIndex index() {
+        CoPurchaseIndex index = new CoPurchaseIndex();
+        index.replace(new CoPurchaseIndex.Builder()
+                .add(1L, 2L, 9).add(1L, 3L, 5).add(1L, 4L, 2)
+                .add(2L, 1L, 9).add(2L, 3L, 4)
+                .add(7L, 1L, 3)
+                .build());
+        return index;
+    }
+}
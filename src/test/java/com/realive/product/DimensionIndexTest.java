@@ -0,0 +1,144 @@
+package com.realive.product;
+
+import com.realive.repository.product.search.DimensionIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가구 크기 색인 검증
+ * - 추가/변경/제거 후에도 fitsWithin/nearest 결과가 전체 비교(거리, ID 순)와 같은지 확인
+ * - compact-threshold를 크게 두면 변경분(delta)과 무시 목록(stale) 경로를, 작게 두면 트리 재구성(compact) 경로를 탐
+ */
+class DimensionIndexTest {
+
+    private static final Set<Long> CATEGORY_FILTER = Set.of(1L, 3L);
+
+    @Test
+    void 추가한_상품은_트리_재구성_전에도_검색된다() {
+        DimensionIndex index = new DimensionIndex(500);
+        index.rebuild(List.of(entry(1L, 1L, 100, 50, 80), entry(2L, 1L, 150, 60, 90)));
+
+        index.upsert(entry(3L, 1L, 120, 55, 85));
+
+        assertThat(index.fitsWithin(130, 60, 90, null, 10)).containsExactly(3L, 1L);
+        assertThat(index.nearest(120, 55, 85, null, 1)).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 변경한_상품은_이전_치수로_검색되지_않는다() {
+        DimensionIndex index = new DimensionIndex(500);
+        index.rebuild(List.of(entry(1L, 1L, 100, 50, 80), entry(2L, 1L, 150, 60, 90)));
+
+        index.upsert(entry(1L, 1L, 200, 90, 100));
+
+        assertThat(index.fitsWithin(160, 70, 95, null, 10)).containsExactly(2L);
+        assertThat(index.nearest(200, 90, 100, null, 1)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 제거한_상품은_검색되지_않는다() {
+        DimensionIndex index = new DimensionIndex(500);
+        index.rebuild(List.of(entry(1L, 1L, 100, 50, 80), entry(2L, 1L, 150, 60, 90)));
+        index.upsert(entry(3L, 1L, 120, 55, 85));
+
+        index.remove(2L);
+        index.remove(3L);
+
+        assertThat(index.fitsWithin(300, 300, 300, null, 10)).containsExactly(1L);
+        assertThat(index.nearest(150, 60, 90, null, 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 변경분_경로에서_전체_비교와_결과가_같다() {
+        assertMatchesBruteForce(new DimensionIndex(100_000));
+    }
+
+    @Test
+    void 트리_재구성_경로에서_전체_비교와_결과가_같다() {
+        assertMatchesBruteForce(new DimensionIndex(3));
+    }
+
+    // 무작위 추가/변경/제거를 반복하며 매 단계 두 검색 결과를 전체 비교 결과와 대조
+    private static void assertMatchesBruteForce(DimensionIndex index) {
+        Random random = new Random(7);
+        Map<Long, DimensionIndex.Entry> expected = new HashMap<>();
+        List<DimensionIndex.Entry> initial = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            DimensionIndex.Entry entry = randomEntry(id, random);
+            initial.add(entry);
+            expected.put(id, entry);
+        }
+        index.rebuild(initial);
+
+        for (int step = 0; step < 300; step++) {
+            long productId = 1 + random.nextInt(2_500);
+            if (random.nextBoolean()) {
+                DimensionIndex.Entry entry = randomEntry(productId, random);
+                index.upsert(entry);
+                expected.put(productId, entry);
+            } else {
+                index.remove(productId);
+                expected.remove(productId);
+            }
+
+            int width = 20 + random.nextInt(70);
+            int depth = 20 + random.nextInt(70);
+            int height = 20 + random.nextInt(70);
+            int limit = 1 + random.nextInt(30);
+            Set<Long> categoryIds = random.nextBoolean() ? CATEGORY_FILTER : null;
+
+            assertThat(index.fitsWithin(width, depth, height, categoryIds, limit))
+                    .isEqualTo(bruteForce(expected.values(), width, depth, height, categoryIds, limit, true));
+            assertThat(index.nearest(width, depth, height, categoryIds, limit))
+                    .isEqualTo(bruteForce(expected.values(), width, depth, height, categoryIds, limit, false));
+        }
+        assertThat(index.size()).isEqualTo(expected.size());
+    }
+
+    private static List<Long> bruteForce(Iterable<DimensionIndex.Entry> entries, int width, int depth, int height,
+                                         Set<Long> categoryIds, int limit, boolean fitsOnly) {
+        List<DimensionIndex.Entry> candidates = new ArrayList<>();
+        for (DimensionIndex.Entry entry : entries) {
+            if (categoryIds != null && !categoryIds.contains(entry.getCategoryId())) {
+                continue;
+            }
+            if (fitsOnly && !(entry.getWidth() <= width && entry.getDepth() <= depth && entry.getHeight() <= height)) {
+                continue;
+            }
+            candidates.add(entry);
+        }
+        return candidates.stream()
+                .sorted(Comparator.<DimensionIndex.Entry>comparingLong(entry -> {
+                            long dw = entry.getWidth() - width;
+                            long dd = entry.getDepth() - depth;
+                            long dh = entry.getHeight() - height;
+                            return dw * dw + dd * dd + dh * dh;
+                        })
+                        .thenComparing(DimensionIndex.Entry::getProductId))
+                .limit(limit)
+                .map(DimensionIndex.Entry::getProductId)
+                .collect(Collectors.toList());
+    }
+
+    private static DimensionIndex.Entry randomEntry(long productId, Random random) {
+        return entry(productId, 1L + random.nextInt(5),
+                20 + random.nextInt(60), 20 + random.nextInt(60), 20 + random.nextInt(60));
+    }
+
+    private static DimensionIndex.Entry entry(Long productId, Long categoryId, int width, int depth, int height) {
+        return new DimensionIndex.Entry(productId, categoryId, width, depth, height);
+    }
+}
@@ -0,0 +1,222 @@
+package com.realive.product;
+
+import com.realive.config.ProductRepositoryTestConfig;
+import com.realive.domain.seller.Seller;
+import com.realive.repository.product.CategoryHierarchyCache;
+import com.realive.repository.product.search.DimensionIndex;
+import com.realive.repository.seller.SellerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가구 크기 검색 벤치마크
+ * - 치수가 있는 상품을 임베디드 DB(H2)에 대량 적재한 뒤, 같은 조건을 SQL 범위 조회(정렬 포함)와 DimensionIndex로 각각 실행
+ * - 모드(fit/nearest)별 지연시간(평균/p50/p99)을 출력하고, 두 방식의 결과(순서 포함)가 같은지 함께 검증
+ * - 기본 test 태스크에서는 제외되며 ./gradlew dimensionBenchmark 로 실행
+ *   (예: ./gradlew dimensionBenchmark -Dbench.products=200000 -Dbench.queries=500)
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dimbench;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "logging.level.com.realive=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductRepositoryTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DimensionSearchBenchmark {
+
+    private static final int ROOT_CATEGORIES = 5;
+    private static final int CHILD_CATEGORIES = 4;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private CategoryHierarchyCache categoryHierarchyCache;
+
+    @Test
+    void fitsWithinAndNearest() {
+        int productCount = Integer.getInteger("bench.products", 100_000);
+        int queryCount = Integer.getInteger("bench.queries", 300);
+        int limit = Integer.getInteger("bench.limit", 20);
+        Random random = new Random(42);
+
+        List<Long> rootIds = createCategories();
+        categoryHierarchyCache.invalidate();
+        List<DimensionIndex.Entry> entries = createProducts(productCount, random);
+
+        long buildStartedAt = System.nanoTime();
+        DimensionIndex index = new DimensionIndex(500);
+        index.rebuild(entries);
+        long buildNanos = System.nanoTime() - buildStartedAt;
+
+        for (String mode : List.of("fit", "nearest")) {
+            long[] sqlLatencies = new long[queryCount];
+            long[] indexLatencies = new long[queryCount];
+            for (int i = 0; i < queryCount; i++) {
+                int width = 30 + random.nextInt(250);
+                int depth = 30 + random.nextInt(150);
+                int height = 30 + random.nextInt(200);
+                // 절반은 상위 카테고리(하위 포함) 필터
+                Set<Long> categoryIds = random.nextBoolean()
+                        ? categoryHierarchyCache.getSelfAndDescendantIds(rootIds.get(random.nextInt(rootIds.size())))
+                        : null;
+                boolean fit = mode.equals("fit");
+
+                long begin = System.nanoTime();
+                List<Long> expected = querySql(width, depth, height, categoryIds, limit, fit);
+                sqlLatencies[i] = System.nanoTime() - begin;
+
+                begin = System.nanoTime();
+                List<Long> actual = fit
+                        ? index.fitsWithin(width, depth, height, categoryIds, limit)
+                        : index.nearest(width, depth, height, categoryIds, limit);
+                indexLatencies[i] = System.nanoTime() - begin;
+
+                assertThat(actual).isEqualTo(expected);
+            }
+
+            Arrays.sort(sqlLatencies);
+            Arrays.sort(indexLatencies);
+            log.warn("\n===== 가구 크기 검색 벤치마크 ({}) =====\n"
+                            + "상품 수: {} (색인 {}건, 구성 {}ms), 질의 수: {}, limit: {}\n"
+                            + "SQL  : 평균 {}ms, p50 {}ms, p99 {}ms\n"
+                            + "색인 : 평균 {}ms, p50 {}ms, p99 {}ms\n"
+                            + "==============================",
+                    mode, productCount, index.size(), toMillis(buildNanos), queryCount, limit,
+                    toMillis(average(sqlLatencies)), toMillis(percentile(sqlLatencies, 0.50)),
+                    toMillis(percentile(sqlLatencies, 0.99)),
+                    toMillis(average(indexLatencies)), toMillis(percentile(indexLatencies, 0.50)),
+                    toMillis(percentile(indexLatencies, 0.99)));
+        }
+    }
+
+    // 기존 방식: 치수 범위 조건 + 거리 정렬을 DB에서 수행 (nearest는 범위 조건 없이 전체 정렬)
+    private List<Long> querySql(int width, int depth, int height, Set<Long> categoryIds, int limit, boolean fit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id FROM products WHERE is_active = TRUE " +
+                        "AND width IS NOT NULL AND depth IS NOT NULL AND height IS NOT NULL");
+        List<Object> params = new ArrayList<>();
+        if (fit) {
+            sql.append(" AND width <= ? AND depth <= ? AND height <= ?");
+            params.add(width);
+            params.add(depth);
+            params.add(height);
+        }
+        if (categoryIds != null) {
+            sql.append(" AND category_id IN (")
+                    .append(categoryIds.stream().map(String::valueOf).collect(Collectors.joining(", ")))
+                    .append(")");
+        }
+        sql.append(" ORDER BY (width - ?) * (width - ?) + (depth - ?) * (depth - ?) + (height - ?) * (height - ?), id")
+                .append(" LIMIT ?");
+        params.add(width);
+        params.add(width);
+        params.add(depth);
+        params.add(depth);
+        params.add(height);
+        params.add(height);
+        params.add(limit);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+
+    // 상위 카테고리 ROOT_CATEGORIES개, 각각 하위 CHILD_CATEGORIES개
+    private List<Long> createCategories() {
+        List<Long> rootIds = new ArrayList<>();
+        for (int i = 0; i < ROOT_CATEGORIES; i++) {
+            jdbcTemplate.update("INSERT INTO categories (name) VALUES (?)", "bench-root-" + i);
+            Long rootId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM categories WHERE name = ?", Long.class, "bench-root-" + i);
+            rootIds.add(rootId);
+            for (int j = 0; j < CHILD_CATEGORIES; j++) {
+                jdbcTemplate.update("INSERT INTO categories (name, parent_id) VALUES (?, ?)",
+                        "bench-child-" + i + "-" + j, rootId);
+            }
+        }
+        return rootIds;
+    }
+
+    // 상품 적재 (10%는 치수 없음, 10%는 판매 중지) 후 색인 대상 항목 반환
+    private List<DimensionIndex.Entry> createProducts(int count, Random random) {
+        Seller seller = sellerRepository.save(Seller.builder()
+                .name("bench-seller")
+                .email("seller@bench.local")
+                .password("password")
+                .isApproved(true)
+                .isActive(true)
+                .build());
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Long.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            boolean hasDimensions = random.nextInt(10) != 0;
+            boolean active = random.nextInt(10) != 0;
+            batch.add(new Object[]{
+                    "bench-product-" + i, "benchmark", 10_000 + random.nextInt(1_000_000), 1,
+                    hasDimensions ? 20 + random.nextInt(280) : null,
+                    hasDimensions ? 20 + random.nextInt(180) : null,
+                    hasDimensions ? 20 + random.nextInt(230) : null,
+                    "상", active, seller.getId(), categoryIds.get(random.nextInt(categoryIds.size())), now, now});
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO products (name, description, price, stock, width, depth, height, status, " +
+                                "is_active, seller_id, category_id, created_at, updated_at) " +
+                                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        // ProductSearchIndexer와 같은 기준: 판매중이고 세 치수가 모두 있는 상품
+        return jdbcTemplate.query(
+                "SELECT id, category_id, width, depth, height FROM products " +
+                        "WHERE is_active = TRUE AND width IS NOT NULL AND depth IS NOT NULL AND height IS NOT NULL",
+                (rs, rowNum) -> new DimensionIndex.Entry(rs.getLong("id"), rs.getObject("category_id", Long.class),
+                        rs.getInt("width"), rs.getInt("depth"), rs.getInt("height")));
+    }
+
+    private static long average(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return values.length == 0 ? 0 : sum / values.length;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000d);
+    }
+}
@@ -0,0 +1,135 @@
+package com.realive.product;
+
+import com.realive.config.H2DataJpaTest;
+import com.realive.config.ProductRepositoryTestConfig;
+import com.realive.config.TestDataFixture;
+import com.realive.domain.common.enums.ProductStatus;
+import com.realive.domain.product.ProductEntityListener;
+import com.realive.dto.product.ProductRequestDTO;
+import com.realive.dto.product.ProductResponseDTO;
+import com.realive.repository.product.ProductRepository;
+import com.realive.repository.product.recommend.CoPurchaseIndex;
+import com.realive.repository.product.search.DimensionIndex;
+import com.realive.service.common.FileUploadService;
+import com.realive.service.customer.ProductViewService;
+import com.realive.service.customer.ProductViewServiceImpl;
+import com.realive.service.product.ProductService;
+import com.realive.service.seller.SellerService;
+import com.realive.serviceimpl.product.ProductDetailCache;
+import com.realive.serviceimpl.product.ProductServiceImpl;
+import com.realive.serviceimpl.product.ProductViewCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 캐시 무효화 통합 검증 (H2)
+ * - 판매자 수정(ProductServiceImpl)과 다른 서비스의 엔티티 변경 모두
+ *   ProductEntityListener → ProductChangedEvent → 커밋 이후 무효화를 거쳐 구매자 상세(ProductViewServiceImpl)에 반영되는지 확인
+ */
+@H2DataJpaTest
+@Import({ProductRepositoryTestConfig.class, ProductServiceImpl.class, ProductViewServiceImpl.class,
+        ProductDetailCache.class, ProductViewCounter.class, ProductEntityListener.class, FileUploadService.class,
+        CoPurchaseIndex.class, DimensionIndex.class})
+class ProductDetailCacheIntegrationTest {
+
+    // 상품 서비스가 주입받지만 상품 수정 경로에서는 사용하지 않음
+    @MockitoBean
+    private SellerService sellerService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductViewService productViewService;
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestDataFixture testDataFixture;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 판매자_수정_이후_구매자_상세는_새_데이터를_반환한다() {
+        Fixture fixture = createProduct(100_000);
+        assertThat(productViewService.getProductDetail(fixture.productId).getPrice()).isEqualTo(100_000);
+        long hits = productDetailCache.getStats().getCustomerViewHits();
+        assertThat(productViewService.getProductDetail(fixture.productId).getPrice()).isEqualTo(100_000);
+        assertThat(productDetailCache.getStats().getCustomerViewHits()).isEqualTo(hits + 1);
+
+        productService.updateProduct(fixture.productId, updateRequest("수정된 식탁", 90_000, 3), fixture.sellerId);
+
+        ProductResponseDTO detail = productViewService.getProductDetail(fixture.productId);
+        assertThat(detail.getPrice()).isEqualTo(90_000);
+        assertThat(detail.getName()).isEqualTo("수정된 식탁");
+        assertThat(detail.getStock()).isEqualTo(3);
+    }
+
+    @Test
+    void 다른_서비스의_엔티티_변경도_커밋_이후_구매자_상세에_반영된다() {
+        Fixture fixture = createProduct(100_000);
+        assertThat(productViewService.getProductDetail(fixture.productId).getStock()).isEqualTo(5);
+
+        // 주문/관리자 매입 등에서 엔티티만 변경하는 경로 (명시적 이벤트 발행 없음)
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.findById(fixture.productId).orElseThrow().setStock(2));
+
+        assertThat(productViewService.getProductDetail(fixture.productId).getStock()).isEqualTo(2);
+    }
+
+    @Test
+    void 롤백된_변경은_캐시를_비우지_않는다() {
+        Fixture fixture = createProduct(100_000);
+        productViewService.getProductDetail(fixture.productId);
+        long invalidations = productDetailCache.getStats().getInvalidations();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.findById(fixture.productId).orElseThrow().setStock(2);
+            productRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(productDetailCache.getStats().getInvalidations()).isEqualTo(invalidations);
+        assertThat(productViewService.getProductDetail(fixture.productId).getStock()).isEqualTo(5);
+    }
+
+    private static ProductRequestDTO updateRequest(String name, int price, int stock) {
+        ProductRequestDTO request = new ProductRequestDTO();
+        request.setName(name);
+        request.setDescription("test");
+        request.setPrice(price);
+        request.setStock(stock);
+        request.setStatus(ProductStatus.상);
+        return request;
+    }
+
+    // 판매자 1명, 카테고리 1개, 상품 1개 (대표 이미지, 재고 5)
+    private Fixture createProduct(int price) {
+        Long sellerId = testDataFixture.createSeller("cache");
+        Long categoryId = testDataFixture.createCategory("cache");
+        Long productId = testDataFixture.createProduct(
+                "cache-product-" + testDataFixture.nextSequence(), price, 5, sellerId, categoryId);
+        testDataFixture.addImage(productId, "/uploads/product/" + productId + "/original.jpg", true, "IMAGE", null);
+        return new Fixture(productId, sellerId);
+    }
+
+    private static class Fixture {
+        private final Long productId;
+        private final Long sellerId;
+
+        private Fixture(Long productId, Long sellerId) {
+            this.productId = productId;
+            this.sellerId = sellerId;
+        }
+    }
+}
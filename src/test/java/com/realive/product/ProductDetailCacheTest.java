@@ -0,0 +1,127 @@
+package com.realive.product;
+
+import com.realive.dto.product.ProductResponseDTO;
+import com.realive.event.ProductChangedEvent;
+import com.realive.serviceimpl.product.ProductDetailCache;
+import com.realive.util.BoundedTtlCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 캐시가 상품 수정 이후 옛 데이터를 반환하지 않는지 검증
+ * - DB는 AtomicReference로 대신하며, "수정 커밋 → 커밋 이후 이벤트 처리" 순서를 그대로 재현
+ */
+class ProductDetailCacheTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Test
+    void 수정_이후에는_새_데이터를_반환한다() {
+        ProductDetailCache cache = new ProductDetailCache(100, 300);
+        AtomicReference<ProductResponseDTO> db = new AtomicReference<>(detail(100_000));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.getCustomerView(PRODUCT_ID, id -> load(db, loads)).getPrice()).isEqualTo(100_000);
+        assertThat(cache.getCustomerView(PRODUCT_ID, id -> load(db, loads)).getPrice()).isEqualTo(100_000);
+        assertThat(loads.get()).isEqualTo(1);
+
+        // 상품 수정 커밋 후 이벤트 처리
+        db.set(detail(90_000));
+        cache.onProductChanged(new ProductChangedEvent(PRODUCT_ID));
+
+        assertThat(cache.getCustomerView(PRODUCT_ID, id -> load(db, loads)).getPrice()).isEqualTo(90_000);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getStats().getCustomerViewHits()).isEqualTo(1);
+        assertThat(cache.getStats().getCustomerViewMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void 수정_전에_시작된_조회_결과는_캐시에_남지_않는다() throws Exception {
+        ProductDetailCache cache = new ProductDetailCache(100, 300);
+        AtomicReference<ProductResponseDTO> db = new AtomicReference<>(detail(100_000));
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch updateCommitted = new CountDownLatch(1);
+
+        // 수정 전 데이터를 읽은 뒤, 수정 커밋/무효화가 끝날 때까지 캐시 저장을 지연시키는 느린 조회
+        CompletableFuture<ProductResponseDTO> slowRead = CompletableFuture.supplyAsync(() ->
+                cache.getCustomerView(PRODUCT_ID, id -> {
+                    ProductResponseDTO stale = db.get();
+                    readStarted.countDown();
+                    await(updateCommitted);
+                    return stale;
+                }));
+
+        assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        db.set(detail(90_000));
+        cache.onProductChanged(new ProductChangedEvent(PRODUCT_ID));
+        updateCommitted.countDown();
+
+        // 느린 조회 자신은 조회 시점의 값을 받지만, 그 값이 캐시에 저장되어서는 안 됨
+        assertThat(slowRead.get(5, TimeUnit.SECONDS).getPrice()).isEqualTo(100_000);
+        assertThat(cache.getCustomerView(PRODUCT_ID, id -> db.get()).getPrice()).isEqualTo(90_000);
+    }
+
+    @Test
+    void 판매자_상세와_구매자_상세가_함께_무효화된다() {
+        ProductDetailCache cache = new ProductDetailCache(100, 300);
+        AtomicReference<ProductResponseDTO> db = new AtomicReference<>(detail(100_000));
+
+        cache.getCustomerView(PRODUCT_ID, id -> db.get());
+        cache.getSellerView(PRODUCT_ID, id -> new ProductDetailCache.SellerView(7L, db.get()));
+
+        db.set(detail(90_000));
+        cache.onProductChanged(new ProductChangedEvent(PRODUCT_ID));
+
+        assertThat(cache.getCustomerView(PRODUCT_ID, id -> db.get()).getPrice()).isEqualTo(90_000);
+        assertThat(cache.getSellerView(PRODUCT_ID, id -> new ProductDetailCache.SellerView(7L, db.get()))
+                .getDetail().getPrice()).isEqualTo(90_000);
+    }
+
+    @Test
+    void 크기와_TTL_제한을_지킨다() {
+        AtomicLong now = new AtomicLong(0L);
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(2, 1_000L, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> "a" + loads.incrementAndGet());
+        cache.get(2L, id -> "b" + loads.incrementAndGet());
+        cache.get(1L, id -> "a" + loads.incrementAndGet());   // 1번을 최근 사용으로 갱신
+        cache.get(3L, id -> "c" + loads.incrementAndGet());   // 가장 오래 사용되지 않은 2번 제거
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get(1L, id -> "reloaded")).isEqualTo("a1");
+
+        now.set(1_000L);
+        assertThat(cache.get(1L, id -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    private static ProductResponseDTO load(AtomicReference<ProductResponseDTO> db, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return db.get();
+    }
+
+    private static ProductResponseDTO detail(int price) {
+        return ProductResponseDTO.builder()
+                .id(PRODUCT_ID)
+                .name("원목 식탁")
+                .price(price)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.realive.product;
+
+import com.realive.dto.page.FacetCountDTO;
+import com.realive.dto.page.PageRequestDTO;
+import com.realive.repository.product.search.ProductFacetIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 패싯 값을 상품 목록 조회 필터로 그대로 사용할 수 있는지 검증
+ * - 가격대 값("최소-최대")이 priceBand 필터로 해석되고, 판매자/가격 필터가 패싯 집계에도 반영됨
+ */
+class ProductFacetFilterTest {
+
+    @Test
+    void 가격대_패싯_값을_가격_필터로_해석한다() {
+        ProductFacetIndex index = index();
+        Map<String, List<FacetCountDTO>> facets = index.count(null, null, null, null, null);
+
+        for (FacetCountDTO band : facets.get(ProductFacetIndex.PRICE_BAND)) {
+            PageRequestDTO request = new PageRequestDTO();
+            request.setPriceBand(band.getValue());
+
+            Map<String, List<FacetCountDTO>> filtered = index.count(null, null, null,
+                    request.resolveMinPrice(), request.resolveMaxPrice());
+
+            assertThat(filtered.get(ProductFacetIndex.PRICE_BAND))
+                    .extracting(FacetCountDTO::getValue, FacetCountDTO::getCount)
+                    .containsExactly(tuple(band.getValue(), band.getCount()));
+        }
+    }
+
+    @Test
+    void 판매자_패싯_값으로_거르면_해당_판매자_상품만_집계한다() {
+        ProductFacetIndex index = index();
+        FacetCountDTO seller = index.count(null, null, null, null, null).get(ProductFacetIndex.SELLER).get(0);
+
+        Map<String, List<FacetCountDTO>> filtered = index.count(null, null, Long.valueOf(seller.getValue()), null, null);
+
+        assertThat(filtered.get(ProductFacetIndex.SELLER))
+                .extracting(FacetCountDTO::getValue, FacetCountDTO::getCount)
+                .containsExactly(tuple(seller.getValue(), seller.getCount()));
+        assertThat(index.count(null, null, 999L, null, null).get(ProductFacetIndex.SELLER)).isEmpty();
+    }
+
+    @Test
+    void 명시한_최소_최대_가격이_가격대보다_우선한다() {
+        PageRequestDTO request = new PageRequestDTO();
+        request.setPriceBand("100000-299999");
+        request.setMaxPrice(150_000);
+
+        assertThat(request.resolveMinPrice()).isEqualTo(100_000);
+        assertThat(request.resolveMaxPrice()).isEqualTo(150_000);
+
+        request.setPriceBand("1000000-");
+        request.setMaxPrice(null);
+        assertThat(request.resolveMinPrice()).isEqualTo(1_000_000);
+        assertThat(request.resolveMaxPrice()).isNull();
+    }
+
+    @Test
+    void 잘못된_가격대_형식은_거부한다() {
+        PageRequestDTO request = new PageRequestDTO();
+        request.setPriceBand("cheap");
+
+        assertThatThrownBy(request::resolveMinPrice).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 판매자 2명, 가격대 경계 100,000 / 300,000
+    private static ProductFacetIndex index() {
+        ProductFacetIndex index = new ProductFacetIndex(new int[]{100_000, 300_000}, 20);
+        index.rebuild(List.of(
+                new ProductFacetIndex.Entry(1L, 10L, "소파", 1L, "가구나라", 50_000),
+                new ProductFacetIndex.Entry(2L, 10L, "소파", 1L, "가구나라", 99_999),
+                new ProductFacetIndex.Entry(3L, 10L, "소파", 2L, "리빙샵", 100_000),
+                new ProductFacetIndex.Entry(4L, 20L, "식탁", 2L, "리빙샵", 250_000),
+                new ProductFacetIndex.Entry(5L, 20L, "식탁", 2L, "리빙샵", 300_000),
+                new ProductFacetIndex.Entry(6L, 20L, "식탁", 1L, "가구나라", 1_200_000)));
+        return index;
+    }
+}
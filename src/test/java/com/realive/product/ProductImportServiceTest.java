@@ -0,0 +1,135 @@
+package com.realive.product;
+
+import com.realive.config.H2DataJpaTest;
+import com.realive.config.ProductRepositoryTestConfig;
+import com.realive.config.TestDataFixture;
+import com.realive.dto.product.ProductImportResultDTO;
+import com.realive.repository.product.search.AutocompleteIndex;
+import com.realive.repository.product.search.DimensionIndex;
+import com.realive.service.product.ProductImportService;
+import com.realive.serviceimpl.product.ProductImportServiceImpl;
+import com.realive.serviceimpl.product.ProductSearchIndexer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 상품 CSV 대량 등록 검증 (H2)
+ * - 행별 오류가 CSV 줄 번호(여러 줄 필드 포함)로 보고되는지
+ * - 배치 INSERT가 DB 오류로 실패하면 해당 배치만 행 단위로 다시 저장해 실패한 행만 보고하는지
+ * - 10,000행을 몇 초 안에 등록하는지
+ */
+@H2DataJpaTest
+@Import({ProductRepositoryTestConfig.class, ProductImportServiceImpl.class, ProductSearchIndexer.class,
+        AutocompleteIndex.class, DimensionIndex.class})
+class ProductImportServiceTest {
+
+    private static final String HEADER = "name,description,price,stock,categoryId,deliveryType,deliveryCost\r\n";
+    // DB에서만 거절되는 가격 (행 검증은 통과하고 INSERT에서 실패)
+    private static final int REJECTED_PRICE = 77_777;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private TestDataFixture testDataFixture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropRejectConstraint() {
+        jdbcTemplate.execute("ALTER TABLE products DROP CONSTRAINT IF EXISTS ck_import_rejected_price");
+    }
+
+    @Test
+    void 행별_오류를_CSV_줄_번호로_보고한다() {
+        Long sellerId = testDataFixture.createSeller("import");
+        Long categoryId = testDataFixture.createCategory("import");
+        String csv = "\uFEFF" + HEADER
+                + "식탁,\"원목, 4인용\"," + "120000,3," + categoryId + ",유료배송,3000\r\n"   // 2행
+                + "의자,설명,abc,1,,,\r\n"                                                    // 3행: 가격 형식
+                + "소파,\"첫 줄\r\n둘째 줄 \"\"인용\"\"\",300000,2,,,\r\n"                      // 4~5행
+                + "침대,설명,0,1,,,\r\n"                                                      // 6행: 최소 가격
+                + "\r\n"                                                                      // 빈 행은 건너뜀
+                + "책상,설명,50000,1,999999,,\r\n";                                           // 8행: 없는 카테고리
+
+        ProductImportResultDTO result = importCsv(csv, sellerId);
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(ProductImportResultDTO.RowError::getLine, ProductImportResultDTO.RowError::getMessage)
+                .containsExactly(
+                        tuple(3L, "price: 정수여야 합니다. (abc)"),
+                        tuple(6L, "price: 1 이상이어야 합니다."),
+                        tuple(8L, "categoryId: 존재하지 않는 카테고리입니다. (999999)"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM products WHERE seller_id = ? AND name = ?", String.class, sellerId, "소파"))
+                .isEqualTo("첫 줄\r\n둘째 줄 \"인용\"");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM delivery_policy dp JOIN products p ON p.id = dp.product_id WHERE p.seller_id = ?",
+                Long.class, sellerId)).isEqualTo(1L);
+    }
+
+    @Test
+    void 배치_저장이_실패하면_행_단위로_다시_저장해_실패한_행만_보고한다() {
+        Long sellerId = testDataFixture.createSeller("import");
+        jdbcTemplate.execute("ALTER TABLE products ADD CONSTRAINT ck_import_rejected_price CHECK (price <> "
+                + REJECTED_PRICE + ")");
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 10; i++) {
+            int price = i == 4 ? REJECTED_PRICE : 10_000 + i;
+            csv.append("상품").append(i).append(",설명,").append(price).append(",1,,무료배송,\r\n");
+        }
+
+        ProductImportResultDTO result = importCsv(csv.toString(), sellerId);
+
+        assertThat(result.getImportedCount()).isEqualTo(9);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(ProductImportResultDTO.RowError::getLine)
+                .containsExactly(6L);
+        assertThat(countProducts(sellerId)).isEqualTo(9L);
+        // 실패한 배치의 배송 정책도 롤백된 뒤 성공한 행만 다시 저장됨
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM delivery_policy dp JOIN products p ON p.id = dp.product_id WHERE p.seller_id = ?",
+                Long.class, sellerId)).isEqualTo(9L);
+    }
+
+    @Test
+    void 만_행을_몇_초_안에_등록한다() {
+        Long sellerId = testDataFixture.createSeller("import");
+        Long categoryId = testDataFixture.createCategory("import");
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("대량 상품 ").append(i).append(",\"설명, ").append(i).append("\",")
+                    .append(10_000 + i).append(",5,").append(categoryId).append(",유료배송,3000\r\n");
+        }
+
+        ProductImportResultDTO result = importCsv(csv.toString(), sellerId);
+
+        assertThat(result.getImportedCount()).isEqualTo(10_000);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(countProducts(sellerId)).isEqualTo(10_000L);
+        // 목표는 수 초 이내 (CI 편차를 감안해 여유 있게 확인)
+        assertThat(result.getElapsedMillis()).isLessThan(10_000L);
+    }
+
+    private ProductImportResultDTO importCsv(String csv, Long sellerId) {
+        return productImportService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), sellerId);
+    }
+
+    private Long countProducts(Long sellerId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE seller_id = ?", Long.class, sellerId);
+    }
+}
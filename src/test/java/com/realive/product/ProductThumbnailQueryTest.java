@@ -0,0 +1,92 @@
+package com.realive.product;
+
+import com.realive.config.H2DataJpaTest;
+import com.realive.config.ProductRepositoryTestConfig;
+import com.realive.config.TestDataFixture;
+import com.realive.dto.page.PageRequestDTO;
+import com.realive.dto.page.PageResponseDTO;
+import com.realive.dto.product.ProductListDTO;
+import com.realive.dto.product.ProductResponseDTO;
+import com.realive.repository.customer.productview.ProductListRepository;
+import com.realive.repository.customer.productview.ProductListRepositoryImpl;
+import com.realive.repository.customer.productview.ProductViewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세/검색/찜 목록의 썸네일이 공용 썸네일 캐시(ProductThumbnailResolver)를 거치는지 검증
+ * - 대표 이미지와 대표 동영상이 함께 있는 상품도 한 행으로 조회되고, 목록용 축소 이미지가 원본 대신 사용됨
+ */
+@H2DataJpaTest
+@Import({ProductListRepositoryImpl.class, ProductRepositoryTestConfig.class})
+class ProductThumbnailQueryTest {
+
+    @Autowired
+    private ProductViewRepository productViewRepository;
+
+    @Autowired
+    private ProductListRepository productListRepository;
+
+    @Autowired
+    private TestDataFixture testDataFixture;
+
+    @Test
+    void 상세_조회는_대표_이미지의_목록용_축소_이미지를_사용한다() {
+        Fixture fixture = createProductWithImageAndVideo();
+
+        ProductResponseDTO detail = productViewRepository.findProductDetailById(fixture.productId).orElseThrow();
+
+        assertThat(detail.getImageThumbnailUrl()).isEqualTo(fixture.listUrl);
+    }
+
+    @Test
+    void 찜_목록은_상품당_한_행이고_목록용_축소_이미지를_사용한다() {
+        Fixture fixture = createProductWithImageAndVideo();
+
+        List<ProductListDTO> wishlist = productListRepository.getWishlistedProducts(List.of(fixture.productId));
+
+        assertThat(wishlist).hasSize(1);
+        assertThat(wishlist.get(0).getImageThumbnailUrl()).isEqualTo(fixture.listUrl);
+    }
+
+    @Test
+    void 검색_목록은_상품당_한_행이고_목록용_축소_이미지를_사용한다() {
+        Fixture fixture = createProductWithImageAndVideo();
+        PageRequestDTO request = new PageRequestDTO();
+
+        PageResponseDTO<ProductListDTO> page = productViewRepository.search(request, fixture.categoryId);
+
+        assertThat(page.getDtoList()).hasSize(1);
+        assertThat(page.getDtoList().get(0).getImageThumbnailUrl()).isEqualTo(fixture.listUrl);
+    }
+
+    // 카테고리 1개, 상품 1개 (대표 이미지 + 대표 동영상)
+    private Fixture createProductWithImageAndVideo() {
+        Long sellerId = testDataFixture.createSeller("thumb");
+        Long categoryId = testDataFixture.createCategory("thumb");
+        Long productId = testDataFixture.createProduct(
+                "thumb-product-" + testDataFixture.nextSequence(), 10_000, 5, sellerId, categoryId);
+
+        String listUrl = "/uploads/product/" + productId + "/list.jpg";
+        testDataFixture.addImage(productId, "/uploads/product/" + productId + "/original.jpg", true, "IMAGE", listUrl);
+        testDataFixture.addImage(productId, "/uploads/product/" + productId + "/video.mp4", true, "VIDEO", null);
+        return new Fixture(productId, categoryId, listUrl);
+    }
+
+    private static class Fixture {
+        private final Long productId;
+        private final Long categoryId;
+        private final String listUrl;
+
+        private Fixture(Long productId, Long categoryId, String listUrl) {
+            this.productId = productId;
+            this.categoryId = categoryId;
+            this.listUrl = listUrl;
+        }
+    }
+}
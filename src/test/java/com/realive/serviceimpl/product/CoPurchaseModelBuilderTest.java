@@ -0,0 +1,140 @@
+package com.realive.serviceimpl.product;
+
+import com.realive.repository.product.recommend.CoPurchaseIndex;
+import com.realive.util.LongIntHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 함께 구매한 상품 모델의 상품별 상위 K개 선택 검증
+ * - 쌍 집계 결과로 만든 스냅샷이 전체 비교(점수 내림차순, 같으면 상품 ID 오름차순, 최소 지지도 적용)와 같은지 확인
+ */
+class CoPurchaseModelBuilderTest {
+
+    @Test
+    void 점수가_같으면_집계_순서와_무관하게_작은_상품_ID가_남는다() {
+        CoPurchaseModelBuilder builder = builder(2, 1);
+        // 상품 순번 0(ID 10)과 함께 구매한 상품 순번 1~3(ID 40, 20, 30)이 모두 3회
+        List<Long> productIds = List.of(10L, 40L, 20L, 30L);
+        LongIntHashMap pairCounts = new LongIntHashMap(16);
+        pairCounts.put(pair(0, 1), 3);
+        pairCounts.put(pair(0, 2), 3);
+        pairCounts.put(pair(0, 3), 3);
+
+        CoPurchaseIndex index = index(builder.topKSnapshot(productIds, pairCounts));
+
+        assertThat(index.related(10L, Integer.MAX_VALUE)).containsExactly(20L, 30L);
+        assertThat(index.related(20L, Integer.MAX_VALUE)).containsExactly(10L);
+        assertThat(index.related(40L, Integer.MAX_VALUE)).containsExactly(10L);
+    }
+
+    @Test
+    void 최소_지지도_미만인_쌍은_제외한다() {
+        CoPurchaseModelBuilder builder = builder(5, 2);
+        List<Long> productIds = List.of(1L, 2L, 3L);
+        LongIntHashMap pairCounts = new LongIntHashMap(16);
+        pairCounts.put(pair(0, 1), 2);
+        pairCounts.put(pair(0, 2), 1);
+
+        CoPurchaseIndex index = index(builder.topKSnapshot(productIds, pairCounts));
+
+        assertThat(index.related(1L, Integer.MAX_VALUE)).containsExactly(2L);
+        assertThat(index.related(2L, Integer.MAX_VALUE)).containsExactly(1L);
+        assertThat(index.related(3L, Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void 무작위_주문에서_전체_비교와_결과가_같다() {
+        int topK = 5;
+        int minSupport = 2;
+        Random random = new Random(3);
+
+        // 상품 ID는 순번과 다른 순서가 되도록 섞음
+        List<Long> productIds = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            productIds.add(id * 7);
+        }
+        Collections.shuffle(productIds, random);
+
+        LongIntHashMap pairCounts = new LongIntHashMap(1 << 10);
+        Map<Long, Map<Long, Integer>> expectedCounts = new HashMap<>();
+        for (int order = 0; order < 3_000; order++) {
+            int itemCount = 2 + random.nextInt(4);
+            List<Integer> items = new ArrayList<>();
+            while (items.size() < itemCount) {
+                // 앞쪽 상품이 자주 팔리도록 치우침 (점수 동률과 K 초과가 모두 생기게)
+                int ordinal = Math.min(random.nextInt(200), random.nextInt(200));
+                if (!items.contains(ordinal)) {
+                    items.add(ordinal);
+                }
+            }
+            for (int i = 0; i < items.size(); i++) {
+                for (int j = i + 1; j < items.size(); j++) {
+                    int a = Math.min(items.get(i), items.get(j));
+                    int b = Math.max(items.get(i), items.get(j));
+                    pairCounts.addTo(pair(a, b), 1);
+                    long idA = productIds.get(a);
+                    long idB = productIds.get(b);
+                    expectedCounts.computeIfAbsent(idA, key -> new HashMap<>()).merge(idB, 1, Integer::sum);
+                    expectedCounts.computeIfAbsent(idB, key -> new HashMap<>()).merge(idA, 1, Integer::sum);
+                }
+            }
+        }
+
+        CoPurchaseIndex.Snapshot snapshot = builder(topK, minSupport).topKSnapshot(productIds, pairCounts);
+
+        Map<Long, List<Long>> actual = new LinkedHashMap<>();
+        snapshot.forEach((productId, relatedProductId, score) ->
+                actual.computeIfAbsent(productId, key -> new ArrayList<>()).add(relatedProductId));
+        Map<Long, List<Long>> expected = new LinkedHashMap<>();
+        expectedCounts.keySet().stream().sorted().forEach(productId -> {
+            List<Long> related = bruteForce(expectedCounts.get(productId), topK, minSupport);
+            if (!related.isEmpty()) {
+                expected.put(productId, related);
+            }
+        });
+
+        assertThat(actual).containsExactlyEntriesOf(expected);
+        CoPurchaseIndex index = index(snapshot);
+        expected.forEach((productId, related) -> {
+            assertThat(index.related(productId, Integer.MAX_VALUE)).containsExactlyElementsOf(related);
+            assertThat(index.related(productId, 2)).containsExactlyElementsOf(related.subList(0, Math.min(2, related.size())));
+        });
+    }
+
+    private static List<Long> bruteForce(Map<Long, Integer> counts, int topK, int minSupport) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minSupport)
+                .sorted(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(topK)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    // 주문 데이터 조회 없이 상위 K개 선택만 검증하므로 JDBC/스케줄러 의존성은 비워 둠
+    private static CoPurchaseModelBuilder builder(int topK, int minSupport) {
+        return new CoPurchaseModelBuilder(null, null, new CoPurchaseIndex(), null, topK, minSupport, 50, 365);
+    }
+
+    private static CoPurchaseIndex index(CoPurchaseIndex.Snapshot snapshot) {
+        CoPurchaseIndex index = new CoPurchaseIndex();
+        index.replace(snapshot);
+        return index;
+    }
+
+    private static long pair(int a, int b) {
+        return ((long) a << 32) | b;
+    }
+}
@@ -0,0 +1,89 @@
+package com.realive.upload;
+
+import com.realive.controller.public_api.UploadFileController;
+import com.realive.service.common.FileUploadService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 파일 공개 경로 제한 검증
+ * - 상품/리뷰 이미지, 상품 blob만 제공하고 판매자 서류(사업자등록증, 통장사본)는 파일이 있어도 404
+ */
+class UploadFileControllerTest {
+
+    private final FileUploadService fileUploadService = new FileUploadService(Set.of("product"), 1, 1);
+    private final UploadFileController controller = new UploadFileController(
+            fileUploadService, 31_536_000L, List.of("blobs/", "product/", "review/"));
+
+    private final String sellerDir = "test-" + UUID.randomUUID();
+    private final List<Path> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        create("/uploads/product/" + sellerDir + "/chair.jpg");
+        create("/uploads/review/" + sellerDir + "/review.jpg");
+        create("/uploads/사업자등록증/" + sellerDir + "/license.pdf");
+        create("/uploads/통장사본/" + sellerDir + "/bankbook.jpg");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Path path : created) {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(path.getParent());
+        }
+        fileUploadService.shutdown();
+    }
+
+    @Test
+    void 상품_리뷰_이미지는_제공한다() throws Exception {
+        assertThat(serve("/uploads/product/" + sellerDir + "/chair.jpg").getStatus()).isEqualTo(200);
+        assertThat(serve("/uploads/review/" + sellerDir + "/review.jpg").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void 판매자_서류는_제공하지_않는다() throws Exception {
+        MockHttpServletResponse license = serve("/uploads/사업자등록증/" + sellerDir + "/license.pdf");
+        MockHttpServletResponse bankbook = serve("/uploads/통장사본/" + sellerDir + "/bankbook.jpg");
+
+        assertThat(license.getStatus()).isEqualTo(404);
+        assertThat(license.getContentAsByteArray()).isEmpty();
+        assertThat(license.getHeader("Cache-Control")).isNull();
+        assertThat(bankbook.getStatus()).isEqualTo(404);
+        assertThat(bankbook.getHeader("Cache-Control")).isNull();
+    }
+
+    @Test
+    void 공개_경로를_거쳐_상위_디렉토리로_우회할_수_없다() throws Exception {
+        MockHttpServletResponse response = serve("/uploads/product/../통장사본/" + sellerDir + "/bankbook.jpg");
+
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse serve(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(request, response);
+        return response;
+    }
+
+    private void create(String url) throws Exception {
+        Path path = fileUploadService.toLocalPath(url);
+        Files.createDirectories(path.getParent());
+        Files.write(path, url.getBytes(StandardCharsets.UTF_8));
+        created.add(path);
+    }
+}
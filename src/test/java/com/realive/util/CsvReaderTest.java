@@ -0,0 +1,88 @@
+package com.realive.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트리밍 CSV 리더 검증 (RFC 4180)
+ * - 큰따옴표 안의 쉼표/줄바꿈, "" 이스케이프, CRLF, BOM, 행 시작 줄 번호 확인
+ */
+class CsvReaderTest {
+
+    @Test
+    void 큰따옴표_안의_쉼표와_줄바꿈은_필드에_포함된다() throws IOException {
+        CsvReader reader = reader("name,description\n식탁,\"원목, 4인용\"\n소파,\"첫 줄\n둘째 줄\"\n");
+
+        assertThat(reader.next()).containsExactly("name", "description");
+        assertThat(reader.next()).containsExactly("식탁", "원목, 4인용");
+        assertThat(reader.next()).containsExactly("소파", "첫 줄\n둘째 줄");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 연속_큰따옴표는_큰따옴표_하나로_읽는다() throws IOException {
+        CsvReader reader = reader("\"3인용 \"\"모던\"\" 소파\",\"\"\"\"\n");
+
+        assertThat(reader.next()).containsExactly("3인용 \"모던\" 소파", "\"");
+    }
+
+    @Test
+    void CRLF와_LF를_모두_줄_구분으로_허용한다() throws IOException {
+        CsvReader reader = reader("a,b\r\nc,d\ne,f\r\n");
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).containsExactly("c", "d");
+        assertThat(reader.next()).containsExactly("e", "f");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 첫_행_앞의_BOM은_무시한다() throws IOException {
+        CsvReader reader = reader("\uFEFFname,price\r\n식탁,1000\r\n");
+
+        assertThat(reader.next()).containsExactly("name", "price");
+        assertThat(reader.next()).containsExactly("식탁", "1000");
+    }
+
+    @Test
+    void 빈_필드와_마지막_줄바꿈_없는_행을_읽는다() throws IOException {
+        CsvReader reader = reader("a,,\n,b,\"\"\nlast,row");
+
+        assertThat(reader.next()).containsExactly("a", "", "");
+        assertThat(reader.next()).containsExactly("", "b", "");
+        assertThat(reader.next()).containsExactly("last", "row");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 행이_시작된_줄_번호를_돌려준다() throws IOException {
+        CsvReader reader = reader("\uFEFFh1,h2\r\n\"여러\r\n줄\r\n필드\",x\r\nnext,row\r\n");
+        List<Long> lines = new ArrayList<>();
+        while (reader.next() != null) {
+            lines.add(reader.getRecordLine());
+        }
+
+        assertThat(lines).containsExactly(1L, 2L, 5L);
+    }
+
+    @Test
+    void 닫히지_않은_큰따옴표는_거부한다() throws IOException {
+        CsvReader reader = reader("a,b\n\"열린 필드,c\n");
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2행");
+    }
+
+    private static CsvReader reader(String csv) {
+        return new CsvReader(new StringReader(csv));
+    }
+}
@@ -0,0 +1,70 @@
+package com.realive.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * long → int 해시맵 검증
+ * - 재할당(resize)을 여러 번 거쳐도 HashMap과 같은 결과인지 확인
+ */
+class LongIntHashMapTest {
+
+    @Test
+    void 없는_키는_기본값을_돌려준다() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThat(map.get(42L, -1)).isEqualTo(-1);
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void 더하기는_0에서_시작해_누적된다() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThat(map.addTo(0L, 1)).isEqualTo(1);
+        assertThat(map.addTo(0L, 2)).isEqualTo(3);
+        map.put(7L, 10);
+        assertThat(map.addTo(7L, -4)).isEqualTo(6);
+
+        assertThat(map.get(0L, -1)).isEqualTo(3);
+        assertThat(map.get(7L, -1)).isEqualTo(6);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 음수_키는_거부한다() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThatThrownBy(() -> map.put(-1L, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 재할당_후에도_HashMap과_결과가_같다() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 50_000; i++) {
+            // 쌍 키처럼 상위 32비트에 값이 몰린 키도 섞음
+            long key = random.nextBoolean()
+                    ? random.nextInt(20_000)
+                    : ((long) random.nextInt(300) << 32) | random.nextInt(300);
+            int delta = 1 + random.nextInt(3);
+            map.addTo(key, delta);
+            expected.merge(key, delta, Integer::sum);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key, -1)).isEqualTo(value));
+
+        Map<Long, Integer> visited = new HashMap<>();
+        map.forEach((key, value) -> assertThat(visited.put(key, value)).isNull());
+        assertThat(visited).isEqualTo(expected);
+    }
+}